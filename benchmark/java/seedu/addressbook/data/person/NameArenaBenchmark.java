@@ -0,0 +1,137 @@
+package seedu.addressbook.data.person;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import seedu.addressbook.common.ParallelScan;
+import seedu.addressbook.common.Utils;
+import seedu.addressbook.data.exception.IllegalValueException;
+import seedu.addressbook.data.tag.Tag;
+
+/**
+ * Compares substring find over the packed names of a {@link NameArena} with the loop {@code FindCommand} used
+ * before, which tests the name of every person with {@link Utils#containsIgnoreCase}.
+ *
+ * Each search is run sequentially and in parallel, and the word-at-a-time kernel is also compared with the
+ * byte-at-a-time kernel over the whole arena.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class NameArenaBenchmark {
+
+    private static final Set<String> KEYWORDS = Collections.singleton("XYZ");
+
+    @Param({"10000", "1000000"})
+    private int size;
+
+    private List<ReadOnlyPerson> persons;
+    private NameArena arena;
+    private byte[] needle;
+    /** Length of the packed names, without the padding at the end of the arena. */
+    private int arenaLength;
+    private ParallelScan sequentialScan;
+    private ParallelScan parallelScan;
+
+    @Setup
+    public void setUp() throws IllegalValueException {
+        persons = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            persons.add(new Person(new Name("Person " + toLetters(i) + " " + toLetters(size - i)),
+                    new Phone(Integer.toString(10_000_000 + i), false),
+                    new Email("person" + i + "@example.com", false),
+                    new Address("Street " + i, false),
+                    Collections.<Tag>emptySet()));
+        }
+        arena = new NameArena(persons);
+        needle = NameArena.fold(KEYWORDS.iterator().next());
+        for (ReadOnlyPerson person : persons) {
+            arenaLength += person.getName().fullName.length() + 1;
+        }
+        sequentialScan = new ParallelScan(ForkJoinPool.commonPool(), Integer.MAX_VALUE);
+        parallelScan = new ParallelScan();
+    }
+
+    @Benchmark
+    public List<ReadOnlyPerson> findCommandLoop_sequential() {
+        return sequentialScan.filter(persons, this::hasNameContainingAnyKeyword);
+    }
+
+    @Benchmark
+    public List<ReadOnlyPerson> findCommandLoop_parallel() {
+        return parallelScan.filter(persons, this::hasNameContainingAnyKeyword);
+    }
+
+    @Benchmark
+    public List<ReadOnlyPerson> nameArena_sequential() {
+        return arena.findPersonsContainingAny(KEYWORDS, sequentialScan);
+    }
+
+    @Benchmark
+    public List<ReadOnlyPerson> nameArena_parallel() {
+        return arena.findPersonsContainingAny(KEYWORDS, parallelScan);
+    }
+
+    @Benchmark
+    public int countMatches_wordAtATime() {
+        return countMatches(false);
+    }
+
+    @Benchmark
+    public int countMatches_byteAtATime() {
+        return countMatches(true);
+    }
+
+    private boolean hasNameContainingAnyKeyword(ReadOnlyPerson person) {
+        for (String keyword : KEYWORDS) {
+            if (Utils.containsIgnoreCase(person.getName().fullName, keyword)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Counts the occurrences of the keyword in the whole arena with one of the two kernels.
+     */
+    private int countMatches(boolean isByteAtATime) {
+        int count = 0;
+        int offset = -1;
+        do {
+            final int from = offset + 1;
+            offset = isByteAtATime ? arena.indexOfScalar(needle, from, arenaLength)
+                    : arena.indexOf(needle, from, arenaLength);
+            if (offset >= 0) {
+                count++;
+            }
+        } while (offset >= 0);
+        return count;
+    }
+
+    private static String toLetters(int number) {
+        StringBuilder letters = new StringBuilder();
+        for (int remaining = number; remaining > 0 || letters.length() == 0; remaining /= 26) {
+            letters.append((char) ('a' + remaining % 26));
+        }
+        return letters.toString();
+    }
+}
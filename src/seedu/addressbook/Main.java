@@ -1,6 +1,9 @@
 package seedu.addressbook;
 
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Optional;
 
@@ -8,11 +11,16 @@ import seedu.addressbook.commands.Command;
 import seedu.addressbook.commands.CommandResult;
 import seedu.addressbook.commands.ExitCommand;
 import seedu.addressbook.data.AddressBook;
+import seedu.addressbook.data.ConcurrentAddressBook;
+import seedu.addressbook.data.exception.IllegalValueException;
 import seedu.addressbook.data.person.ReadOnlyPerson;
 import seedu.addressbook.parser.Parser;
+import seedu.addressbook.storage.DurabilityPolicy;
+import seedu.addressbook.storage.JournaledStorageFile;
 import seedu.addressbook.storage.StorageFile;
 import seedu.addressbook.storage.StorageFile.InvalidStorageFilePathException;
 import seedu.addressbook.storage.StorageFile.StorageOperationException;
+import seedu.addressbook.storage.WriteBehindSaver;
 import seedu.addressbook.ui.TextUi;
 
 
@@ -25,9 +33,20 @@ public class Main {
     /** Version info of the program. */
     public static final String VERSION = "AddressBook Level 2 - Version 1.0";
 
+    /** Launch argument that selects storage with a journal of changes, see {@link JournaledStorageFile}. */
+    public static final String JOURNAL_LAUNCH_FLAG = "--journal";
+    /** Launch argument that selects saving in the background, see {@link WriteBehindSaver}. */
+    public static final String WRITE_BEHIND_LAUNCH_FLAG = "--write-behind";
+    /** Prefix of the launch argument that sets the durability policy of the storage, see {@link DurabilityPolicy}. */
+    public static final String DURABILITY_LAUNCH_FLAG_PREFIX = "--durability=";
+
     private TextUi ui;
     private StorageFile storage;
+    /** Saves {@link #addressBook} in the background, if selected at launch. */
+    private WriteBehindSaver writeBehindSaver;
     private AddressBook addressBook;
+    /** Version of {@link #addressBook} that was last loaded from or saved to {@link #storage}. */
+    private long savedVersion;
 
     /** The list of person shown to the user most recently.  */
     private List<? extends ReadOnlyPerson> lastShownList = Collections.emptyList();
@@ -53,11 +72,21 @@ public class Main {
     private void start(String[] launchArgs) {
         try {
             this.ui = new TextUi();
-            this.storage = initializeStorage(launchArgs);
+            final List<String> args = new ArrayList<>(Arrays.asList(launchArgs));
+            final boolean isWriteBehind = args.remove(WRITE_BEHIND_LAUNCH_FLAG);
+            this.storage = initializeStorage(args);
             this.addressBook = storage.load();
+            if (isWriteBehind) {
+                // the data is saved while commands change it, which a concurrent address book allows.
+                // It copies the loaded persons into a persistent list, so the columnar store that they were
+                // loaded into only saves memory when this flag is not given.
+                this.addressBook = new ConcurrentAddressBook(addressBook.getAllPersons());
+                this.writeBehindSaver = new WriteBehindSaver(storage, addressBook);
+            }
+            this.savedVersion = addressBook.getVersion();
             ui.showWelcomeMessage(VERSION, storage.getPath());
 
-        } catch (InvalidStorageFilePathException | StorageOperationException e) {
+        } catch (IllegalValueException | StorageOperationException e) {
             ui.showInitFailedMessage();
             /*
              * ==============NOTE TO STUDENTS=========================================================================
@@ -74,6 +103,13 @@ public class Main {
 
     /** Prints the Goodbye message and exits. */
     private void exit() {
+        if (writeBehindSaver != null) {
+            try {
+                writeBehindSaver.close();
+            } catch (StorageOperationException soe) {
+                ui.showToUser(soe.getMessage());
+            }
+        }
         ui.showGoodbyeMessage();
         System.exit(0);
     }
@@ -109,7 +145,7 @@ public class Main {
         try {
             command.setData(addressBook, lastShownList);
             CommandResult result = command.execute();
-            storage.save(addressBook);
+            saveIfChanged(command);
             return result;
         } catch (Exception e) {
             ui.showToUser(e.getMessage());
@@ -117,14 +153,45 @@ public class Main {
         }
     }
 
+    /**
+     * Saves the address book if {@code command} may have changed it and it did change since it was last saved,
+     * so that commands which only read the data, and changes that failed, do not touch the storage.
+     */
+    private void saveIfChanged(Command command) throws StorageOperationException {
+        if (!command.isMutating() || addressBook.getVersion() == savedVersion) {
+            return;
+        }
+        // taken before saving, so that a change made while saving is saved next time
+        final long version = addressBook.getVersion();
+        if (writeBehindSaver != null) {
+            writeBehindSaver.changed();
+        } else {
+            storage.save(addressBook);
+        }
+        savedVersion = version;
+    }
+
     /**
      * Creates the StorageFile object based on the user specified path (if any) or the default storage path.
-     * @param launchArgs arguments supplied by the user at program launch
+     * The storage is journaled if {@link #JOURNAL_LAUNCH_FLAG} is among the launch arguments, and its durability
+     * policy is set by an argument starting with {@link #DURABILITY_LAUNCH_FLAG_PREFIX}.
+     * @param args arguments supplied by the user at program launch, except those already handled
      * @throws InvalidStorageFilePathException if the target file path is incorrect.
+     * @throws IllegalValueException if the durability policy is invalid.
      */
-    private StorageFile initializeStorage(String[] launchArgs) throws InvalidStorageFilePathException {
-        boolean isStorageFileSpecifiedByUser = launchArgs.length > 0;
-        return isStorageFileSpecifiedByUser ? new StorageFile(launchArgs[0]) : new StorageFile();
+    private StorageFile initializeStorage(List<String> args) throws IllegalValueException {
+        boolean isJournaled = args.remove(JOURNAL_LAUNCH_FLAG);
+        DurabilityPolicy durability = DurabilityPolicy.EVERY_OPERATION;
+        for (Iterator<String> iterator = args.iterator(); iterator.hasNext();) {
+            final String arg = iterator.next();
+            if (arg.startsWith(DURABILITY_LAUNCH_FLAG_PREFIX)) {
+                durability = DurabilityPolicy.parse(arg.substring(DURABILITY_LAUNCH_FLAG_PREFIX.length()));
+                iterator.remove();
+            }
+        }
+        boolean isStorageFileSpecifiedByUser = !args.isEmpty();
+        String filePath = isStorageFileSpecifiedByUser ? args.get(0) : StorageFile.DEFAULT_STORAGE_FILEPATH;
+        return isJournaled ? new JournaledStorageFile(filePath, durability) : new StorageFile(filePath, durability);
     }
 
 
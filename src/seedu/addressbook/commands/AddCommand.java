@@ -43,7 +43,7 @@ public class AddCommand extends Command {
                       Set<String> tags) throws IllegalValueException {
         final Set<Tag> tagSet = new HashSet<>();
         for (String tagName : tags) {
-            tagSet.add(new Tag(tagName));
+            tagSet.add(Tag.of(tagName));
         }
         this.toAdd = new Person(
                 new Name(name),
@@ -62,6 +62,11 @@ public class AddCommand extends Command {
         return toAdd;
     }
 
+    @Override
+    public boolean isMutating() {
+        return true;
+    }
+
     @Override
     public CommandResult execute() {
         try {
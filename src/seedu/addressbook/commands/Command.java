@@ -6,6 +6,7 @@ import java.util.List;
 
 import seedu.addressbook.common.Messages;
 import seedu.addressbook.data.AddressBook;
+import seedu.addressbook.data.AddressBookSnapshot;
 import seedu.addressbook.data.person.ReadOnlyPerson;
 
 /**
@@ -13,6 +14,8 @@ import seedu.addressbook.data.person.ReadOnlyPerson;
  */
 public class Command {
     protected AddressBook addressBook;
+    /** Taken on first use, see {@link #getAddressBookSnapshot()}. */
+    private AddressBookSnapshot addressBookSnapshot;
     protected List<? extends ReadOnlyPerson> relevantPersons;
     private int targetIndex = -1;
 
@@ -43,14 +46,36 @@ public class Command {
         throw new UnsupportedOperationException("This method is to be implemented by child classes");
     };
 
+    /**
+     * Returns true if the command may change the data it operates on, so that the data must be saved after it is
+     * executed. Commands that only read the data need not override this.
+     */
+    public boolean isMutating() {
+        return false;
+    }
+
     /**
      * Supplies the data the command will operate on.
      */
     public void setData(AddressBook addressBook, List<? extends ReadOnlyPerson> relevantPersons) {
         this.addressBook = addressBook;
+        this.addressBookSnapshot = null;
         this.relevantPersons = relevantPersons;
     }
 
+    /**
+     * Returns the version of the address book that the command reads, so that all its reads see the same data even
+     * if the address book is changed concurrently. The version is pinned on the first call rather than when the
+     * data is supplied, since a snapshot makes the next change to a non-persistent person list copy the list,
+     * and commands that only change the address book need not pay for that.
+     */
+    protected AddressBookSnapshot getAddressBookSnapshot() {
+        if (addressBookSnapshot == null) {
+            addressBookSnapshot = addressBook.getSnapshot();
+        }
+        return addressBookSnapshot;
+    }
+
     /**
      * Extracts the the target person in the last shown list from the given arguments.
      *
@@ -0,0 +1,47 @@
+package seedu.addressbook.commands;
+
+import java.util.List;
+
+import seedu.addressbook.data.person.ReadOnlyPerson;
+
+/**
+ * Finds and lists all persons in address book whose email address has a given local part, is at a given domain
+ * (including its subdomains), or both. Private email addresses are never matched.
+ */
+public class EmailCommand extends Command {
+
+    public static final String COMMAND_WORD = "email";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Finds all persons whose email addresses have the "
+            + "specified name before the '@', are at the specified domain or one of its subdomains (ignoring case), "
+            + "or both, and displays them as a list with index numbers. Private email addresses are not searched.\n"
+            + "Parameters: [LOCAL_PART]@[DOMAIN]\n"
+            + "Example: " + COMMAND_WORD + " @nus.edu.sg\n"
+            + "Example: " + COMMAND_WORD + " alice@";
+
+    private final String localPart;
+    private final String domain;
+
+    /**
+     * @param localPart the part of the email address before the '@', or an empty string to match any
+     * @param domain the domain of the email address, or an empty string to match any
+     */
+    public EmailCommand(String localPart, String domain) {
+        this.localPart = localPart;
+        this.domain = domain;
+    }
+
+    public String getLocalPart() {
+        return localPart;
+    }
+
+    public String getDomain() {
+        return domain;
+    }
+
+    @Override
+    public CommandResult execute() {
+        final List<ReadOnlyPerson> personsFound = getAddressBookSnapshot().findPersonsWithEmail(localPart, domain);
+        return new CommandResult(getMessageForPersonListShownSummary(personsFound), personsFound);
+    }
+}
@@ -0,0 +1,34 @@
+package seedu.addressbook.commands;
+
+import seedu.addressbook.data.query.PersonQuery;
+
+/**
+ * Shows how a {@link QueryCommand} with the same query would be evaluated: which indexes are looked up, in which
+ * order their results are combined, and which conditions are tested on the persons.
+ */
+public class ExplainCommand extends Command {
+
+    public static final String COMMAND_WORD = "explain";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Shows how the " + QueryCommand.COMMAND_WORD
+            + " command would search for the specified conditions.\n"
+            + "Parameters: CONDITION [AND|OR [NOT] CONDITION]...\n"
+            + "Example: " + COMMAND_WORD + " n/john AND NOT t/colleagues OR e/nus.edu.sg";
+
+    public static final String MESSAGE_PLAN = "Plan for %1$s:\n%2$s";
+
+    private final PersonQuery query;
+
+    public ExplainCommand(PersonQuery query) {
+        this.query = query;
+    }
+
+    public PersonQuery getQuery() {
+        return query;
+    }
+
+    @Override
+    public CommandResult execute() {
+        return new CommandResult(String.format(MESSAGE_PLAN, query, getAddressBookSnapshot().explain(query)));
+    }
+}
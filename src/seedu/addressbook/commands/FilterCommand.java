@@ -0,0 +1,37 @@
+package seedu.addressbook.commands;
+
+import java.util.List;
+
+import seedu.addressbook.data.index.TagExpression;
+import seedu.addressbook.data.person.ReadOnlyPerson;
+
+/**
+ * Finds and lists all persons in address book whose tags satisfy a boolean expression over tag names.
+ * Tag matching is case sensitive.
+ */
+public class FilterCommand extends Command {
+
+    public static final String COMMAND_WORD = "filter";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Finds all persons whose tags satisfy the specified "
+            + "combination of tags (case-sensitive) and displays them as a list with index numbers.\n"
+            + "Tags can be combined with NOT, AND and OR, in decreasing order of precedence.\n"
+            + "Parameters: TAG [AND|OR [NOT] TAG]...\n"
+            + "Example: " + COMMAND_WORD + " friends AND NOT colleagues OR family";
+
+    private final TagExpression expression;
+
+    public FilterCommand(TagExpression expression) {
+        this.expression = expression;
+    }
+
+    public TagExpression getExpression() {
+        return expression;
+    }
+
+    @Override
+    public CommandResult execute() {
+        final List<ReadOnlyPerson> personsFound = getAddressBookSnapshot().findPersonsWithTags(expression);
+        return new CommandResult(getMessageForPersonListShownSummary(personsFound), personsFound);
+    }
+}
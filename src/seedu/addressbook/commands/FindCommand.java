@@ -1,16 +1,15 @@
 package seedu.addressbook.commands;
 
-import java.util.ArrayList;
-import java.util.Collections;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
 
+import seedu.addressbook.common.ParallelScan;
 import seedu.addressbook.data.person.ReadOnlyPerson;
 
 /**
  * Finds and lists all persons in address book whose name contains any of the argument keywords.
- * Keyword matching is case sensitive.
+ * By default keyword matching is by whole word and case sensitive; see {@link MatchMode} for the other modes.
  */
 public class FindCommand extends Command {
 
@@ -18,13 +17,57 @@ public class FindCommand extends Command {
 
     public static final String MESSAGE_USAGE = COMMAND_WORD + ": Finds all persons whose names contain any of "
             + "the specified keywords (case-sensitive) and displays them as a list with index numbers.\n"
-            + "Parameters: KEYWORD [MORE_KEYWORDS]...\n"
-            + "Example: " + COMMAND_WORD + " alice bob charlie";
+            + "With " + MatchMode.PREFIX.flag + ", finds names with a word starting with any of the keywords, "
+            + "ignoring case.\n"
+            + "With " + MatchMode.FUZZY.flag + ", finds names with a word similar to any of the keywords, allowing "
+            + "for typos and ignoring case, closest matches first.\n"
+            + "With " + MatchMode.SUBSTRING.flag + ", finds names containing any of the keywords anywhere, "
+            + "ignoring case.\n"
+            + "With " + MatchMode.PHONETIC.flag + ", finds names with a word that sounds like any of the keywords.\n"
+            + "Parameters: [" + MatchMode.PREFIX.flag + "|" + MatchMode.FUZZY.flag + "|" + MatchMode.SUBSTRING.flag
+            + "|" + MatchMode.PHONETIC.flag + "] KEYWORD [MORE_KEYWORDS]...\n"
+            + "Example: " + COMMAND_WORD + " alice bob charlie\n"
+            + "Example: " + COMMAND_WORD + " " + MatchMode.PREFIX.flag + " ali bo";
+
+    /**
+     * How keywords are matched against the words in a name.
+     */
+    public enum MatchMode {
+        /** Keywords must equal a word in the name, including case. */
+        WORD(""),
+        /** Keywords must be a prefix of a word in the name, ignoring case. */
+        PREFIX("p/"),
+        /** Keywords must be within a few edits of a word in the name, ignoring case; closer matches rank higher. */
+        FUZZY("f/"),
+        /**
+         * Keywords may appear anywhere in the name, ignoring case. No index can answer this, so the names are
+         * scanned, in parallel for large address books.
+         */
+        SUBSTRING("s/"),
+        /** Keywords must sound like a word in the name, e.g. "Smyth" matches "Smith"; see {@code PhoneticIndex}. */
+        PHONETIC("ph/");
+
+        /** Written before the keywords to select the mode. */
+        public final String flag;
+
+        MatchMode(String flag) {
+            this.flag = flag;
+        }
+    }
+
+    /** Scans the names for searches that no index can answer. */
+    private static final ParallelScan SCAN = new ParallelScan();
 
     private final Set<String> keywords;
+    private final MatchMode matchMode;
 
     public FindCommand(Set<String> keywords) {
+        this(keywords, MatchMode.WORD);
+    }
+
+    public FindCommand(Set<String> keywords, MatchMode matchMode) {
         this.keywords = keywords;
+        this.matchMode = matchMode;
     }
 
     /**
@@ -34,27 +77,37 @@ public class FindCommand extends Command {
         return new HashSet<>(keywords);
     }
 
+    public MatchMode getMatchMode() {
+        return matchMode;
+    }
+
     @Override
     public CommandResult execute() {
-        final List<ReadOnlyPerson> personsFound = getPersonsWithNameContainingAnyKeyword(keywords);
+        final List<ReadOnlyPerson> personsFound = getPersonsWithNameMatchingAnyKeyword(keywords);
         return new CommandResult(getMessageForPersonListShownSummary(personsFound), personsFound);
     }
 
     /**
-     * Retrieves all persons in the address book whose names contain some of the specified keywords.
+     * Retrieves all persons in the address book whose names match some of the specified keywords.
+     * Looked up in the name indexes at the pinned snapshot instead of scanning every person, except for substring
+     * matches, which are scanned for in the packed names of the snapshot.
      *
      * @param keywords for searching
      * @return list of persons found
      */
-    private List<ReadOnlyPerson> getPersonsWithNameContainingAnyKeyword(Set<String> keywords) {
-        final List<ReadOnlyPerson> matchedPersons = new ArrayList<>();
-        for (ReadOnlyPerson person : addressBook.getAllPersons()) {
-            final Set<String> wordsInName = new HashSet<>(person.getName().getWordsInName());
-            if (!Collections.disjoint(wordsInName, keywords)) {
-                matchedPersons.add(person);
-            }
+    private List<ReadOnlyPerson> getPersonsWithNameMatchingAnyKeyword(Set<String> keywords) {
+        switch (matchMode) {
+        case PREFIX:
+            return getAddressBookSnapshot().findPersonsWithNameWordStartingWithAny(keywords);
+        case FUZZY:
+            return getAddressBookSnapshot().findPersonsWithNameSimilarTo(keywords);
+        case PHONETIC:
+            return getAddressBookSnapshot().findPersonsWithNameSoundingLike(keywords);
+        case SUBSTRING:
+            return getAddressBookSnapshot().getNameArena().findPersonsContainingAny(keywords, SCAN);
+        default:
+            return getAddressBookSnapshot().findPersonsWithNameContainingAnyWord(keywords);
         }
-        return matchedPersons;
     }
 
 }
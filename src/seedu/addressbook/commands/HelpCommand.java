@@ -18,6 +18,11 @@ public class HelpCommand extends Command {
                 + "\n" + DeleteCommand.MESSAGE_USAGE
                 + "\n" + ClearCommand.MESSAGE_USAGE
                 + "\n" + FindCommand.MESSAGE_USAGE
+                + "\n" + FilterCommand.MESSAGE_USAGE
+                + "\n" + QueryCommand.MESSAGE_USAGE
+                + "\n" + ExplainCommand.MESSAGE_USAGE
+                + "\n" + LookupCommand.MESSAGE_USAGE
+                + "\n" + EmailCommand.MESSAGE_USAGE
                 + "\n" + ListCommand.MESSAGE_USAGE
                 + "\n" + ViewCommand.MESSAGE_USAGE
                 + "\n" + ViewAllCommand.MESSAGE_USAGE
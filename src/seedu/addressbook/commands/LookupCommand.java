@@ -0,0 +1,52 @@
+package seedu.addressbook.commands;
+
+import java.util.List;
+
+import seedu.addressbook.data.person.ReadOnlyPerson;
+
+/**
+ * Finds and lists all persons in address book with a given phone number, or with a phone number that starts with
+ * given digits. Private phone numbers are never matched.
+ */
+public class LookupCommand extends Command {
+
+    public static final String COMMAND_WORD = "lookup";
+
+    /** Written after the digits to look up all numbers starting with them. */
+    public static final String PREFIX_WILDCARD = "*";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Finds all persons with the specified phone number, "
+            + "or with a phone number starting with the specified digits if they are followed by "
+            + PREFIX_WILDCARD + ", and displays them as a list with index numbers. Private numbers are not searched.\n"
+            + "Parameters: DIGITS[" + PREFIX_WILDCARD + "]\n"
+            + "Example: " + COMMAND_WORD + " 98765432\n"
+            + "Example: " + COMMAND_WORD + " 9876" + PREFIX_WILDCARD;
+
+    private final String digits;
+    private final boolean isPrefix;
+
+    /**
+     * @param digits the phone number, or the start of the phone numbers, to look up
+     * @param isPrefix whether all numbers starting with {@code digits} are looked up
+     */
+    public LookupCommand(String digits, boolean isPrefix) {
+        this.digits = digits;
+        this.isPrefix = isPrefix;
+    }
+
+    public String getDigits() {
+        return digits;
+    }
+
+    public boolean isPrefix() {
+        return isPrefix;
+    }
+
+    @Override
+    public CommandResult execute() {
+        final List<ReadOnlyPerson> personsFound = isPrefix
+                ? getAddressBookSnapshot().findPersonsWithPhoneStartingWith(digits)
+                : getAddressBookSnapshot().findPersonsWithPhone(digits);
+        return new CommandResult(getMessageForPersonListShownSummary(personsFound), personsFound);
+    }
+}
@@ -0,0 +1,40 @@
+package seedu.addressbook.commands;
+
+import java.util.List;
+
+import seedu.addressbook.data.person.ReadOnlyPerson;
+import seedu.addressbook.data.query.PersonQuery;
+
+/**
+ * Finds and lists all persons in address book for which a boolean query over their fields holds.
+ * Private fields never match. The query is answered from the indexes of the address book where possible, see
+ * {@link ExplainCommand}.
+ */
+public class QueryCommand extends Command {
+
+    public static final String COMMAND_WORD = "query";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Finds all persons whose details satisfy the specified "
+            + "combination of conditions and displays them as a list with index numbers. Private details are not "
+            + "searched.\n"
+            + "Conditions: n/NAME_WORD, p/PHONE_START, e/EMAIL_DOMAIN, a/ADDRESS_TEXT, t/TAG, combined with NOT, AND "
+            + "and OR, in decreasing order of precedence. Only tags are case-sensitive.\n"
+            + "Parameters: CONDITION [AND|OR [NOT] CONDITION]...\n"
+            + "Example: " + COMMAND_WORD + " n/john AND NOT t/colleagues OR e/nus.edu.sg";
+
+    private final PersonQuery query;
+
+    public QueryCommand(PersonQuery query) {
+        this.query = query;
+    }
+
+    public PersonQuery getQuery() {
+        return query;
+    }
+
+    @Override
+    public CommandResult execute() {
+        final List<ReadOnlyPerson> personsFound = getAddressBookSnapshot().findPersons(query);
+        return new CommandResult(getMessageForPersonListShownSummary(personsFound), personsFound);
+    }
+}
@@ -0,0 +1,110 @@
+package seedu.addressbook.common;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+import java.util.function.Predicate;
+
+/**
+ * Selects the items of a list that satisfy a predicate, splitting large lists into chunks that are tested in
+ * parallel on a {@link ForkJoinPool}. The chunks' results are merged in list order, so the result is the same as
+ * that of a sequential scan. Lists no longer than the sequential threshold are scanned on the calling thread.
+ * Data that is not held in a list can be scanned the same way by position, see {@link #scan}.
+ */
+public class ParallelScan {
+
+    /** Default number of items up to which a list, or a chunk of it, is scanned sequentially. */
+    public static final int DEFAULT_SEQUENTIAL_THRESHOLD = 4096;
+
+    private final ForkJoinPool pool;
+    private final int sequentialThreshold;
+
+    /**
+     * Creates a scan that runs on the common pool with the default threshold.
+     */
+    public ParallelScan() {
+        this(ForkJoinPool.commonPool(), DEFAULT_SEQUENTIAL_THRESHOLD);
+    }
+
+    /**
+     * @param sequentialThreshold number of items up to which a list, or a chunk of it, is scanned sequentially
+     */
+    public ParallelScan(ForkJoinPool pool, int sequentialThreshold) {
+        if (sequentialThreshold < 1) {
+            throw new IllegalArgumentException("Sequential threshold must be positive: " + sequentialThreshold);
+        }
+        this.pool = pool;
+        this.sequentialThreshold = sequentialThreshold;
+    }
+
+    /**
+     * Returns the items of {@code items} that satisfy {@code predicate}, in their order in {@code items}.
+     * {@code items} should support fast random access, and must not be modified during the scan.
+     */
+    public <T> List<T> filter(List<? extends T> items, Predicate<? super T> predicate) {
+        return scan(items.size(), (from, to) -> {
+            final List<T> matches = new ArrayList<>();
+            for (T item : items.subList(from, to)) {
+                if (predicate.test(item)) {
+                    matches.add(item);
+                }
+            }
+            return matches;
+        });
+    }
+
+    /**
+     * Runs {@code scanner} over chunks of the range [0, {@code size}) and returns the concatenation of the
+     * results of the chunks, in order. Used for data that is not held in a list, e.g. packed arrays.
+     */
+    public <T> List<T> scan(int size, RangeScanner<T> scanner) {
+        final ScanTask<T> task = new ScanTask<>(scanner, 0, size);
+        if (size <= sequentialThreshold) {
+            return task.compute();
+        }
+        return pool.invoke(task);
+    }
+
+    /**
+     * Scans one chunk of a range.
+     */
+    public interface RangeScanner<T> {
+        /**
+         * Returns the results for the positions in [{@code from}, {@code to}), in order, in a modifiable list.
+         */
+        List<T> scan(int from, int to);
+    }
+
+    /**
+     * Scans the positions in [{@code from}, {@code to}), in halves if there are too many for a sequential scan.
+     */
+    private class ScanTask<T> extends RecursiveTask<List<T>> {
+        private static final long serialVersionUID = 1L;
+
+        private final RangeScanner<T> scanner;
+        private final int from;
+        private final int to;
+
+        ScanTask(RangeScanner<T> scanner, int from, int to) {
+            this.scanner = scanner;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected List<T> compute() {
+            if (to - from <= sequentialThreshold) {
+                return scanner.scan(from, to);
+            }
+            final int middle = (from + to) >>> 1;
+            final ScanTask<T> firstHalf = new ScanTask<>(scanner, from, middle);
+            final ScanTask<T> secondHalf = new ScanTask<>(scanner, middle, to);
+            firstHalf.fork();
+            final List<T> secondMatches = secondHalf.compute();
+            final List<T> matches = firstHalf.join();
+            matches.addAll(secondMatches);
+            return matches;
+        }
+    }
+}
@@ -0,0 +1,220 @@
+package seedu.addressbook.common;
+
+import java.util.ArrayDeque;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * An immutable sorted map in which every update returns a new version of the map.
+ * Versions share all unchanged structure with each other, so keeping many versions alive is cheap,
+ * and a version can be handed to other threads without copying or locking.
+ * Backed by a treap with path copying: lookups, updates and positional access take expected O(log n) time.
+ * Does not allow null values.
+ *
+ * @param <K> type of the keys, ordered by the comparator given at creation
+ * @param <V> type of the values
+ */
+public final class PersistentSortedMap<K, V> implements Iterable<V> {
+
+    private final Comparator<? super K> comparator;
+    private final Node<K, V> root;
+
+    private PersistentSortedMap(Comparator<? super K> comparator, Node<K, V> root) {
+        this.comparator = comparator;
+        this.root = root;
+    }
+
+    /**
+     * Returns an empty map whose keys are ordered by {@code comparator}.
+     */
+    public static <K, V> PersistentSortedMap<K, V> empty(Comparator<? super K> comparator) {
+        return new PersistentSortedMap<>(comparator, null);
+    }
+
+    public int size() {
+        return sizeOf(root);
+    }
+
+    public boolean isEmpty() {
+        return root == null;
+    }
+
+    /**
+     * Returns the value mapped to {@code key}, or null if there is no such mapping.
+     */
+    public V get(K key) {
+        Node<K, V> current = root;
+        while (current != null) {
+            final int comparison = comparator.compare(key, current.key);
+            if (comparison == 0) {
+                return current.value;
+            }
+            current = comparison < 0 ? current.left : current.right;
+        }
+        return null;
+    }
+
+    public boolean containsKey(K key) {
+        return get(key) != null;
+    }
+
+    /**
+     * Returns the value with the given position in key order.
+     *
+     * @throws IndexOutOfBoundsException if {@code index} is not within {@code [0, size())}
+     */
+    public V getByIndex(int index) {
+        if (index < 0 || index >= size()) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size());
+        }
+        Node<K, V> current = root;
+        int remaining = index;
+        while (true) {
+            final int leftSize = sizeOf(current.left);
+            if (remaining == leftSize) {
+                return current.value;
+            }
+            if (remaining < leftSize) {
+                current = current.left;
+            } else {
+                remaining -= leftSize + 1;
+                current = current.right;
+            }
+        }
+    }
+
+    /**
+     * Returns a version of this map in which {@code key} is mapped to {@code value}.
+     * This map is not modified.
+     */
+    public PersistentSortedMap<K, V> put(K key, V value) {
+        final int priority = ThreadLocalRandom.current().nextInt();
+        return new PersistentSortedMap<>(comparator, insert(root, key, value, priority));
+    }
+
+    /**
+     * Returns a version of this map without a mapping for {@code key}.
+     * This map is not modified, and is returned as is if it has no mapping for {@code key}.
+     */
+    public PersistentSortedMap<K, V> remove(K key) {
+        if (!containsKey(key)) {
+            return this;
+        }
+        return new PersistentSortedMap<>(comparator, delete(root, key));
+    }
+
+    /**
+     * Returns an iterator over the values of this version, in key order.
+     */
+    @Override
+    public Iterator<V> iterator() {
+        return new ValueIterator<>(root);
+    }
+
+    private Node<K, V> insert(Node<K, V> node, K key, V value, int priority) {
+        if (node == null) {
+            return new Node<>(key, value, priority, null, null);
+        }
+        final int comparison = comparator.compare(key, node.key);
+        if (comparison == 0) {
+            return new Node<>(key, value, node.priority, node.left, node.right);
+        }
+        if (comparison < 0) {
+            final Node<K, V> left = insert(node.left, key, value, priority);
+            return left.priority > node.priority
+                    ? new Node<>(left.key, left.value, left.priority, left.left,
+                            new Node<>(node.key, node.value, node.priority, left.right, node.right))
+                    : new Node<>(node.key, node.value, node.priority, left, node.right);
+        }
+        final Node<K, V> right = insert(node.right, key, value, priority);
+        return right.priority > node.priority
+                ? new Node<>(right.key, right.value, right.priority,
+                        new Node<>(node.key, node.value, node.priority, node.left, right.left), right.right)
+                : new Node<>(node.key, node.value, node.priority, node.left, right);
+    }
+
+    private Node<K, V> delete(Node<K, V> node, K key) {
+        final int comparison = comparator.compare(key, node.key);
+        if (comparison == 0) {
+            return merge(node.left, node.right);
+        }
+        return comparison < 0
+                ? new Node<>(node.key, node.value, node.priority, delete(node.left, key), node.right)
+                : new Node<>(node.key, node.value, node.priority, node.left, delete(node.right, key));
+    }
+
+    /**
+     * Joins two treaps where every key in {@code lower} is smaller than every key in {@code higher}.
+     */
+    private static <K, V> Node<K, V> merge(Node<K, V> lower, Node<K, V> higher) {
+        if (lower == null) {
+            return higher;
+        }
+        if (higher == null) {
+            return lower;
+        }
+        return lower.priority > higher.priority
+                ? new Node<>(lower.key, lower.value, lower.priority, lower.left, merge(lower.right, higher))
+                : new Node<>(higher.key, higher.value, higher.priority, merge(lower, higher.left), higher.right);
+    }
+
+    private static int sizeOf(Node<?, ?> node) {
+        return node == null ? 0 : node.size;
+    }
+
+    /**
+     * A node of the treap. Nodes are never modified once created, which is what allows versions to share them.
+     */
+    private static final class Node<K, V> {
+        private final K key;
+        private final V value;
+        private final int priority;
+        private final Node<K, V> left;
+        private final Node<K, V> right;
+        private final int size;
+
+        Node(K key, V value, int priority, Node<K, V> left, Node<K, V> right) {
+            this.key = key;
+            this.value = value;
+            this.priority = priority;
+            this.left = left;
+            this.right = right;
+            this.size = sizeOf(left) + sizeOf(right) + 1;
+        }
+    }
+
+    /**
+     * Walks the values of a treap in key order.
+     */
+    private static final class ValueIterator<K, V> implements Iterator<V> {
+        private final Deque<Node<K, V>> pending = new ArrayDeque<>();
+
+        ValueIterator(Node<K, V> root) {
+            pushLeftSpine(root);
+        }
+
+        private void pushLeftSpine(Node<K, V> node) {
+            for (Node<K, V> current = node; current != null; current = current.left) {
+                pending.push(current);
+            }
+        }
+
+        @Override
+        public boolean hasNext() {
+            return !pending.isEmpty();
+        }
+
+        @Override
+        public V next() {
+            if (pending.isEmpty()) {
+                throw new NoSuchElementException();
+            }
+            final Node<K, V> next = pending.pop();
+            pushLeftSpine(next.right);
+            return next.value;
+        }
+    }
+}
@@ -0,0 +1,70 @@
+package seedu.addressbook.common;
+
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * A read/write lock striped over several read/write locks, for data that is read far more often than it is written.
+ *
+ * A reader takes the read lock of a single stripe, chosen by its thread, so readers on different threads mostly
+ * update different locks instead of all contending for the reader count of one lock. A writer takes the write
+ * locks of all stripes, in a fixed order, so it excludes every reader and is serialized with other writers.
+ * Reentrant in the same way as {@link ReentrantReadWriteLock}: a writer may also take the read lock.
+ */
+public class StripedReadWriteLock {
+
+    private final ReentrantReadWriteLock[] stripes;
+    private final int stripeMask;
+
+    /**
+     * Creates a lock with a stripe for every available processor.
+     */
+    public StripedReadWriteLock() {
+        this(Runtime.getRuntime().availableProcessors());
+    }
+
+    /**
+     * @param minStripes the number of stripes, rounded up to a power of two
+     */
+    public StripedReadWriteLock(int minStripes) {
+        if (minStripes < 1) {
+            throw new IllegalArgumentException("Number of stripes must be positive: " + minStripes);
+        }
+        final int stripeCount = Integer.highestOneBit(minStripes - 1) << 1;
+        stripes = new ReentrantReadWriteLock[Math.max(1, stripeCount)];
+        for (int i = 0; i < stripes.length; i++) {
+            stripes[i] = new ReentrantReadWriteLock();
+        }
+        stripeMask = stripes.length - 1;
+    }
+
+    /**
+     * Returns the read lock of the stripe of the calling thread. The lock must be released through the same
+     * object, by the same thread.
+     */
+    public Lock readLock() {
+        return stripes[(int) Thread.currentThread().getId() & stripeMask].readLock();
+    }
+
+    /**
+     * Takes the write locks of all stripes, waiting until no reader or other writer holds any of them.
+     */
+    public void lockForWriting() {
+        for (ReentrantReadWriteLock stripe : stripes) {
+            stripe.writeLock().lock();
+        }
+    }
+
+    /**
+     * Releases the write locks taken by {@link #lockForWriting()}.
+     */
+    public void unlockForWriting() {
+        for (int i = stripes.length - 1; i >= 0; i--) {
+            stripes[i].writeLock().unlock();
+        }
+    }
+
+    public int getStripeCount() {
+        return stripes.length;
+    }
+}
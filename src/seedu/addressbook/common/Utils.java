@@ -37,4 +37,59 @@ public class Utils {
         }
         return true;
     }
+
+    /**
+     * Returns true if {@code text} contains {@code part}, ignoring case. Does not create any strings.
+     */
+    public static boolean containsIgnoreCase(String text, String part) {
+        for (int start = 0; start <= text.length() - part.length(); start++) {
+            if (text.regionMatches(true, start, part, 0, part.length())) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Returns the Levenshtein edit distance between {@code first} and {@code second}, or {@code maxDistance + 1} if
+     * the distance is greater than {@code maxDistance}. Only the cells of the dynamic programming table within
+     * {@code maxDistance} of the diagonal are computed, so the cost is linear in the length of the strings.
+     */
+    public static int boundedEditDistance(String first, String second, int maxDistance) {
+        if (Math.abs(first.length() - second.length()) > maxDistance) {
+            return maxDistance + 1;
+        }
+        final int outOfBounds = maxDistance + 1;
+        int[] previousRow = new int[second.length() + 1];
+        int[] currentRow = new int[second.length() + 1];
+        for (int j = 0; j <= second.length(); j++) {
+            previousRow[j] = j <= maxDistance ? j : outOfBounds;
+        }
+        for (int i = 1; i <= first.length(); i++) {
+            final int from = Math.max(1, i - maxDistance);
+            final int to = Math.min(second.length(), i + maxDistance);
+            currentRow[0] = i <= maxDistance ? i : outOfBounds;
+            if (from > 1) {
+                currentRow[from - 1] = outOfBounds;
+            }
+            int rowMinimum = currentRow[0];
+            for (int j = from; j <= to; j++) {
+                final int substitutionCost = first.charAt(i - 1) == second.charAt(j - 1) ? 0 : 1;
+                final int distance = Math.min(previousRow[j - 1] + substitutionCost,
+                        Math.min(previousRow[j], currentRow[j - 1]) + 1);
+                currentRow[j] = Math.min(distance, outOfBounds);
+                rowMinimum = Math.min(rowMinimum, currentRow[j]);
+            }
+            if (to < second.length()) {
+                currentRow[to + 1] = outOfBounds;
+            }
+            if (rowMinimum > maxDistance) {
+                return outOfBounds;
+            }
+            final int[] swap = previousRow;
+            previousRow = currentRow;
+            currentRow = swap;
+        }
+        return previousRow[second.length()];
+    }
 }
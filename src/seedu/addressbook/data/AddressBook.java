@@ -1,10 +1,26 @@
 package seedu.addressbook.data;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+
+import seedu.addressbook.data.index.NamePrefixTrie;
+import seedu.addressbook.data.index.NameWordIndex;
+import seedu.addressbook.data.index.PersonIndexes;
+import seedu.addressbook.data.index.PhoneticIndex;
+import seedu.addressbook.data.index.QueryResultCache;
+import seedu.addressbook.data.index.TagExpression;
 import seedu.addressbook.data.person.Person;
 import seedu.addressbook.data.person.ReadOnlyPerson;
 import seedu.addressbook.data.person.UniquePersonList;
 import seedu.addressbook.data.person.UniquePersonList.DuplicatePersonException;
 import seedu.addressbook.data.person.UniquePersonList.PersonNotFoundException;
+import seedu.addressbook.data.query.PersonQuery;
 
 /**
  * Represents the entire address book. Contains the data of the address book.
@@ -12,6 +28,15 @@ import seedu.addressbook.data.person.UniquePersonList.PersonNotFoundException;
 public class AddressBook {
 
     private final UniquePersonList allPersons;
+    private final PersonIndexes indexes = new PersonIndexes();
+    /** Results of the name searches, see {@link #getFindCacheHitCount()}. */
+    private final QueryResultCache findResultCache = new QueryResultCache();
+
+    /** Incremented on every change to the data, see {@link #getSnapshot()}. */
+    private long version;
+    /** The snapshot of the current version, if one was taken, so that its lazily built data can be reused. */
+    private AddressBookSnapshot snapshot;
+    private final List<AddressBookChangeListener> changeListeners = new CopyOnWriteArrayList<>();
 
     /**
      * Creates an empty address book.
@@ -27,6 +52,16 @@ public class AddressBook {
      */
     public AddressBook(UniquePersonList persons) {
         this.allPersons = new UniquePersonList(persons);
+        indexes.rebuild(allPersons);
+    }
+
+    /**
+     * Constructs an address book with the persons added to {@code builder}.
+     * The address book takes over the storage built by {@code builder}, so no persons are copied.
+     */
+    public AddressBook(UniquePersonList.Builder builder) {
+        this.allPersons = builder.build();
+        indexes.rebuild(allPersons);
     }
 
     /**
@@ -36,6 +71,12 @@ public class AddressBook {
      */
     public void addPerson(Person toAdd) throws DuplicatePersonException {
         allPersons.add(toAdd);
+        indexes.add(toAdd);
+        findResultCache.invalidate(toAdd);
+        version++;
+        for (AddressBookChangeListener listener : changeListeners) {
+            listener.personAdded(toAdd);
+        }
     }
 
     /**
@@ -52,6 +93,12 @@ public class AddressBook {
      */
     public void removePerson(ReadOnlyPerson toRemove) throws PersonNotFoundException {
         allPersons.remove(toRemove);
+        indexes.remove(toRemove);
+        findResultCache.invalidate(toRemove);
+        version++;
+        for (AddressBookChangeListener listener : changeListeners) {
+            listener.personRemoved(toRemove);
+        }
     }
 
     /**
@@ -59,15 +106,269 @@ public class AddressBook {
      */
     public void clear() {
         allPersons.clear();
+        indexes.clear();
+        findResultCache.clear();
+        version++;
+        for (AddressBookChangeListener listener : changeListeners) {
+            listener.cleared();
+        }
+    }
+
+    /**
+     * Registers {@code listener} to be told of every later change to the address book.
+     */
+    public void addChangeListener(AddressBookChangeListener listener) {
+        changeListeners.add(listener);
+    }
+
+    /**
+     * Stops telling {@code listener} of changes to the address book.
+     */
+    public void removeChangeListener(AddressBookChangeListener listener) {
+        changeListeners.remove(listener);
+    }
+
+    /**
+     * Returns the number of persons in the address book.
+     * Unlike {@code getAllPersons().size()}, takes no snapshot, so it does not make the next change copy the data.
+     */
+    public int size() {
+        return allPersons.size();
     }
 
     /**
      * Returns a new UniquePersonList of all persons in the address book at the time of the call.
+     * The returned list is a copy-on-write snapshot: it costs nothing to take, and is not affected by
+     * later changes to the address book.
      */
     public UniquePersonList getAllPersons() {
         return new UniquePersonList(allPersons);
     }
 
+    /**
+     * Returns the current version of the address book. Versions increase with every change, so the address book
+     * changed in between two calls if and only if they return different versions.
+     */
+    public long getVersion() {
+        return version;
+    }
+
+    /**
+     * Returns a consistent view of the current version of the address book.
+     * The snapshot is not affected by later changes to the address book.
+     */
+    public AddressBookSnapshot getSnapshot() {
+        if (snapshot == null || snapshot.getVersion() != version) {
+            snapshot = new AddressBookSnapshot(this, version, new UniquePersonList(allPersons));
+        }
+        return snapshot;
+    }
+
+    /**
+     * Returns the persons for which {@code expression} holds, in the order they appear in the address book.
+     * Resolved through the tag index, without examining the persons.
+     */
+    public List<ReadOnlyPerson> findPersonsWithTags(TagExpression expression) {
+        return readIndexes(searchWithTags(expression));
+    }
+
+    /**
+     * Returns the persons whose name contains any of {@code words} (case-sensitive), in the order they appear in
+     * the address book. Resolved through the name word index, so the cost depends on the number of matches
+     * rather than on the size of the address book.
+     */
+    public List<ReadOnlyPerson> findPersonsWithNameContainingAnyWord(Collection<String> words) {
+        return readIndexes(searchWithNameContainingAnyWord(words));
+    }
+
+    /**
+     * Returns the persons with a word in their name that starts with any of {@code prefixes}, ignoring case, in the
+     * order they appear in the address book. Resolved through the name prefix trie, so the cost depends on the
+     * length of the prefixes and the number of matches rather than on the size of the address book.
+     */
+    public List<ReadOnlyPerson> findPersonsWithNameWordStartingWithAny(Collection<String> prefixes) {
+        return readIndexes(searchWithNameWordStartingWithAny(prefixes));
+    }
+
+    /**
+     * Returns the persons with a word in their name within a few typos of any of {@code keywords}, ignoring case,
+     * with the closest matches first. Candidates are generated through the trigram index, so the edit distance is
+     * only computed for persons that share enough trigrams with a keyword.
+     */
+    public List<ReadOnlyPerson> findPersonsWithNameSimilarTo(Collection<String> keywords) {
+        return readIndexes(searchWithNameSimilarTo(keywords));
+    }
+
+    /**
+     * Returns the persons with a word in their name that sounds like any of {@code keywords}, i.e. has the same
+     * Soundex code, in the order they appear in the address book. Resolved through the phonetic index, so only the
+     * keywords are encoded at search time.
+     */
+    public List<ReadOnlyPerson> findPersonsWithNameSoundingLike(Collection<String> keywords) {
+        return readIndexes(searchWithNameSoundingLike(keywords));
+    }
+
+    /**
+     * Returns the persons whose phone number is {@code number}, in the order they appear in the address book.
+     * Private phone numbers are not matched. Resolved through the phone trie in time proportional to the length
+     * of {@code number}.
+     */
+    public List<ReadOnlyPerson> findPersonsWithPhone(String number) {
+        return readIndexes(searchWithPhone(number));
+    }
+
+    /**
+     * Returns the persons whose phone number starts with {@code prefix}, in the order they appear in the address
+     * book. Private phone numbers are not matched.
+     */
+    public List<ReadOnlyPerson> findPersonsWithPhoneStartingWith(String prefix) {
+        return readIndexes(searchWithPhoneStartingWith(prefix));
+    }
+
+    /**
+     * Returns the persons whose email address has the local part {@code localPart} and is at {@code domain} or any
+     * of its subdomains, in the order they appear in the address book. An empty local part or domain matches any.
+     * Domains are compared ignoring case, and private email addresses are not matched.
+     */
+    public List<ReadOnlyPerson> findPersonsWithEmail(String localPart, String domain) {
+        return readIndexes(searchWithEmail(localPart, domain));
+    }
+
+    /**
+     * Returns the persons for which {@code query} holds, in the order they appear in the address book.
+     * The conditions of the query are answered from the secondary indexes where possible, and only the remaining
+     * conditions are tested on the persons; see {@link #explain(PersonQuery)}.
+     */
+    public List<ReadOnlyPerson> findPersons(PersonQuery query) {
+        return readIndexes(searchWith(query));
+    }
+
+    /**
+     * Returns a description of how {@link #findPersons(PersonQuery)} would currently evaluate {@code query}.
+     */
+    public String explain(PersonQuery query) {
+        return readIndexes(explaining(query));
+    }
+
+    // The searches below are run by this address book on its live indexes, and by its snapshots on the indexes
+    // of their version, see AddressBookSnapshot#readIndexes.
+
+    Function<PersonIndexes, List<ReadOnlyPerson>> searchWithTags(TagExpression expression) {
+        return searched -> searched.getPersons(expression.evaluate(searched.getTagIndex(), searched.getAllOrdinals()));
+    }
+
+    Function<PersonIndexes, List<ReadOnlyPerson>> searchWithNameContainingAnyWord(Collection<String> words) {
+        final List<String> wordsCopy = new ArrayList<>(words);
+        return searched -> findCached(searched, "word", wordsCopy,
+                () -> searched.getPersons(searched.getNameWordIndex().getOrdinalsOfAny(wordsCopy)),
+                person -> NameWordIndex.hasAnyWord(person, wordsCopy));
+    }
+
+    Function<PersonIndexes, List<ReadOnlyPerson>> searchWithNameWordStartingWithAny(Collection<String> prefixes) {
+        final List<String> foldedPrefixes = fold(prefixes);
+        return searched -> findCached(searched, "prefix", foldedPrefixes,
+                () -> searched.getPersons(searched.getNamePrefixTrie().getOrdinalsOfAny(foldedPrefixes)),
+                person -> NamePrefixTrie.hasWordStartingWithAny(person, foldedPrefixes));
+    }
+
+    Function<PersonIndexes, List<ReadOnlyPerson>> searchWithNameSimilarTo(Collection<String> keywords) {
+        final List<String> foldedKeywords = fold(keywords);
+        return searched -> findCached(searched, "similar", foldedKeywords,
+                () -> searched.getPersonsWithNameSimilarTo(foldedKeywords),
+                person -> PersonIndexes.hasWordSimilarToAny(person, foldedKeywords));
+    }
+
+    Function<PersonIndexes, List<ReadOnlyPerson>> searchWithNameSoundingLike(Collection<String> keywords) {
+        final List<String> codes = new ArrayList<>();
+        for (String keyword : keywords) {
+            final String code = PhoneticIndex.encode(keyword);
+            if (code != null) {
+                codes.add(code);
+            }
+        }
+        return searched -> findCached(searched, "phonetic", codes,
+                () -> searched.getPersons(searched.getPhoneticIndex().getOrdinalsOfAny(codes)),
+                person -> PhoneticIndex.hasWordWithAnyCode(person, codes));
+    }
+
+    Function<PersonIndexes, List<ReadOnlyPerson>> searchWithPhone(String number) {
+        return searched -> searched.getPersons(searched.getPhoneTrie().getOrdinalsWithNumber(number));
+    }
+
+    Function<PersonIndexes, List<ReadOnlyPerson>> searchWithPhoneStartingWith(String prefix) {
+        return searched -> searched.getPersons(searched.getPhoneTrie().getOrdinalsWithPrefix(prefix));
+    }
+
+    Function<PersonIndexes, List<ReadOnlyPerson>> searchWithEmail(String localPart, String domain) {
+        return searched -> searched.getPersons(searched.getEmailIndex().getOrdinals(localPart, domain));
+    }
+
+    Function<PersonIndexes, List<ReadOnlyPerson>> searchWith(PersonQuery query) {
+        return searched -> searched.getPersons(query);
+    }
+
+    Function<PersonIndexes, String> explaining(PersonQuery query) {
+        return searched -> searched.plan(query).toString();
+    }
+
+    /**
+     * Returns the cached result of the name search of the given kind for {@code terms}, running {@code query} if
+     * it is not cached. Only searches of the live indexes are cached.
+     *
+     * @param containsPerson tells whether a person is in the result, so that the result can be invalidated when
+     *                       such a person is added or removed
+     */
+    private List<ReadOnlyPerson> findCached(PersonIndexes searched, String kind, List<String> terms,
+                                            Supplier<List<ReadOnlyPerson>> query,
+                                            Predicate<ReadOnlyPerson> containsPerson) {
+        if (searched != indexes) {
+            return query.get();
+        }
+        return findResultCache.get(new QueryResultCache.Key(kind, terms), query, containsPerson);
+    }
+
+    private static List<String> fold(Collection<String> words) {
+        final List<String> foldedWords = new ArrayList<>(words.size());
+        for (String word : words) {
+            foldedWords.add(NamePrefixTrie.fold(word));
+        }
+        return foldedWords;
+    }
+
+    /**
+     * Returns the number of name searches answered from the cache of recent results.
+     * Results are cached by the normalized keywords, and a result is only evicted when a person that it would
+     * contain is added or removed, or when the cache is full and the result is the least recently used.
+     */
+    public long getFindCacheHitCount() {
+        return findResultCache.getHitCount();
+    }
+
+    /**
+     * Returns the number of name searches that had to be answered from the indexes.
+     */
+    public long getFindCacheMissCount() {
+        return findResultCache.getMissCount();
+    }
+
+    /**
+     * Runs {@code search} on the secondary indexes and returns its result.
+     * Subclasses that allow concurrent access override this to guard the indexes against concurrent changes.
+     */
+    protected <T> T readIndexes(Function<PersonIndexes, T> search) {
+        return search.apply(indexes);
+    }
+
+    /**
+     * Runs {@code search} on the secondary indexes if the address book is still at version {@code atVersion}, and
+     * returns its result; returns an empty result if the address book has changed since.
+     */
+    <T> Optional<T> readIndexesAt(long atVersion, Function<PersonIndexes, T> search) {
+        return readIndexes(searched -> version == atVersion
+                ? Optional.of(search.apply(searched))
+                : Optional.<T>empty());
+    }
+
     @Override
     public boolean equals(Object other) {
         return other == this // short circuit if same object
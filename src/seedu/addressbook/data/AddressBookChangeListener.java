@@ -0,0 +1,25 @@
+package seedu.addressbook.data;
+
+import seedu.addressbook.data.person.ReadOnlyPerson;
+
+/**
+ * Receives every change made to an {@link AddressBook} it is registered with, after the change has been applied.
+ * Changes are reported in the order they are made, by the thread that made them.
+ */
+public interface AddressBookChangeListener {
+
+    /**
+     * Called after {@code person} has been added.
+     */
+    void personAdded(ReadOnlyPerson person);
+
+    /**
+     * Called after {@code person} has been removed.
+     */
+    void personRemoved(ReadOnlyPerson person);
+
+    /**
+     * Called after all persons have been removed.
+     */
+    void cleared();
+}
@@ -0,0 +1,180 @@
+package seedu.addressbook.data;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Function;
+
+import seedu.addressbook.data.index.PersonIndexes;
+import seedu.addressbook.data.index.TagExpression;
+import seedu.addressbook.data.person.NameArena;
+import seedu.addressbook.data.person.ReadOnlyPerson;
+import seedu.addressbook.data.person.UniquePersonList;
+import seedu.addressbook.data.query.PersonQuery;
+
+/**
+ * An immutable, consistent view of the contents of an {@link AddressBook} as of one version.
+ * A snapshot is not affected by later changes to the address book, and holding one does not block writers.
+ * Versions that are no longer referenced by any snapshot are reclaimed by the garbage collector.
+ *
+ * The searches of a snapshot are answered from the live indexes of its address book while the address book is
+ * still at the version of the snapshot, which is the common case. Once the address book has changed, they are
+ * answered from indexes of the snapshot's own persons, built on first use.
+ */
+public class AddressBookSnapshot {
+
+    private final AddressBook addressBook;
+    private final long version;
+    private final UniquePersonList persons;
+    /** Built on first use, see {@link #getNameArena()}. */
+    private volatile NameArena nameArena;
+    /** Built on first use, see {@link #readIndexes(Function)}. */
+    private volatile PersonIndexes indexes;
+
+    /**
+     * @param addressBook the address book the snapshot is taken of
+     * @param persons must not be modified after being passed in
+     */
+    AddressBookSnapshot(AddressBook addressBook, long version, UniquePersonList persons) {
+        this.addressBook = addressBook;
+        this.version = version;
+        this.persons = persons;
+    }
+
+    /**
+     * Returns the version of the address book this snapshot was taken at.
+     * Versions increase with every change made to the address book.
+     */
+    public long getVersion() {
+        return version;
+    }
+
+    /**
+     * Returns true if an equivalent person exists in this snapshot.
+     */
+    public boolean containsPerson(ReadOnlyPerson key) {
+        return persons.contains(key);
+    }
+
+    /**
+     * Returns the number of persons in this snapshot.
+     */
+    public int size() {
+        return persons.size();
+    }
+
+    /**
+     * Returns a new UniquePersonList of all persons in this snapshot.
+     */
+    public UniquePersonList getAllPersons() {
+        return new UniquePersonList(persons);
+    }
+
+    /**
+     * Returns the names of all persons in this snapshot packed for substring search, in the same order.
+     * Built on first use and then shared by all users of this snapshot.
+     */
+    public NameArena getNameArena() {
+        NameArena arena = nameArena;
+        if (arena == null) {
+            // racing threads may each build an arena, but they are equivalent so any of them can be kept
+            arena = new NameArena(persons.immutableListView());
+            nameArena = arena;
+        }
+        return arena;
+    }
+
+    /**
+     * Returns the persons for which {@code expression} holds, see {@link AddressBook#findPersonsWithTags}.
+     */
+    public List<ReadOnlyPerson> findPersonsWithTags(TagExpression expression) {
+        return readIndexes(addressBook.searchWithTags(expression));
+    }
+
+    /**
+     * Returns the persons whose name contains any of {@code words} (case-sensitive), see
+     * {@link AddressBook#findPersonsWithNameContainingAnyWord}.
+     */
+    public List<ReadOnlyPerson> findPersonsWithNameContainingAnyWord(Collection<String> words) {
+        return readIndexes(addressBook.searchWithNameContainingAnyWord(words));
+    }
+
+    /**
+     * Returns the persons with a word in their name that starts with any of {@code prefixes}, ignoring case, see
+     * {@link AddressBook#findPersonsWithNameWordStartingWithAny}.
+     */
+    public List<ReadOnlyPerson> findPersonsWithNameWordStartingWithAny(Collection<String> prefixes) {
+        return readIndexes(addressBook.searchWithNameWordStartingWithAny(prefixes));
+    }
+
+    /**
+     * Returns the persons with a word in their name within a few typos of any of {@code keywords}, see
+     * {@link AddressBook#findPersonsWithNameSimilarTo}.
+     */
+    public List<ReadOnlyPerson> findPersonsWithNameSimilarTo(Collection<String> keywords) {
+        return readIndexes(addressBook.searchWithNameSimilarTo(keywords));
+    }
+
+    /**
+     * Returns the persons with a word in their name that sounds like any of {@code keywords}, see
+     * {@link AddressBook#findPersonsWithNameSoundingLike}.
+     */
+    public List<ReadOnlyPerson> findPersonsWithNameSoundingLike(Collection<String> keywords) {
+        return readIndexes(addressBook.searchWithNameSoundingLike(keywords));
+    }
+
+    /**
+     * Returns the persons whose public phone number is {@code number}.
+     */
+    public List<ReadOnlyPerson> findPersonsWithPhone(String number) {
+        return readIndexes(addressBook.searchWithPhone(number));
+    }
+
+    /**
+     * Returns the persons whose public phone number starts with {@code prefix}.
+     */
+    public List<ReadOnlyPerson> findPersonsWithPhoneStartingWith(String prefix) {
+        return readIndexes(addressBook.searchWithPhoneStartingWith(prefix));
+    }
+
+    /**
+     * Returns the persons with a public email address with the local part {@code localPart} at {@code domain}, see
+     * {@link AddressBook#findPersonsWithEmail}.
+     */
+    public List<ReadOnlyPerson> findPersonsWithEmail(String localPart, String domain) {
+        return readIndexes(addressBook.searchWithEmail(localPart, domain));
+    }
+
+    /**
+     * Returns the persons for which {@code query} holds, see {@link AddressBook#findPersons}.
+     */
+    public List<ReadOnlyPerson> findPersons(PersonQuery query) {
+        return readIndexes(addressBook.searchWith(query));
+    }
+
+    /**
+     * Returns a description of how {@link #findPersons(PersonQuery)} would evaluate {@code query}.
+     */
+    public String explain(PersonQuery query) {
+        return readIndexes(addressBook.explaining(query));
+    }
+
+    /**
+     * Runs {@code search} on indexes of the persons in this snapshot and returns its result.
+     */
+    private <T> T readIndexes(Function<PersonIndexes, T> search) {
+        final Optional<T> result = addressBook.readIndexesAt(version, search);
+        return result.isPresent() ? result.get() : search.apply(getIndexes());
+    }
+
+    private PersonIndexes getIndexes() {
+        PersonIndexes snapshotIndexes = indexes;
+        if (snapshotIndexes == null) {
+            // racing threads may each build indexes, but they are equivalent so any of them can be kept
+            snapshotIndexes = new PersonIndexes();
+            snapshotIndexes.rebuild(persons);
+            indexes = snapshotIndexes;
+        }
+        return snapshotIndexes;
+    }
+}
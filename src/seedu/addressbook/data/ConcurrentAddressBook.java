@@ -0,0 +1,143 @@
+package seedu.addressbook.data;
+
+import java.util.concurrent.locks.Lock;
+import java.util.function.Function;
+
+import seedu.addressbook.common.StripedReadWriteLock;
+import seedu.addressbook.data.index.PersonIndexes;
+import seedu.addressbook.data.person.Person;
+import seedu.addressbook.data.person.ReadOnlyPerson;
+import seedu.addressbook.data.person.UniquePersonList;
+import seedu.addressbook.data.person.UniquePersonList.DuplicatePersonException;
+import seedu.addressbook.data.person.UniquePersonList.PersonNotFoundException;
+
+/**
+ * An address book that can be shared by several threads, e.g. one per user session.
+ *
+ * Uses multi-version concurrency control: the persons are kept in a persistent list, and every change
+ * publishes a new immutable {@link AddressBookSnapshot} atomically. Readers ({@link #containsPerson},
+ * {@link #getAllPersons}, {@link #getSnapshot}) only read the latest published snapshot, so they never take
+ * a lock and their latency does not depend on writer activity. Writers are serialized among themselves, and
+ * each change takes O(log n) time because the new version shares all unchanged structure with the old one.
+ * Old versions are reclaimed by the garbage collector once no reader holds their snapshot.
+ *
+ * Queries answered by the secondary indexes (e.g. {@link #findPersonsWithTags}) read the live indexes under a
+ * {@link StripedReadWriteLock}: each query takes the read lock of the stripe of its thread, so queries neither block
+ * nor contend with each other, and a change takes every stripe only while it is applied. The same queries on a
+ * snapshot read the live indexes too while no change has been published since the snapshot.
+ *
+ * The persons are always kept as {@link Person} objects in the persistent list. Lists backed by the columnar store
+ * (see {@link UniquePersonList.Builder}) are copied into it, so the memory savings of the columnar store only
+ * apply to address books used by a single thread.
+ */
+public class ConcurrentAddressBook extends AddressBook {
+
+    /** Guards the secondary indexes: searches take the read lock of one stripe, changes take all stripes. */
+    private final StripedReadWriteLock indexLock = new StripedReadWriteLock();
+
+    /** The latest version of the data. Only replaced while holding all stripes of {@link #indexLock}. */
+    private volatile AddressBookSnapshot published;
+
+    /**
+     * Creates an empty address book.
+     */
+    public ConcurrentAddressBook() {
+        super(UniquePersonList.createPersistent());
+        published = super.getSnapshot();
+    }
+
+    /**
+     * Constructs an address book with the given data, copied into a persistent list whatever its storage.
+     *
+     * @param persons external changes to this will not affect this address book
+     */
+    public ConcurrentAddressBook(UniquePersonList persons) {
+        super(toPersistentList(persons));
+        published = super.getSnapshot();
+    }
+
+    private static UniquePersonList toPersistentList(UniquePersonList persons) {
+        final UniquePersonList persistentPersons = UniquePersonList.createPersistent();
+        try {
+            for (Person person : persons) {
+                persistentPersons.add(person);
+            }
+        } catch (DuplicatePersonException dpe) {
+            throw new AssertionError("A UniquePersonList cannot contain duplicate persons", dpe);
+        }
+        return persistentPersons;
+    }
+
+    @Override
+    public void addPerson(Person toAdd) throws DuplicatePersonException {
+        indexLock.lockForWriting();
+        try {
+            super.addPerson(toAdd);
+            published = super.getSnapshot();
+        } finally {
+            indexLock.unlockForWriting();
+        }
+    }
+
+    @Override
+    public boolean containsPerson(ReadOnlyPerson key) {
+        return published.containsPerson(key);
+    }
+
+    @Override
+    public void removePerson(ReadOnlyPerson toRemove) throws PersonNotFoundException {
+        indexLock.lockForWriting();
+        try {
+            super.removePerson(toRemove);
+            published = super.getSnapshot();
+        } finally {
+            indexLock.unlockForWriting();
+        }
+    }
+
+    @Override
+    public void clear() {
+        indexLock.lockForWriting();
+        try {
+            super.clear();
+            published = super.getSnapshot();
+        } finally {
+            indexLock.unlockForWriting();
+        }
+    }
+
+    @Override
+    public int size() {
+        return published.size();
+    }
+
+    /**
+     * Returns a snapshot of all persons in the latest published version.
+     * Takes constant time, and the snapshot can be read while other threads modify the address book.
+     */
+    @Override
+    public UniquePersonList getAllPersons() {
+        return published.getAllPersons();
+    }
+
+    @Override
+    public long getVersion() {
+        return published.getVersion();
+    }
+
+    @Override
+    public AddressBookSnapshot getSnapshot() {
+        return published;
+    }
+
+    @Override
+    protected <T> T readIndexes(Function<PersonIndexes, T> search) {
+        final Lock readLock = indexLock.readLock();
+        readLock.lock();
+        try {
+            return super.readIndexes(search);
+        } finally {
+            readLock.unlock();
+        }
+    }
+}
@@ -0,0 +1,510 @@
+package seedu.addressbook.data.index;
+
+import java.util.Arrays;
+import java.util.function.IntConsumer;
+
+/**
+ * A compressed set of non-negative ints, e.g. person ordinals, in the style of a Roaring bitmap.
+ *
+ * The values are partitioned into chunks of 2^16 by their upper 16 bits. Each non-empty chunk is held in a
+ * container chosen by its density: a sorted array of the lower 16 bits while the chunk holds at most
+ * {@value #MAX_ARRAY_CONTAINER_SIZE} values, and a plain 2^16-bit bitmap otherwise. A bitmap emptied by removals
+ * only turns back into an array at {@value #MIN_BITMAP_CONTAINER_SIZE} values, so that a chunk whose size hovers
+ * around the threshold is not converted back and forth on every change. Set operations work chunk by
+ * chunk, so intersecting two bitmaps only touches the chunks they have in common, and dense chunks are combined a
+ * 64-bit word at a time.
+ */
+public class CompressedBitmap {
+
+    /** Largest number of values held in an array container; larger chunks are held as bitmaps. */
+    private static final int MAX_ARRAY_CONTAINER_SIZE = 4096;
+    /** Size at which a bitmap container that values are removed from is turned back into an array container. */
+    private static final int MIN_BITMAP_CONTAINER_SIZE = MAX_ARRAY_CONTAINER_SIZE / 2;
+    private static final int INITIAL_CHUNK_CAPACITY = 4;
+
+    /** Upper 16 bits of the values in each chunk, sorted, and the containers holding the chunks. */
+    private char[] keys;
+    private Container[] containers;
+    private int numberOfChunks;
+
+    /**
+     * Constructs an empty bitmap.
+     */
+    public CompressedBitmap() {
+        keys = new char[INITIAL_CHUNK_CAPACITY];
+        containers = new Container[INITIAL_CHUNK_CAPACITY];
+    }
+
+    /**
+     * Constructs a copy of {@code source}.
+     */
+    public CompressedBitmap(CompressedBitmap source) {
+        keys = Arrays.copyOf(source.keys, Math.max(INITIAL_CHUNK_CAPACITY, source.numberOfChunks));
+        containers = new Container[keys.length];
+        for (int i = 0; i < source.numberOfChunks; i++) {
+            containers[i] = source.containers[i].copy();
+        }
+        numberOfChunks = source.numberOfChunks;
+    }
+
+    /**
+     * Constructs a bitmap containing the given values.
+     */
+    public static CompressedBitmap of(int... values) {
+        final CompressedBitmap bitmap = new CompressedBitmap();
+        for (int value : values) {
+            bitmap.add(value);
+        }
+        return bitmap;
+    }
+
+    /**
+     * Adds {@code value}, which must not be negative, to the set.
+     */
+    public void add(int value) {
+        final char key = highBits(value);
+        final int position = chunkPosition(key);
+        if (position >= 0) {
+            containers[position] = containers[position].add(lowBits(value));
+            return;
+        }
+        insertChunk(-position - 1, key, new ArrayContainer().add(lowBits(value)));
+    }
+
+    /**
+     * Removes {@code value} from the set, if present.
+     */
+    public void remove(int value) {
+        final int position = chunkPosition(highBits(value));
+        if (position < 0) {
+            return;
+        }
+        containers[position] = containers[position].remove(lowBits(value));
+        if (containers[position].cardinality() == 0) {
+            removeChunk(position);
+        }
+    }
+
+    public boolean contains(int value) {
+        final int position = chunkPosition(highBits(value));
+        return position >= 0 && containers[position].contains(lowBits(value));
+    }
+
+    /**
+     * Returns the number of values in the set.
+     */
+    public int cardinality() {
+        int cardinality = 0;
+        for (int i = 0; i < numberOfChunks; i++) {
+            cardinality += containers[i].cardinality();
+        }
+        return cardinality;
+    }
+
+    public boolean isEmpty() {
+        return numberOfChunks == 0;
+    }
+
+    /**
+     * Removes all values from the set.
+     */
+    public void clear() {
+        Arrays.fill(containers, null);
+        numberOfChunks = 0;
+    }
+
+    /**
+     * Passes every value in the set to {@code action}, in ascending order.
+     */
+    public void forEach(IntConsumer action) {
+        for (int i = 0; i < numberOfChunks; i++) {
+            containers[i].forEach(keys[i] << 16, action);
+        }
+    }
+
+    /**
+     * Returns the values in the set, in ascending order.
+     */
+    public int[] toArray() {
+        final int[] values = new int[cardinality()];
+        final int[] next = {0};
+        forEach(value -> values[next[0]++] = value);
+        return values;
+    }
+
+    /**
+     * Returns a new bitmap holding the values in both {@code first} and {@code second}.
+     */
+    public static CompressedBitmap and(CompressedBitmap first, CompressedBitmap second) {
+        final CompressedBitmap result = new CompressedBitmap();
+        int i = 0;
+        int j = 0;
+        while (i < first.numberOfChunks && j < second.numberOfChunks) {
+            if (first.keys[i] < second.keys[j]) {
+                i++;
+            } else if (first.keys[i] > second.keys[j]) {
+                j++;
+            } else {
+                result.appendChunkIfNotEmpty(first.keys[i], first.containers[i].and(second.containers[j]));
+                i++;
+                j++;
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Returns a new bitmap holding the values in {@code first} or {@code second}, or both.
+     */
+    public static CompressedBitmap or(CompressedBitmap first, CompressedBitmap second) {
+        final CompressedBitmap result = new CompressedBitmap();
+        int i = 0;
+        int j = 0;
+        while (i < first.numberOfChunks || j < second.numberOfChunks) {
+            if (j == second.numberOfChunks || (i < first.numberOfChunks && first.keys[i] < second.keys[j])) {
+                result.appendChunkIfNotEmpty(first.keys[i], first.containers[i].copy());
+                i++;
+            } else if (i == first.numberOfChunks || first.keys[i] > second.keys[j]) {
+                result.appendChunkIfNotEmpty(second.keys[j], second.containers[j].copy());
+                j++;
+            } else {
+                result.appendChunkIfNotEmpty(first.keys[i], first.containers[i].or(second.containers[j]));
+                i++;
+                j++;
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Returns a new bitmap holding the values in {@code first} that are not in {@code second}.
+     */
+    public static CompressedBitmap andNot(CompressedBitmap first, CompressedBitmap second) {
+        final CompressedBitmap result = new CompressedBitmap();
+        int j = 0;
+        for (int i = 0; i < first.numberOfChunks; i++) {
+            while (j < second.numberOfChunks && second.keys[j] < first.keys[i]) {
+                j++;
+            }
+            final boolean isInBoth = j < second.numberOfChunks && second.keys[j] == first.keys[i];
+            result.appendChunkIfNotEmpty(first.keys[i],
+                    isInBoth ? first.containers[i].andNot(second.containers[j]) : first.containers[i].copy());
+        }
+        return result;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof CompressedBitmap // instanceof handles nulls
+                && Arrays.equals(this.toArray(), ((CompressedBitmap) other).toArray()));
+    }
+
+    @Override
+    public int hashCode() {
+        return Arrays.hashCode(toArray());
+    }
+
+    @Override
+    public String toString() {
+        return Arrays.toString(toArray());
+    }
+
+    private static char highBits(int value) {
+        if (value < 0) {
+            throw new IllegalArgumentException("Negative values are not supported: " + value);
+        }
+        return (char) (value >>> 16);
+    }
+
+    private static char lowBits(int value) {
+        return (char) value;
+    }
+
+    /**
+     * Returns the position of the chunk with the given key, or {@code -(insertion point) - 1} if there is none.
+     */
+    private int chunkPosition(char key) {
+        return Arrays.binarySearch(keys, 0, numberOfChunks, key);
+    }
+
+    private void insertChunk(int position, char key, Container container) {
+        if (numberOfChunks == keys.length) {
+            keys = Arrays.copyOf(keys, keys.length * 2);
+            containers = Arrays.copyOf(containers, containers.length * 2);
+        }
+        System.arraycopy(keys, position, keys, position + 1, numberOfChunks - position);
+        System.arraycopy(containers, position, containers, position + 1, numberOfChunks - position);
+        keys[position] = key;
+        containers[position] = container;
+        numberOfChunks++;
+    }
+
+    private void removeChunk(int position) {
+        System.arraycopy(keys, position + 1, keys, position, numberOfChunks - position - 1);
+        System.arraycopy(containers, position + 1, containers, position, numberOfChunks - position - 1);
+        numberOfChunks--;
+        containers[numberOfChunks] = null;
+    }
+
+    /**
+     * Adds a chunk after all existing chunks. Used when building results in key order.
+     */
+    private void appendChunkIfNotEmpty(char key, Container container) {
+        if (container.cardinality() > 0) {
+            insertChunk(numberOfChunks, key, container);
+        }
+    }
+
+    /**
+     * Holds the lower 16 bits of the values in one chunk.
+     * Operations that may change the density of the chunk return the container that should hold the result,
+     * which is not necessarily the container the operation was called on.
+     */
+    private abstract static class Container {
+        abstract Container add(char value);
+        abstract Container remove(char value);
+        abstract boolean contains(char value);
+        abstract int cardinality();
+        abstract Container and(Container other);
+        abstract Container or(Container other);
+        abstract Container andNot(Container other);
+        abstract Container copy();
+
+        /**
+         * Passes every value in the container, combined with the upper bits {@code high}, to {@code action}.
+         */
+        abstract void forEach(int high, IntConsumer action);
+    }
+
+    /**
+     * A container for sparse chunks: the values as a sorted array.
+     */
+    private static final class ArrayContainer extends Container {
+        private char[] values;
+        private int cardinality;
+
+        ArrayContainer() {
+            this(new char[4], 0);
+        }
+
+        ArrayContainer(char[] values, int cardinality) {
+            this.values = values;
+            this.cardinality = cardinality;
+        }
+
+        @Override
+        Container add(char value) {
+            final int position = Arrays.binarySearch(values, 0, cardinality, value);
+            if (position >= 0) {
+                return this;
+            }
+            if (cardinality == MAX_ARRAY_CONTAINER_SIZE) {
+                return toBitmapContainer().add(value);
+            }
+            if (cardinality == values.length) {
+                values = Arrays.copyOf(values, Math.min(values.length * 2, MAX_ARRAY_CONTAINER_SIZE));
+            }
+            final int insertionPoint = -position - 1;
+            System.arraycopy(values, insertionPoint, values, insertionPoint + 1, cardinality - insertionPoint);
+            values[insertionPoint] = value;
+            cardinality++;
+            return this;
+        }
+
+        @Override
+        Container remove(char value) {
+            final int position = Arrays.binarySearch(values, 0, cardinality, value);
+            if (position >= 0) {
+                System.arraycopy(values, position + 1, values, position, cardinality - position - 1);
+                cardinality--;
+            }
+            return this;
+        }
+
+        @Override
+        boolean contains(char value) {
+            return Arrays.binarySearch(values, 0, cardinality, value) >= 0;
+        }
+
+        @Override
+        int cardinality() {
+            return cardinality;
+        }
+
+        @Override
+        Container and(Container other) {
+            final char[] result = new char[cardinality];
+            int resultSize = 0;
+            for (int i = 0; i < cardinality; i++) {
+                if (other.contains(values[i])) {
+                    result[resultSize++] = values[i];
+                }
+            }
+            return new ArrayContainer(result, resultSize);
+        }
+
+        @Override
+        Container or(Container other) {
+            Container result = other.copy();
+            for (int i = 0; i < cardinality; i++) {
+                result = result.add(values[i]);
+            }
+            return result;
+        }
+
+        @Override
+        Container andNot(Container other) {
+            final char[] result = new char[cardinality];
+            int resultSize = 0;
+            for (int i = 0; i < cardinality; i++) {
+                if (!other.contains(values[i])) {
+                    result[resultSize++] = values[i];
+                }
+            }
+            return new ArrayContainer(result, resultSize);
+        }
+
+        @Override
+        Container copy() {
+            return new ArrayContainer(Arrays.copyOf(values, Math.max(1, cardinality)), cardinality);
+        }
+
+        @Override
+        void forEach(int high, IntConsumer action) {
+            for (int i = 0; i < cardinality; i++) {
+                action.accept(high | values[i]);
+            }
+        }
+
+        private BitmapContainer toBitmapContainer() {
+            final BitmapContainer bitmap = new BitmapContainer();
+            for (int i = 0; i < cardinality; i++) {
+                bitmap.add(values[i]);
+            }
+            return bitmap;
+        }
+    }
+
+    /**
+     * A container for dense chunks: one bit for each of the 2^16 possible values.
+     */
+    private static final class BitmapContainer extends Container {
+        private final long[] words;
+        private int cardinality;
+
+        BitmapContainer() {
+            this(new long[(1 << 16) / Long.SIZE], 0);
+        }
+
+        BitmapContainer(long[] words, int cardinality) {
+            this.words = words;
+            this.cardinality = cardinality;
+        }
+
+        @Override
+        Container add(char value) {
+            final long mask = 1L << value;
+            if ((words[value >>> 6] & mask) == 0) {
+                words[value >>> 6] |= mask;
+                cardinality++;
+            }
+            return this;
+        }
+
+        @Override
+        Container remove(char value) {
+            final long mask = 1L << value;
+            if ((words[value >>> 6] & mask) != 0) {
+                words[value >>> 6] &= ~mask;
+                cardinality--;
+            }
+            return cardinality <= MIN_BITMAP_CONTAINER_SIZE ? toArrayContainer() : this;
+        }
+
+        @Override
+        boolean contains(char value) {
+            return (words[value >>> 6] & (1L << value)) != 0;
+        }
+
+        @Override
+        int cardinality() {
+            return cardinality;
+        }
+
+        @Override
+        Container and(Container other) {
+            if (other instanceof ArrayContainer) {
+                return other.and(this);
+            }
+            final long[] otherWords = ((BitmapContainer) other).words;
+            final long[] result = new long[words.length];
+            for (int i = 0; i < words.length; i++) {
+                result[i] = words[i] & otherWords[i];
+            }
+            return fromWords(result);
+        }
+
+        @Override
+        Container or(Container other) {
+            if (other instanceof ArrayContainer) {
+                return other.or(this);
+            }
+            final long[] otherWords = ((BitmapContainer) other).words;
+            final long[] result = new long[words.length];
+            for (int i = 0; i < words.length; i++) {
+                result[i] = words[i] | otherWords[i];
+            }
+            return fromWords(result);
+        }
+
+        @Override
+        Container andNot(Container other) {
+            final long[] result = words.clone();
+            if (other instanceof ArrayContainer) {
+                other.forEach(0, value -> result[value >>> 6] &= ~(1L << value));
+            } else {
+                final long[] otherWords = ((BitmapContainer) other).words;
+                for (int i = 0; i < words.length; i++) {
+                    result[i] &= ~otherWords[i];
+                }
+            }
+            return fromWords(result);
+        }
+
+        @Override
+        Container copy() {
+            return new BitmapContainer(words.clone(), cardinality);
+        }
+
+        @Override
+        void forEach(int high, IntConsumer action) {
+            for (int i = 0; i < words.length; i++) {
+                long word = words[i];
+                while (word != 0) {
+                    action.accept(high | (i << 6) | Long.numberOfTrailingZeros(word));
+                    word &= word - 1;
+                }
+            }
+        }
+
+        /**
+         * Returns the best container for the values in {@code words}.
+         */
+        private static Container fromWords(long[] words) {
+            int cardinality = 0;
+            for (long word : words) {
+                cardinality += Long.bitCount(word);
+            }
+            final BitmapContainer bitmap = new BitmapContainer(words, cardinality);
+            return cardinality <= MAX_ARRAY_CONTAINER_SIZE ? bitmap.toArrayContainer() : bitmap;
+        }
+
+        private ArrayContainer toArrayContainer() {
+            final char[] values = new char[Math.max(1, cardinality)];
+            final int[] next = {0};
+            forEach(0, value -> values[next[0]++] = (char) value);
+            return new ArrayContainer(values, cardinality);
+        }
+    }
+}
@@ -0,0 +1,141 @@
+package seedu.addressbook.data.index;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+
+import seedu.addressbook.data.person.Email;
+import seedu.addressbook.data.person.ReadOnlyPerson;
+
+/**
+ * Indexes persons by the domain and by the local part of their email address.
+ *
+ * Domains are dictionary-encoded: each distinct domain is stored once and given an id, and the persons at each
+ * domain are kept as a compressed bitmap of ordinals by domain id. The ids are also kept in a map sorted by
+ * reversed domain (e.g. "sg.edu.nus" for "nus.edu.sg"), so all subdomains of a domain are adjacent, and a domain
+ * query is a range scan over that map. Domains are compared ignoring case, local parts are compared exactly.
+ *
+ * Private email addresses are not indexed, so that an address cannot be used to find out who it belongs to.
+ */
+public class EmailIndex implements PersonIndex {
+
+    private static final String LABEL_SEPARATOR = ".";
+    /** The character after {@link #LABEL_SEPARATOR}, used as the exclusive end of a range of subdomains. */
+    private static final String AFTER_LABEL_SEPARATOR = "/";
+
+    private final Map<String, Integer> domainIds = new HashMap<>();
+    private final List<CompressedBitmap> ordinalsByDomainId = new ArrayList<>();
+    /** Ids of the domains with at least one person, by reversed domain. */
+    private final NavigableMap<String, Integer> domainIdsByReversedDomain = new TreeMap<>();
+    private final Map<String, CompressedBitmap> ordinalsByLocalPart = new HashMap<>();
+
+    @Override
+    public void add(int ordinal, ReadOnlyPerson person) {
+        final Email email = person.getEmail();
+        if (email.isPrivate()) {
+            return;
+        }
+        final String domain = fold(email.getDomain());
+        final int domainId = domainIds.computeIfAbsent(domain, unused -> {
+            ordinalsByDomainId.add(new CompressedBitmap());
+            return ordinalsByDomainId.size() - 1;
+        });
+        ordinalsByDomainId.get(domainId).add(ordinal);
+        domainIdsByReversedDomain.put(reverse(domain), domainId);
+        ordinalsByLocalPart.computeIfAbsent(email.getLocalPart(), unused -> new CompressedBitmap()).add(ordinal);
+    }
+
+    @Override
+    public void remove(int ordinal, ReadOnlyPerson person) {
+        final Email email = person.getEmail();
+        if (email.isPrivate()) {
+            return;
+        }
+        final String domain = fold(email.getDomain());
+        final CompressedBitmap ordinalsAtDomain = ordinalsByDomainId.get(domainIds.get(domain));
+        ordinalsAtDomain.remove(ordinal);
+        if (ordinalsAtDomain.isEmpty()) {
+            domainIdsByReversedDomain.remove(reverse(domain));
+        }
+        final CompressedBitmap ordinalsWithLocalPart = ordinalsByLocalPart.get(email.getLocalPart());
+        ordinalsWithLocalPart.remove(ordinal);
+        if (ordinalsWithLocalPart.isEmpty()) {
+            ordinalsByLocalPart.remove(email.getLocalPart());
+        }
+    }
+
+    @Override
+    public void clear() {
+        domainIds.clear();
+        ordinalsByDomainId.clear();
+        domainIdsByReversedDomain.clear();
+        ordinalsByLocalPart.clear();
+    }
+
+    /**
+     * Returns the ordinals of the persons with a public email address at {@code domain} or at any of its
+     * subdomains, ignoring case.
+     */
+    public CompressedBitmap getOrdinalsAtDomain(String domain) {
+        final String reversedDomain = reverse(fold(domain));
+        CompressedBitmap ordinals = new CompressedBitmap();
+        final Integer exactDomainId = domainIdsByReversedDomain.get(reversedDomain);
+        if (exactDomainId != null) {
+            ordinals = CompressedBitmap.or(ordinals, ordinalsByDomainId.get(exactDomainId));
+        }
+        final Map<String, Integer> subdomainIds = domainIdsByReversedDomain.subMap(
+                reversedDomain + LABEL_SEPARATOR, reversedDomain + AFTER_LABEL_SEPARATOR);
+        for (int subdomainId : subdomainIds.values()) {
+            ordinals = CompressedBitmap.or(ordinals, ordinalsByDomainId.get(subdomainId));
+        }
+        return ordinals;
+    }
+
+    /**
+     * Returns the ordinals of the persons with a public email address with the local part {@code localPart}.
+     * The returned bitmap must not be modified.
+     */
+    public CompressedBitmap getOrdinalsWithLocalPart(String localPart) {
+        return ordinalsByLocalPart.getOrDefault(localPart, new CompressedBitmap());
+    }
+
+    /**
+     * Returns the ordinals of the persons with a public email address with the local part {@code localPart} at
+     * {@code domain} or any of its subdomains. An empty local part or domain matches any.
+     */
+    public CompressedBitmap getOrdinals(String localPart, String domain) {
+        if (localPart.isEmpty()) {
+            return getOrdinalsAtDomain(domain);
+        }
+        if (domain.isEmpty()) {
+            return getOrdinalsWithLocalPart(localPart);
+        }
+        return CompressedBitmap.and(getOrdinalsWithLocalPart(localPart), getOrdinalsAtDomain(domain));
+    }
+
+    /**
+     * Returns the number of distinct domains stored in the dictionary.
+     */
+    public int getDomainCount() {
+        return domainIds.size();
+    }
+
+    private static String fold(String domain) {
+        return domain.toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * Returns {@code domain} with the order of its labels reversed, e.g. "sg.edu.nus" for "nus.edu.sg".
+     */
+    private static String reverse(String domain) {
+        final List<String> labels = new ArrayList<>();
+        Collections.addAll(labels, domain.split("\\.", -1));
+        Collections.reverse(labels);
+        return String.join(LABEL_SEPARATOR, labels);
+    }
+}
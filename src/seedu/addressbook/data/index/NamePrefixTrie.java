@@ -0,0 +1,186 @@
+package seedu.addressbook.data.index;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+
+import seedu.addressbook.data.person.ReadOnlyPerson;
+
+/**
+ * Indexes persons by the prefixes of the words in their names, ignoring case.
+ *
+ * The words are case-folded and stored in a trie. Every node of the trie keeps a compressed bitmap of the ordinals
+ * of all persons with a word in its subtree, so looking up a prefix takes time proportional to the length of the
+ * prefix, and reading the result takes time proportional to the number of persons found. Every node also keeps
+ * the ordinals of the persons with a word that ends there, for whole-word lookups.
+ */
+public class NamePrefixTrie implements PersonIndex {
+
+    private final Node root = new Node();
+
+    @Override
+    public void add(int ordinal, ReadOnlyPerson person) {
+        final Set<Node> wordNodes = new HashSet<>();
+        for (Node node : getPrefixNodes(person, true, wordNodes)) {
+            node.getOrdinals().add(ordinal);
+        }
+        for (Node node : wordNodes) {
+            node.getOrdinalsWithWord().add(ordinal);
+        }
+    }
+
+    @Override
+    public void remove(int ordinal, ReadOnlyPerson person) {
+        final Set<Node> wordNodes = new HashSet<>();
+        for (Node node : getPrefixNodes(person, false, wordNodes)) {
+            node.getOrdinals().remove(ordinal);
+        }
+        for (Node node : wordNodes) {
+            node.getOrdinalsWithWord().remove(ordinal);
+        }
+        for (String word : person.getName().getWordsInName()) {
+            prune(root, fold(word), 0);
+        }
+    }
+
+    @Override
+    public void clear() {
+        root.getChildren().clear();
+        root.getOrdinals().clear();
+    }
+
+    /**
+     * Returns the ordinals of the persons with a word in their name that starts with {@code prefix}, ignoring case.
+     * The returned bitmap must not be modified.
+     */
+    public CompressedBitmap getOrdinals(String prefix) {
+        final Node node = find(fold(prefix));
+        return node == null ? new CompressedBitmap() : node.getOrdinals();
+    }
+
+    /**
+     * Returns the ordinals of the persons with a word in their name equal to {@code word}, ignoring case.
+     * The returned bitmap must not be modified.
+     */
+    public CompressedBitmap getOrdinalsWithWord(String word) {
+        final Node node = find(fold(word));
+        return node == null ? new CompressedBitmap() : node.getOrdinalsWithWord();
+    }
+
+    /**
+     * Returns the ordinals of the persons with a word in their name that starts with any of {@code prefixes},
+     * ignoring case.
+     */
+    public CompressedBitmap getOrdinalsOfAny(Collection<String> prefixes) {
+        CompressedBitmap ordinals = new CompressedBitmap();
+        for (String prefix : prefixes) {
+            final Node node = find(fold(prefix));
+            if (node != null) {
+                ordinals = CompressedBitmap.or(ordinals, node.getOrdinals());
+            }
+        }
+        return ordinals;
+    }
+
+    /**
+     * Returns true if the name of {@code person} has a word that starts with any of {@code prefixes}, ignoring
+     * case, i.e. if the person is in the result of {@link #getOrdinalsOfAny(Collection)}.
+     */
+    public static boolean hasWordStartingWithAny(ReadOnlyPerson person, Collection<String> prefixes) {
+        for (String word : person.getName().getWordsInName()) {
+            final String foldedWord = fold(word);
+            for (String prefix : prefixes) {
+                if (foldedWord.startsWith(fold(prefix))) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Returns the case-folded form of {@code word} that is indexed.
+     */
+    public static String fold(String word) {
+        return word.toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * Returns the nodes of all prefixes of the words in the name of {@code person}, each node once even if
+     * several words share the prefix.
+     *
+     * @param isCreatingMissingNodes whether nodes not yet in the trie are created
+     * @param wordNodes to which the nodes of the whole words are added
+     */
+    private Set<Node> getPrefixNodes(ReadOnlyPerson person, boolean isCreatingMissingNodes, Set<Node> wordNodes) {
+        final Set<Node> nodes = new HashSet<>();
+        for (String word : person.getName().getWordsInName()) {
+            final String foldedWord = fold(word);
+            Node node = root;
+            for (int i = 0; i < foldedWord.length() && node != null; i++) {
+                node = isCreatingMissingNodes
+                        ? node.getChildren().computeIfAbsent(foldedWord.charAt(i), unused -> new Node())
+                        : node.getChildren().get(foldedWord.charAt(i));
+                if (node != null) {
+                    nodes.add(node);
+                }
+            }
+            if (node != null) {
+                wordNodes.add(node);
+            }
+        }
+        return nodes;
+    }
+
+    private Node find(String foldedPrefix) {
+        Node node = root;
+        for (int i = 0; i < foldedPrefix.length() && node != null; i++) {
+            node = node.getChildren().get(foldedPrefix.charAt(i));
+        }
+        return node;
+    }
+
+    /**
+     * Removes the nodes along {@code foldedWord}, starting below {@code node}, that no longer have any persons.
+     */
+    private static void prune(Node node, String foldedWord, int depth) {
+        if (depth == foldedWord.length()) {
+            return;
+        }
+        final Node child = node.getChildren().get(foldedWord.charAt(depth));
+        if (child == null) {
+            return;
+        }
+        if (child.getOrdinals().isEmpty()) {
+            node.getChildren().remove(foldedWord.charAt(depth));
+        } else {
+            prune(child, foldedWord, depth + 1);
+        }
+    }
+
+    /**
+     * A node of the trie, standing for the prefix spelt by the path from the root to it.
+     */
+    private static class Node {
+        private final Map<Character, Node> children = new HashMap<>();
+        /** Ordinals of the persons with a word that starts with the prefix of this node. */
+        private final CompressedBitmap ordinals = new CompressedBitmap();
+        /** Ordinals of the persons with a word that is exactly the prefix of this node. */
+        private final CompressedBitmap ordinalsWithWord = new CompressedBitmap();
+
+        Map<Character, Node> getChildren() {
+            return children;
+        }
+
+        CompressedBitmap getOrdinals() {
+            return ordinals;
+        }
+
+        CompressedBitmap getOrdinalsWithWord() {
+            return ordinalsWithWord;
+        }
+    }
+}
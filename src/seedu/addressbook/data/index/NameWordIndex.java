@@ -0,0 +1,74 @@
+package seedu.addressbook.data.index;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+
+import seedu.addressbook.data.person.ReadOnlyPerson;
+
+/**
+ * Indexes persons by the words in their names: maps every word (case-sensitive) to a compressed bitmap of the
+ * ordinals of the persons whose name contains it.
+ */
+public class NameWordIndex implements PersonIndex {
+
+    private final Map<String, CompressedBitmap> ordinalsByWord = new HashMap<>();
+
+    @Override
+    public void add(int ordinal, ReadOnlyPerson person) {
+        for (String word : person.getName().getWordsInName()) {
+            ordinalsByWord.computeIfAbsent(word, unused -> new CompressedBitmap()).add(ordinal);
+        }
+    }
+
+    @Override
+    public void remove(int ordinal, ReadOnlyPerson person) {
+        // a word repeated in the name is removed once
+        for (String word : new HashSet<>(person.getName().getWordsInName())) {
+            final CompressedBitmap ordinals = ordinalsByWord.get(word);
+            ordinals.remove(ordinal);
+            if (ordinals.isEmpty()) {
+                ordinalsByWord.remove(word);
+            }
+        }
+    }
+
+    @Override
+    public void clear() {
+        ordinalsByWord.clear();
+    }
+
+    /**
+     * Returns the ordinals of the persons whose name contains {@code word}.
+     * The returned bitmap must not be modified.
+     */
+    public CompressedBitmap getOrdinals(String word) {
+        return ordinalsByWord.getOrDefault(word, new CompressedBitmap());
+    }
+
+    /**
+     * Returns true if the name of {@code person} contains any of {@code words}, i.e. if the person is in the result
+     * of {@link #getOrdinalsOfAny(Collection)}.
+     */
+    public static boolean hasAnyWord(ReadOnlyPerson person, Collection<String> words) {
+        return !Collections.disjoint(person.getName().getWordsInName(), words);
+    }
+
+    /**
+     * Returns the ordinals of the persons whose name contains any of {@code words}.
+     * Only the entries of the given words are read, so the cost depends on the number of matches
+     * rather than on the number of persons indexed.
+     */
+    public CompressedBitmap getOrdinalsOfAny(Collection<String> words) {
+        CompressedBitmap ordinals = new CompressedBitmap();
+        for (String word : words) {
+            final CompressedBitmap ordinalsOfWord = ordinalsByWord.get(word);
+            if (ordinalsOfWord != null) {
+                ordinals = CompressedBitmap.or(ordinals, ordinalsOfWord);
+            }
+        }
+        return ordinals;
+    }
+}
@@ -0,0 +1,25 @@
+package seedu.addressbook.data.index;
+
+import seedu.addressbook.data.person.ReadOnlyPerson;
+
+/**
+ * A secondary index over the persons in an address book, keyed by person ordinal.
+ * The address book notifies its indexes of every change, so that they are maintained incrementally.
+ */
+public interface PersonIndex {
+
+    /**
+     * Records that {@code person} has been added with the given ordinal.
+     */
+    void add(int ordinal, ReadOnlyPerson person);
+
+    /**
+     * Records that {@code person}, previously added with the given ordinal, has been removed.
+     */
+    void remove(int ordinal, ReadOnlyPerson person);
+
+    /**
+     * Records that all persons have been removed.
+     */
+    void clear();
+}
@@ -0,0 +1,221 @@
+package seedu.addressbook.data.index;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import seedu.addressbook.common.Utils;
+import seedu.addressbook.data.person.ColumnarPersonStore;
+import seedu.addressbook.data.person.PersonIdentity;
+import seedu.addressbook.data.person.ReadOnlyPerson;
+import seedu.addressbook.data.query.PersonQuery;
+
+/**
+ * The secondary indexes of an address book, together with the person ordinals they are keyed by.
+ *
+ * Every person is given an ordinal when it is added. Ordinals are handed out in increasing order and are not
+ * reused while the person list is in use, so ascending ordinal order is the same as the order of the person list.
+ * When more than half the ordinals handed out belong to removed persons, the remaining persons are renumbered.
+ *
+ * The data of the indexed persons is copied into a {@link ColumnarPersonStore} at their ordinals, and the persons
+ * found are returned as flyweight views of it, so the indexes keep no objects per person.
+ */
+public class PersonIndexes {
+
+    /** Minimum number of ordinals of removed persons before the remaining persons are renumbered. */
+    private static final int MIN_REMOVED_ORDINALS_BEFORE_COMPACTION = 64;
+
+    /** Never compacted by itself: removing a person only marks its ordinal as removed there. */
+    private final ColumnarPersonStore personsByOrdinal = new ColumnarPersonStore();
+    private final CompressedBitmap allOrdinals = new CompressedBitmap();
+
+    private final TagIndex tagIndex = new TagIndex();
+    private final NameWordIndex nameWordIndex = new NameWordIndex();
+    private final NamePrefixTrie namePrefixTrie = new NamePrefixTrie();
+    private final TrigramIndex trigramIndex = new TrigramIndex();
+    private final PhoneticIndex phoneticIndex = new PhoneticIndex();
+    private final PhoneTrie phoneTrie = new PhoneTrie();
+    private final EmailIndex emailIndex = new EmailIndex();
+    private final List<PersonIndex> indexes =
+            Arrays.asList(tagIndex, nameWordIndex, namePrefixTrie, trigramIndex, phoneticIndex, phoneTrie, emailIndex);
+
+    /**
+     * Indexes {@code person}, which must not have the same identity as any person already indexed.
+     */
+    public void add(ReadOnlyPerson person) {
+        final int ordinal = personsByOrdinal.add(person);
+        allOrdinals.add(ordinal);
+        for (PersonIndex index : indexes) {
+            index.add(ordinal, person);
+        }
+    }
+
+    /**
+     * Removes the indexed person with the same identity as {@code person} from the indexes.
+     */
+    public void remove(ReadOnlyPerson person) {
+        final int ordinal = personsByOrdinal.getOrdinal(new PersonIdentity(person));
+        final ReadOnlyPerson indexedPerson = personsByOrdinal.get(ordinal);
+        personsByOrdinal.remove(ordinal);
+        allOrdinals.remove(ordinal);
+        for (PersonIndex index : indexes) {
+            index.remove(ordinal, indexedPerson);
+        }
+        compactIfSparse();
+    }
+
+    /**
+     * Removes all persons from the indexes.
+     */
+    public void clear() {
+        personsByOrdinal.clear();
+        allOrdinals.clear();
+        for (PersonIndex index : indexes) {
+            index.clear();
+        }
+    }
+
+    /**
+     * Replaces the contents of the indexes with {@code persons}, numbered in iteration order.
+     */
+    public void rebuild(Iterable<? extends ReadOnlyPerson> persons) {
+        clear();
+        for (ReadOnlyPerson person : persons) {
+            add(person);
+        }
+    }
+
+    /**
+     * Returns the ordinals of all indexed persons. The returned bitmap must not be modified.
+     */
+    public CompressedBitmap getAllOrdinals() {
+        return allOrdinals;
+    }
+
+    public TagIndex getTagIndex() {
+        return tagIndex;
+    }
+
+    public NameWordIndex getNameWordIndex() {
+        return nameWordIndex;
+    }
+
+    public NamePrefixTrie getNamePrefixTrie() {
+        return namePrefixTrie;
+    }
+
+    public PhoneticIndex getPhoneticIndex() {
+        return phoneticIndex;
+    }
+
+    public PhoneTrie getPhoneTrie() {
+        return phoneTrie;
+    }
+
+    public EmailIndex getEmailIndex() {
+        return emailIndex;
+    }
+
+    /**
+     * Returns the persons with a word in their name within a few edits of any of {@code keywords}, ignoring case,
+     * ranked by similarity: persons with a closer word come first, and persons that are equally close are in
+     * ordinal order. See {@link #getMaxEditDistance(String)} for the number of edits allowed.
+     *
+     * Candidates are taken from the trigram index, and the edit distance is only computed for them.
+     */
+    public List<ReadOnlyPerson> getPersonsWithNameSimilarTo(Collection<String> keywords) {
+        final Map<Integer, Integer> distancesByOrdinal = new HashMap<>();
+        for (String keyword : keywords) {
+            final String foldedKeyword = TrigramIndex.fold(keyword);
+            final int maxDistance = getMaxEditDistance(foldedKeyword);
+            trigramIndex.getCandidates(foldedKeyword, maxDistance).forEach(ordinal -> {
+                for (String word : personsByOrdinal.get(ordinal).getName().getWordsInName()) {
+                    final int distance = Utils.boundedEditDistance(foldedKeyword, TrigramIndex.fold(word), maxDistance);
+                    if (distance <= maxDistance) {
+                        distancesByOrdinal.merge(ordinal, distance, Math::min);
+                    }
+                }
+            });
+        }
+        final List<Map.Entry<Integer, Integer>> matches = new ArrayList<>(distancesByOrdinal.entrySet());
+        matches.sort(Comparator.comparing(Map.Entry<Integer, Integer>::getValue)
+                .thenComparing(Map.Entry::getKey));
+        final List<ReadOnlyPerson> persons = new ArrayList<>(matches.size());
+        for (Map.Entry<Integer, Integer> match : matches) {
+            persons.add(personsByOrdinal.get(match.getKey()));
+        }
+        return persons;
+    }
+
+    /**
+     * Returns true if the name of {@code person} has a word within a few edits of any of {@code keywords}, ignoring
+     * case, i.e. if the person is in the result of {@link #getPersonsWithNameSimilarTo(Collection)}.
+     */
+    public static boolean hasWordSimilarToAny(ReadOnlyPerson person, Collection<String> keywords) {
+        for (String keyword : keywords) {
+            final String foldedKeyword = TrigramIndex.fold(keyword);
+            final int maxDistance = getMaxEditDistance(foldedKeyword);
+            for (String word : person.getName().getWordsInName()) {
+                if (Utils.boundedEditDistance(foldedKeyword, TrigramIndex.fold(word), maxDistance) <= maxDistance) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Returns the number of edits by which a word may differ from {@code keyword} and still be similar:
+     * one for keywords of up to four letters, where two edits would match almost any short word, and two otherwise.
+     */
+    static int getMaxEditDistance(String keyword) {
+        return keyword.length() <= 4 ? 1 : 2;
+    }
+
+    /**
+     * Returns the person with the given ordinal, which must belong to an indexed person.
+     */
+    ReadOnlyPerson getPerson(int ordinal) {
+        return personsByOrdinal.get(ordinal);
+    }
+
+    /**
+     * Returns the persons for which {@code query} holds, in ordinal order, evaluated as planned by
+     * {@link #plan(PersonQuery)}.
+     */
+    public List<ReadOnlyPerson> getPersons(PersonQuery query) {
+        return getPersons(plan(query).execute());
+    }
+
+    /**
+     * Returns the plan for evaluating {@code query} with these indexes. The plan is only valid until the next change.
+     */
+    public QueryPlan plan(PersonQuery query) {
+        return QueryPlan.create(query, this);
+    }
+
+    /**
+     * Returns the persons with the given ordinals, in ordinal order.
+     */
+    public List<ReadOnlyPerson> getPersons(CompressedBitmap ordinals) {
+        final List<ReadOnlyPerson> persons = new ArrayList<>(ordinals.cardinality());
+        ordinals.forEach(ordinal -> persons.add(personsByOrdinal.get(ordinal)));
+        return persons;
+    }
+
+    /**
+     * Renumbers the indexed persons if most of the ordinals handed out belong to removed persons.
+     */
+    private void compactIfSparse() {
+        final int numberOfRemovedOrdinals = personsByOrdinal.getOrdinalCount() - personsByOrdinal.size();
+        if (numberOfRemovedOrdinals < MIN_REMOVED_ORDINALS_BEFORE_COMPACTION
+                || numberOfRemovedOrdinals <= personsByOrdinal.size()) {
+            return;
+        }
+        rebuild(getPersons(allOrdinals));
+    }
+}
@@ -0,0 +1,156 @@
+package seedu.addressbook.data.index;
+
+import seedu.addressbook.data.person.Phone;
+import seedu.addressbook.data.person.ReadOnlyPerson;
+
+/**
+ * Indexes persons by phone number, in a trie with one level per digit.
+ *
+ * Every node keeps a compressed bitmap of the ordinals of the persons whose number starts with the digits on the
+ * path to it, and the nodes where some number ends also keep a bitmap of the ordinals of those persons.
+ * A lookup reads one array slot per digit of the number, so it takes the same time however many persons are
+ * indexed.
+ *
+ * Private phone numbers are not indexed, so that a number cannot be used to find out who it belongs to.
+ */
+public class PhoneTrie implements PersonIndex {
+
+    private static final int RADIX = 10;
+
+    private final Node root = new Node();
+
+    @Override
+    public void add(int ordinal, ReadOnlyPerson person) {
+        final Phone phone = person.getPhone();
+        if (phone.isPrivate()) {
+            return;
+        }
+        Node node = root;
+        for (int i = 0; i < phone.value.length(); i++) {
+            final int digit = toDigit(phone.value.charAt(i));
+            if (node.getChildren()[digit] == null) {
+                node.getChildren()[digit] = new Node();
+            }
+            node = node.getChildren()[digit];
+            node.getOrdinalsWithPrefix().add(ordinal);
+        }
+        node.addOrdinalWithNumber(ordinal);
+    }
+
+    @Override
+    public void remove(int ordinal, ReadOnlyPerson person) {
+        final Phone phone = person.getPhone();
+        if (phone.isPrivate()) {
+            return;
+        }
+        Node node = root;
+        for (int i = 0; i < phone.value.length(); i++) {
+            final int digit = toDigit(phone.value.charAt(i));
+            final Node child = node.getChildren()[digit];
+            child.getOrdinalsWithPrefix().remove(ordinal);
+            if (child.getOrdinalsWithPrefix().isEmpty()) {
+                node.getChildren()[digit] = null;
+                return;
+            }
+            node = child;
+        }
+        node.removeOrdinalWithNumber(ordinal);
+    }
+
+    @Override
+    public void clear() {
+        for (int digit = 0; digit < RADIX; digit++) {
+            root.getChildren()[digit] = null;
+        }
+    }
+
+    /**
+     * Returns the ordinals of the persons whose public phone number is {@code number}.
+     * The returned bitmap must not be modified.
+     */
+    public CompressedBitmap getOrdinalsWithNumber(String number) {
+        final Node node = find(number);
+        return node == null || node.getOrdinalsWithNumber() == null
+                ? new CompressedBitmap()
+                : node.getOrdinalsWithNumber();
+    }
+
+    /**
+     * Returns the ordinals of the persons whose public phone number starts with {@code prefix}.
+     * The returned bitmap must not be modified.
+     */
+    public CompressedBitmap getOrdinalsWithPrefix(String prefix) {
+        final Node node = find(prefix);
+        return node == null || node == root ? new CompressedBitmap() : node.getOrdinalsWithPrefix();
+    }
+
+    /**
+     * Returns the node for {@code digits}, or null if no public phone number starts with them
+     * or {@code digits} is not a string of digits.
+     */
+    private Node find(String digits) {
+        Node node = root;
+        for (int i = 0; i < digits.length() && node != null; i++) {
+            final int digit = toDigit(digits.charAt(i));
+            if (digit < 0) {
+                return null;
+            }
+            node = node.getChildren()[digit];
+        }
+        return node;
+    }
+
+    /**
+     * Returns the value of {@code digitChar} if it is an ASCII digit, the only digits a valid phone number has
+     * (see {@link Phone#PHONE_VALIDATION_REGEX}), or -1 otherwise.
+     */
+    private static int toDigit(char digitChar) {
+        return digitChar >= '0' && digitChar <= '9' ? digitChar - '0' : -1;
+    }
+
+    /**
+     * A node of the trie, standing for the digits on the path from the root to it.
+     */
+    private static class Node {
+        private final Node[] children = new Node[RADIX];
+        /** Ordinals of the persons whose number starts with the digits of this node. */
+        private final CompressedBitmap ordinalsWithPrefix = new CompressedBitmap();
+        /**
+         * Ordinals of the persons whose number is exactly the digits of this node, or null if there are none;
+         * most nodes are only on the path to longer numbers, so the bitmap is only created when needed.
+         */
+        private CompressedBitmap ordinalsWithNumber;
+
+        /**
+         * Returns the children of this node by digit; may be modified.
+         */
+        Node[] getChildren() {
+            return children;
+        }
+
+        CompressedBitmap getOrdinalsWithPrefix() {
+            return ordinalsWithPrefix;
+        }
+
+        /**
+         * Returns the ordinals of the persons whose number ends at this node, or null if there are none.
+         */
+        CompressedBitmap getOrdinalsWithNumber() {
+            return ordinalsWithNumber;
+        }
+
+        void addOrdinalWithNumber(int ordinal) {
+            if (ordinalsWithNumber == null) {
+                ordinalsWithNumber = new CompressedBitmap();
+            }
+            ordinalsWithNumber.add(ordinal);
+        }
+
+        void removeOrdinalWithNumber(int ordinal) {
+            ordinalsWithNumber.remove(ordinal);
+            if (ordinalsWithNumber.isEmpty()) {
+                ordinalsWithNumber = null;
+            }
+        }
+    }
+}
@@ -0,0 +1,116 @@
+package seedu.addressbook.data.index;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+
+import seedu.addressbook.data.person.ReadOnlyPerson;
+
+/**
+ * Indexes persons by how the words in their names sound: maps the Soundex code of every word to a compressed
+ * bitmap of the ordinals of the persons whose name contains a word with that code.
+ *
+ * Soundex keeps the first letter of a word and encodes the following consonants as digits by where they are
+ * pronounced, so that words that sound alike, e.g. "Smith" and "Smyth", get the same code (S530). The codes of a
+ * person are computed once when the person is added, so a sound-alike search is a lookup per keyword.
+ */
+public class PhoneticIndex implements PersonIndex {
+
+    /** Length of a Soundex code: the first letter followed by three digits. */
+    public static final int CODE_LENGTH = 4;
+
+    /**
+     * Soundex digit of each letter from A to Z. Vowels (and Y) are '0', which separates consonants with the
+     * same digit. H and W are '-', which do not.
+     */
+    private static final String DIGITS = "0123012-02245501262301-202";
+
+    private final Map<String, CompressedBitmap> ordinalsByCode = new HashMap<>();
+
+    @Override
+    public void add(int ordinal, ReadOnlyPerson person) {
+        for (String word : person.getName().getWordsInName()) {
+            ordinalsByCode.computeIfAbsent(encode(word), unused -> new CompressedBitmap()).add(ordinal);
+        }
+    }
+
+    @Override
+    public void remove(int ordinal, ReadOnlyPerson person) {
+        for (String word : person.getName().getWordsInName()) {
+            final String code = encode(word);
+            final CompressedBitmap ordinals = ordinalsByCode.get(code);
+            // already removed if another word of the name has the same code
+            if (ordinals == null) {
+                continue;
+            }
+            ordinals.remove(ordinal);
+            if (ordinals.isEmpty()) {
+                ordinalsByCode.remove(code);
+            }
+        }
+    }
+
+    @Override
+    public void clear() {
+        ordinalsByCode.clear();
+    }
+
+    /**
+     * Returns the ordinals of the persons with a word in their name that has any of the Soundex {@code codes}.
+     */
+    public CompressedBitmap getOrdinalsOfAny(Collection<String> codes) {
+        CompressedBitmap ordinals = new CompressedBitmap();
+        for (String code : codes) {
+            final CompressedBitmap ordinalsOfCode = ordinalsByCode.get(code);
+            if (ordinalsOfCode != null) {
+                ordinals = CompressedBitmap.or(ordinals, ordinalsOfCode);
+            }
+        }
+        return ordinals;
+    }
+
+    /**
+     * Returns true if a word in the name of {@code person} has any of the Soundex {@code codes}, i.e. if the
+     * person is in the result of {@link #getOrdinalsOfAny(Collection)}.
+     */
+    public static boolean hasWordWithAnyCode(ReadOnlyPerson person, Collection<String> codes) {
+        for (String word : person.getName().getWordsInName()) {
+            if (codes.contains(encode(word))) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Returns the Soundex code of {@code word}, ignoring case and any characters other than the letters A to Z,
+     * or null if {@code word} has no such letters.
+     */
+    public static String encode(String word) {
+        final StringBuilder code = new StringBuilder(CODE_LENGTH);
+        char previousDigit = 0;
+        for (int i = 0; i < word.length() && code.length() < CODE_LENGTH; i++) {
+            final char letter = Character.toUpperCase(word.charAt(i));
+            if (letter < 'A' || letter > 'Z') {
+                continue;
+            }
+            final char digit = DIGITS.charAt(letter - 'A');
+            if (code.length() == 0) {
+                code.append(letter);
+                previousDigit = digit;
+            } else if (digit == '0') {
+                previousDigit = digit;
+            } else if (digit != '-' && digit != previousDigit) {
+                code.append(digit);
+                previousDigit = digit;
+            }
+        }
+        if (code.length() == 0) {
+            return null;
+        }
+        while (code.length() < CODE_LENGTH) {
+            code.append('0');
+        }
+        return code.toString();
+    }
+}
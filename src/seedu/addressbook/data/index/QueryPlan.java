@@ -0,0 +1,318 @@
+package seedu.addressbook.data.index;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import seedu.addressbook.data.query.PersonQuery;
+import seedu.addressbook.data.tag.Tag;
+
+/**
+ * A plan for evaluating a {@link PersonQuery} with the secondary indexes of an address book.
+ *
+ * Conditions that an index can answer are looked up in it, and the number of persons in each posting list is
+ * used as the estimate of how selective the condition is. The conditions of an {@code AND} are intersected from
+ * the most to the least selective, starting from the cheapest driving index, negated conditions are subtracted
+ * afterwards, and conditions without an index are only tested on the remaining candidates. A full scan is only
+ * used when no index can narrow down the candidates.
+ *
+ * A plan reads the live indexes, so it must be created and executed without the indexes changing in between.
+ */
+public abstract class QueryPlan {
+
+    private static final String INDENT = "  ";
+
+    /**
+     * Plans the evaluation of {@code query} with {@code indexes}.
+     */
+    static QueryPlan create(PersonQuery query, PersonIndexes indexes) {
+        return query.accept(new Planner(indexes));
+    }
+
+    /**
+     * Returns the estimated number of persons this plan selects. Never less than the actual number.
+     */
+    abstract int estimate();
+
+    /**
+     * Returns the ordinals of the persons for which the planned query holds.
+     * The returned bitmap must not be modified.
+     */
+    abstract CompressedBitmap execute();
+
+    /**
+     * Appends a description of this plan to {@code builder}, one line per step, each indented by {@code indent}.
+     */
+    abstract void describe(StringBuilder builder, String indent);
+
+    /**
+     * Returns a description of the plan, one line per step, with the steps of each operation indented below it.
+     */
+    @Override
+    public String toString() {
+        final StringBuilder builder = new StringBuilder();
+        describe(builder, "");
+        return builder.toString().trim();
+    }
+
+    /**
+     * Looks up one condition in an index.
+     */
+    private static class IndexLookup extends QueryPlan {
+        private final String indexName;
+        private final PersonQuery condition;
+        private final CompressedBitmap ordinals;
+
+        IndexLookup(String indexName, PersonQuery condition, CompressedBitmap ordinals) {
+            this.indexName = indexName;
+            this.condition = condition;
+            this.ordinals = ordinals;
+        }
+
+        @Override
+        int estimate() {
+            return ordinals.cardinality();
+        }
+
+        @Override
+        CompressedBitmap execute() {
+            return ordinals;
+        }
+
+        @Override
+        void describe(StringBuilder builder, String indent) {
+            builder.append(indent).append("INDEX ").append(indexName).append(" ").append(condition)
+                    .append(" (").append(estimate()).append(" persons)\n");
+        }
+    }
+
+    /**
+     * Tests a condition on every person.
+     */
+    private static class Scan extends QueryPlan {
+        private final PersonQuery condition;
+        private final PersonIndexes indexes;
+
+        Scan(PersonQuery condition, PersonIndexes indexes) {
+            this.condition = condition;
+            this.indexes = indexes;
+        }
+
+        @Override
+        int estimate() {
+            return indexes.getAllOrdinals().cardinality();
+        }
+
+        @Override
+        CompressedBitmap execute() {
+            return filter(indexes.getAllOrdinals(), condition, indexes);
+        }
+
+        @Override
+        void describe(StringBuilder builder, String indent) {
+            builder.append(indent).append("SCAN all ").append(estimate()).append(" persons for ").append(condition)
+                    .append("\n");
+        }
+    }
+
+    /**
+     * Intersects the results of the driving plans, subtracts those of the excluded plans, and tests the
+     * remaining conditions on the persons left.
+     */
+    private static class Intersect extends QueryPlan {
+        /** Ordered from the most to the least selective. */
+        private final List<QueryPlan> drivers;
+        private final List<QueryPlan> exclusions;
+        private final List<PersonQuery> residualConditions;
+        private final PersonIndexes indexes;
+
+        Intersect(List<QueryPlan> drivers, List<QueryPlan> exclusions, List<PersonQuery> residualConditions,
+                  PersonIndexes indexes) {
+            this.drivers = drivers;
+            this.exclusions = exclusions;
+            this.residualConditions = residualConditions;
+            this.indexes = indexes;
+        }
+
+        @Override
+        int estimate() {
+            return drivers.isEmpty() ? indexes.getAllOrdinals().cardinality() : drivers.get(0).estimate();
+        }
+
+        @Override
+        CompressedBitmap execute() {
+            CompressedBitmap candidates = drivers.isEmpty() ? indexes.getAllOrdinals() : drivers.get(0).execute();
+            for (int i = 1; i < drivers.size() && !candidates.isEmpty(); i++) {
+                candidates = CompressedBitmap.and(candidates, drivers.get(i).execute());
+            }
+            for (int i = 0; i < exclusions.size() && !candidates.isEmpty(); i++) {
+                candidates = CompressedBitmap.andNot(candidates, exclusions.get(i).execute());
+            }
+            for (PersonQuery condition : residualConditions) {
+                candidates = filter(candidates, condition, indexes);
+            }
+            return candidates;
+        }
+
+        @Override
+        void describe(StringBuilder builder, String indent) {
+            builder.append(indent).append("INTERSECT (at most ").append(estimate()).append(" persons)\n");
+            if (drivers.isEmpty()) {
+                builder.append(indent).append(INDENT).append("ALL ").append(estimate()).append(" persons\n");
+            }
+            for (QueryPlan driver : drivers) {
+                driver.describe(builder, indent + INDENT);
+            }
+            for (QueryPlan exclusion : exclusions) {
+                builder.append(indent).append(INDENT).append("MINUS\n");
+                exclusion.describe(builder, indent + INDENT + INDENT);
+            }
+            for (PersonQuery condition : residualConditions) {
+                builder.append(indent).append(INDENT).append("FILTER candidates for ").append(condition).append("\n");
+            }
+        }
+    }
+
+    /**
+     * Unites the results of several plans.
+     */
+    private static class Union extends QueryPlan {
+        private final List<QueryPlan> operands;
+        private final PersonIndexes indexes;
+
+        Union(List<QueryPlan> operands, PersonIndexes indexes) {
+            this.operands = operands;
+            this.indexes = indexes;
+        }
+
+        @Override
+        int estimate() {
+            final long sum = operands.stream().mapToLong(QueryPlan::estimate).sum();
+            return (int) Math.min(sum, indexes.getAllOrdinals().cardinality());
+        }
+
+        @Override
+        CompressedBitmap execute() {
+            CompressedBitmap result = new CompressedBitmap();
+            for (QueryPlan operand : operands) {
+                result = CompressedBitmap.or(result, operand.execute());
+            }
+            return result;
+        }
+
+        @Override
+        void describe(StringBuilder builder, String indent) {
+            builder.append(indent).append("UNION (at most ").append(estimate()).append(" persons)\n");
+            for (QueryPlan operand : operands) {
+                operand.describe(builder, indent + INDENT);
+            }
+        }
+    }
+
+    /**
+     * Returns the ordinals in {@code candidates} of the persons for which {@code condition} holds.
+     * Large sets of candidates are tested in parallel, see {@link PersonQuery#PARALLEL_THRESHOLD}.
+     */
+    private static CompressedBitmap filter(CompressedBitmap candidates, PersonQuery condition,
+                                           PersonIndexes indexes) {
+        final IntStream ordinals = IntStream.of(candidates.toArray());
+        final IntStream matches = candidates.cardinality() < PersonQuery.PARALLEL_THRESHOLD
+                ? ordinals.filter(ordinal -> condition.test(indexes.getPerson(ordinal)))
+                : ordinals.parallel().filter(ordinal -> condition.test(indexes.getPerson(ordinal)));
+        return CompressedBitmap.of(matches.toArray());
+    }
+
+    /**
+     * Plans each kind of query. Conditions without an index, and operations with such a condition that cannot be
+     * narrowed down by an index, are planned as a {@link Scan}.
+     */
+    private static class Planner implements PersonQuery.Visitor<QueryPlan> {
+        private final PersonIndexes indexes;
+
+        Planner(PersonIndexes indexes) {
+            this.indexes = indexes;
+        }
+
+        @Override
+        public QueryPlan visitNameHasWord(PersonQuery query, String word) {
+            return new IndexLookup("name word", query, indexes.getNamePrefixTrie().getOrdinalsWithWord(word));
+        }
+
+        @Override
+        public QueryPlan visitPhoneStartsWith(PersonQuery query, String digits) {
+            return new IndexLookup("phone", query, indexes.getPhoneTrie().getOrdinalsWithPrefix(digits));
+        }
+
+        @Override
+        public QueryPlan visitEmailAtDomain(PersonQuery query, String domain) {
+            return new IndexLookup("email domain", query, indexes.getEmailIndex().getOrdinalsAtDomain(domain));
+        }
+
+        @Override
+        public QueryPlan visitAddressContains(PersonQuery query, String text) {
+            return new Scan(query, indexes);
+        }
+
+        @Override
+        public QueryPlan visitHasTag(PersonQuery query, Tag tag) {
+            return new IndexLookup("tag", query, indexes.getTagIndex().getOrdinals(tag));
+        }
+
+        @Override
+        public QueryPlan visitHasUnknownTag(PersonQuery query, String tagName) {
+            return new IndexLookup("tag", query, new CompressedBitmap());
+        }
+
+        @Override
+        public QueryPlan visitAnd(PersonQuery query, List<PersonQuery> operands) {
+            final List<QueryPlan> drivers = new ArrayList<>();
+            final List<QueryPlan> exclusions = new ArrayList<>();
+            final List<PersonQuery> residualConditions = new ArrayList<>();
+            for (PersonQuery operand : operands) {
+                final QueryPlan plan = operand.accept(this);
+                if (plan instanceof Scan) {
+                    residualConditions.add(operand);
+                } else if (plan instanceof Intersect && ((Intersect) plan).drivers.isEmpty()
+                        && ((Intersect) plan).residualConditions.isEmpty()) {
+                    // a negation: subtract the negated condition instead of intersecting with its complement
+                    exclusions.addAll(((Intersect) plan).exclusions);
+                } else {
+                    drivers.add(plan);
+                }
+            }
+            if (drivers.isEmpty() && exclusions.isEmpty()) {
+                return new Scan(query, indexes);
+            }
+            drivers.sort(Comparator.comparingInt(QueryPlan::estimate));
+            exclusions.sort(Comparator.comparingInt(QueryPlan::estimate).reversed());
+            return new Intersect(drivers, exclusions, residualConditions, indexes);
+        }
+
+        @Override
+        public QueryPlan visitOr(PersonQuery query, List<PersonQuery> operands) {
+            final List<QueryPlan> plans = new ArrayList<>();
+            for (PersonQuery operand : operands) {
+                final QueryPlan plan = operand.accept(this);
+                if (plan instanceof Scan) {
+                    // every person has to be tested anyway, so test the whole condition in a single pass
+                    return new Scan(query, indexes);
+                }
+                plans.add(plan);
+            }
+            plans.sort(Comparator.comparingInt(QueryPlan::estimate));
+            return new Union(plans, indexes);
+        }
+
+        @Override
+        public QueryPlan visitNot(PersonQuery query, PersonQuery negated) {
+            final QueryPlan plan = negated.accept(this);
+            if (plan instanceof Scan) {
+                return new Scan(query, indexes);
+            }
+            final List<QueryPlan> exclusions = new ArrayList<>();
+            exclusions.add(plan);
+            return new Intersect(new ArrayList<>(), exclusions, new ArrayList<>(), indexes);
+        }
+    }
+}
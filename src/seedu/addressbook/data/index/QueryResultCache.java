@@ -0,0 +1,172 @@
+package seedu.addressbook.data.index;
+
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.TreeSet;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+
+import seedu.addressbook.data.person.ReadOnlyPerson;
+
+/**
+ * A bounded cache of query results, evicting the least recently used result when full.
+ *
+ * Every result is stored with a predicate that tells whether a person is in the result. When a person is added
+ * or removed, only the results that would contain that person are invalidated, since all other results are
+ * unchanged by the change. Safe for use by several threads: a result is computed outside the lock of the cache,
+ * so queries that miss run in parallel, and a result is only cached if nothing was invalidated while it was
+ * being computed.
+ */
+public class QueryResultCache {
+
+    public static final int DEFAULT_CAPACITY = 128;
+
+    private final int capacity;
+    private final Map<Key, CachedResult> entries;
+    private long hitCount;
+    private long missCount;
+    /** Incremented on every invalidation, so that results computed before it are not cached after it. */
+    private long generation;
+
+    public QueryResultCache() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    /**
+     * @param capacity maximum number of results kept
+     */
+    public QueryResultCache(int capacity) {
+        this.capacity = capacity;
+        this.entries = new LinkedHashMap<Key, CachedResult>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Key, CachedResult> eldest) {
+                return size() > QueryResultCache.this.capacity;
+            }
+        };
+    }
+
+    /**
+     * Returns the cached result of the query identified by {@code key}, computing and caching it with
+     * {@code query} if it is not cached.
+     *
+     * @param containsPerson tells whether a person is in the result, i.e. whether adding or removing the person
+     *                       changes the result
+     * @return an unmodifiable list of the persons in the result
+     */
+    public List<ReadOnlyPerson> get(Key key, Supplier<List<ReadOnlyPerson>> query,
+                                    Predicate<ReadOnlyPerson> containsPerson) {
+        final long generationAtMiss;
+        synchronized (this) {
+            final CachedResult cached = entries.get(key);
+            if (cached != null) {
+                hitCount++;
+                return cached.getResult();
+            }
+            missCount++;
+            generationAtMiss = generation;
+        }
+        final List<ReadOnlyPerson> result = Collections.unmodifiableList(query.get());
+        synchronized (this) {
+            if (generation == generationAtMiss) {
+                entries.put(key, new CachedResult(result, containsPerson));
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Invalidates the cached results affected by adding or removing {@code person}.
+     */
+    public synchronized void invalidate(ReadOnlyPerson person) {
+        generation++;
+        final Iterator<CachedResult> iterator = entries.values().iterator();
+        while (iterator.hasNext()) {
+            if (iterator.next().containsPerson(person)) {
+                iterator.remove();
+            }
+        }
+    }
+
+    /**
+     * Invalidates all cached results.
+     */
+    public synchronized void clear() {
+        generation++;
+        entries.clear();
+    }
+
+    public synchronized int size() {
+        return entries.size();
+    }
+
+    /**
+     * Returns the number of queries answered from the cache.
+     */
+    public synchronized long getHitCount() {
+        return hitCount;
+    }
+
+    /**
+     * Returns the number of queries that had to be computed.
+     */
+    public synchronized long getMissCount() {
+        return missCount;
+    }
+
+    /**
+     * Identifies a query by its kind and its normalized terms: the order and repetition of terms do not matter.
+     */
+    public static class Key {
+        private final String kind;
+        private final TreeSet<String> terms;
+
+        public Key(String kind, Iterable<String> terms) {
+            this.kind = kind;
+            this.terms = new TreeSet<>();
+            terms.forEach(this.terms::add);
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            return other == this // short circuit if same object
+                    || (other instanceof Key // instanceof handles nulls
+                    && this.kind.equals(((Key) other).kind)
+                    && this.terms.equals(((Key) other).terms));
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(kind, terms);
+        }
+
+        @Override
+        public String toString() {
+            return kind + " " + terms;
+        }
+    }
+
+    /**
+     * A cached result, with the predicate that tells whether a person is in it.
+     */
+    private static class CachedResult {
+        private final List<ReadOnlyPerson> result;
+        private final Predicate<ReadOnlyPerson> containsPerson;
+
+        CachedResult(List<ReadOnlyPerson> result, Predicate<ReadOnlyPerson> containsPerson) {
+            this.result = result;
+            this.containsPerson = containsPerson;
+        }
+
+        List<ReadOnlyPerson> getResult() {
+            return result;
+        }
+
+        boolean containsPerson(ReadOnlyPerson person) {
+            return containsPerson.test(person);
+        }
+    }
+}
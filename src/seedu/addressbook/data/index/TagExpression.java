@@ -0,0 +1,154 @@
+package seedu.addressbook.data.index;
+
+import seedu.addressbook.data.tag.Tag;
+
+/**
+ * A boolean expression over tags, e.g. {@code friends AND NOT colleagues}, that selects the persons for which
+ * it holds. Evaluated by combining the bitmaps of a {@link TagIndex}, without looking at any person.
+ * Guarantees: immutable.
+ */
+public abstract class TagExpression {
+
+    /**
+     * Returns the ordinals of the persons for which this expression holds.
+     * The returned bitmap must not be modified.
+     *
+     * @param allOrdinals the ordinals of all persons, used to evaluate negations
+     */
+    public abstract CompressedBitmap evaluate(TagIndex index, CompressedBitmap allOrdinals);
+
+    /**
+     * Returns an expression that holds for persons with the given tag.
+     */
+    public static TagExpression hasTag(Tag tag) {
+        return new HasTag(tag);
+    }
+
+    /**
+     * Returns an expression that holds for nobody, for a tag name that is not the name of any tag, see
+     * {@link Tag#find(String)}.
+     */
+    public static TagExpression hasUnknownTag(String tagName) {
+        return new HasUnknownTag(tagName);
+    }
+
+    /**
+     * Returns an expression that holds if both {@code first} and {@code second} hold.
+     */
+    public static TagExpression and(TagExpression first, TagExpression second) {
+        return new And(first, second);
+    }
+
+    /**
+     * Returns an expression that holds if {@code first} or {@code second} holds, or both.
+     */
+    public static TagExpression or(TagExpression first, TagExpression second) {
+        return new Or(first, second);
+    }
+
+    /**
+     * Returns an expression that holds if {@code negated} does not hold.
+     */
+    public static TagExpression not(TagExpression negated) {
+        return new Not(negated);
+    }
+
+    private static class HasTag extends TagExpression {
+        private final Tag tag;
+
+        HasTag(Tag tag) {
+            this.tag = tag;
+        }
+
+        @Override
+        public CompressedBitmap evaluate(TagIndex index, CompressedBitmap allOrdinals) {
+            return index.getOrdinals(tag);
+        }
+
+        @Override
+        public String toString() {
+            return tag.tagName;
+        }
+    }
+
+    private static class HasUnknownTag extends TagExpression {
+        private final String tagName;
+
+        HasUnknownTag(String tagName) {
+            this.tagName = tagName;
+        }
+
+        @Override
+        public CompressedBitmap evaluate(TagIndex index, CompressedBitmap allOrdinals) {
+            return new CompressedBitmap();
+        }
+
+        @Override
+        public String toString() {
+            return tagName;
+        }
+    }
+
+    private static class And extends TagExpression {
+        private final TagExpression first;
+        private final TagExpression second;
+
+        And(TagExpression first, TagExpression second) {
+            this.first = first;
+            this.second = second;
+        }
+
+        @Override
+        public CompressedBitmap evaluate(TagIndex index, CompressedBitmap allOrdinals) {
+            final CompressedBitmap firstOrdinals = first.evaluate(index, allOrdinals);
+            // subtract negated operands directly instead of intersecting with their complement
+            if (second instanceof Not) {
+                return CompressedBitmap.andNot(firstOrdinals, ((Not) second).negated.evaluate(index, allOrdinals));
+            }
+            return CompressedBitmap.and(firstOrdinals, second.evaluate(index, allOrdinals));
+        }
+
+        @Override
+        public String toString() {
+            return "(" + first + " AND " + second + ")";
+        }
+    }
+
+    private static class Or extends TagExpression {
+        private final TagExpression first;
+        private final TagExpression second;
+
+        Or(TagExpression first, TagExpression second) {
+            this.first = first;
+            this.second = second;
+        }
+
+        @Override
+        public CompressedBitmap evaluate(TagIndex index, CompressedBitmap allOrdinals) {
+            return CompressedBitmap.or(first.evaluate(index, allOrdinals), second.evaluate(index, allOrdinals));
+        }
+
+        @Override
+        public String toString() {
+            return "(" + first + " OR " + second + ")";
+        }
+    }
+
+    private static class Not extends TagExpression {
+        private final TagExpression negated;
+
+        Not(TagExpression negated) {
+            this.negated = negated;
+        }
+
+        @Override
+        public CompressedBitmap evaluate(TagIndex index, CompressedBitmap allOrdinals) {
+            return CompressedBitmap.andNot(allOrdinals, negated.evaluate(index, allOrdinals));
+        }
+
+        @Override
+        public String toString() {
+            return "NOT " + negated;
+        }
+    }
+}
@@ -0,0 +1,51 @@
+package seedu.addressbook.data.index;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import seedu.addressbook.data.person.ReadOnlyPerson;
+import seedu.addressbook.data.tag.Tag;
+
+/**
+ * Indexes persons by tag: maps the id of every tag to a compressed bitmap of the ordinals of the persons
+ * that have the tag.
+ */
+public class TagIndex implements PersonIndex {
+
+    /** Ordinals of the persons with each tag, by tag id. Null for tags nobody has had. */
+    private final List<CompressedBitmap> ordinalsByTagId = new ArrayList<>();
+
+    @Override
+    public void add(int ordinal, ReadOnlyPerson person) {
+        for (Tag tag : person.getTags()) {
+            while (ordinalsByTagId.size() <= tag.getId()) {
+                ordinalsByTagId.add(null);
+            }
+            if (ordinalsByTagId.get(tag.getId()) == null) {
+                ordinalsByTagId.set(tag.getId(), new CompressedBitmap());
+            }
+            ordinalsByTagId.get(tag.getId()).add(ordinal);
+        }
+    }
+
+    @Override
+    public void remove(int ordinal, ReadOnlyPerson person) {
+        for (Tag tag : person.getTags()) {
+            ordinalsByTagId.get(tag.getId()).remove(ordinal);
+        }
+    }
+
+    @Override
+    public void clear() {
+        ordinalsByTagId.clear();
+    }
+
+    /**
+     * Returns the ordinals of the persons that have {@code tag}.
+     * The returned bitmap must not be modified.
+     */
+    public CompressedBitmap getOrdinals(Tag tag) {
+        final boolean isTagIndexed = tag.getId() < ordinalsByTagId.size() && ordinalsByTagId.get(tag.getId()) != null;
+        return isTagIndexed ? ordinalsByTagId.get(tag.getId()) : new CompressedBitmap();
+    }
+}
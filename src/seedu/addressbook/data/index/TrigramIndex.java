@@ -0,0 +1,140 @@
+package seedu.addressbook.data.index;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+
+import seedu.addressbook.data.person.ReadOnlyPerson;
+
+/**
+ * Indexes persons by the trigrams (substrings of three characters) of the words in their names, ignoring case.
+ * Words are padded with {@link #PADDING} before they are split, so a word of length n has n + 2 trigrams and
+ * even words of one or two letters have some.
+ *
+ * Used to generate candidates for fuzzy search: a word within edit distance k of a keyword shares at least
+ * (number of trigrams of the keyword) - 3k of its trigrams, as each edit destroys at most three trigrams.
+ * For short keywords that bound is not positive, e.g. "a" and "b" share no trigram, so the persons are also
+ * indexed by the lengths of the words in their names: a word within k edits of a keyword differs in length from
+ * it by at most k.
+ */
+public class TrigramIndex implements PersonIndex {
+
+    private static final int GRAM_LENGTH = 3;
+    private static final String PADDING = "$$";
+
+    private final Map<String, CompressedBitmap> ordinalsByTrigram = new HashMap<>();
+    private final Map<Integer, CompressedBitmap> ordinalsByWordLength = new HashMap<>();
+
+    @Override
+    public void add(int ordinal, ReadOnlyPerson person) {
+        for (String trigram : getTrigramsInName(person)) {
+            ordinalsByTrigram.computeIfAbsent(trigram, unused -> new CompressedBitmap()).add(ordinal);
+        }
+        for (int length : getWordLengthsInName(person)) {
+            ordinalsByWordLength.computeIfAbsent(length, unused -> new CompressedBitmap()).add(ordinal);
+        }
+    }
+
+    @Override
+    public void remove(int ordinal, ReadOnlyPerson person) {
+        for (String trigram : getTrigramsInName(person)) {
+            final CompressedBitmap ordinals = ordinalsByTrigram.get(trigram);
+            ordinals.remove(ordinal);
+            if (ordinals.isEmpty()) {
+                ordinalsByTrigram.remove(trigram);
+            }
+        }
+        for (int length : getWordLengthsInName(person)) {
+            final CompressedBitmap ordinals = ordinalsByWordLength.get(length);
+            ordinals.remove(ordinal);
+            if (ordinals.isEmpty()) {
+                ordinalsByWordLength.remove(length);
+            }
+        }
+    }
+
+    @Override
+    public void clear() {
+        ordinalsByTrigram.clear();
+        ordinalsByWordLength.clear();
+    }
+
+    /**
+     * Returns the ordinals of the persons that may have a word in their name within {@code maxDistance} edits of
+     * {@code keyword}, ignoring case. Every such person is included, but some of the persons returned may not
+     * be within the distance, so the candidates must still be verified.
+     * Only the entries of the trigrams of {@code keyword} are read, or if too few of its trigrams need to be
+     * shared, the entries of the word lengths within {@code maxDistance} of its length.
+     */
+    public CompressedBitmap getCandidates(String keyword, int maxDistance) {
+        final String foldedKeyword = fold(keyword);
+        final Set<String> trigrams = getTrigrams(foldedKeyword);
+        final int minSharedTrigrams = trigrams.size() - GRAM_LENGTH * maxDistance;
+        if (minSharedTrigrams <= 0) {
+            return getOrdinalsWithWordLengthWithin(foldedKeyword.length(), maxDistance);
+        }
+        final Map<Integer, Integer> sharedTrigramCounts = new HashMap<>();
+        for (String trigram : trigrams) {
+            final CompressedBitmap ordinals = ordinalsByTrigram.get(trigram);
+            if (ordinals != null) {
+                ordinals.forEach(ordinal -> sharedTrigramCounts.merge(ordinal, 1, Integer::sum));
+            }
+        }
+        final CompressedBitmap candidates = new CompressedBitmap();
+        sharedTrigramCounts.forEach((ordinal, count) -> {
+            if (count >= minSharedTrigrams) {
+                candidates.add(ordinal);
+            }
+        });
+        return candidates;
+    }
+
+    /**
+     * Returns the ordinals of the persons with a word in their name whose length differs from {@code length} by at
+     * most {@code maxDifference}.
+     */
+    private CompressedBitmap getOrdinalsWithWordLengthWithin(int length, int maxDifference) {
+        CompressedBitmap ordinals = new CompressedBitmap();
+        for (int wordLength = length - maxDifference; wordLength <= length + maxDifference; wordLength++) {
+            final CompressedBitmap ordinalsWithLength = ordinalsByWordLength.get(wordLength);
+            if (ordinalsWithLength != null) {
+                ordinals = CompressedBitmap.or(ordinals, ordinalsWithLength);
+            }
+        }
+        return ordinals;
+    }
+
+    /**
+     * Returns the case-folded form of {@code word} that is indexed.
+     */
+    public static String fold(String word) {
+        return word.toLowerCase(Locale.ROOT);
+    }
+
+    private static Set<String> getTrigramsInName(ReadOnlyPerson person) {
+        final Set<String> trigrams = new HashSet<>();
+        for (String word : person.getName().getWordsInName()) {
+            trigrams.addAll(getTrigrams(fold(word)));
+        }
+        return trigrams;
+    }
+
+    private static Set<Integer> getWordLengthsInName(ReadOnlyPerson person) {
+        final Set<Integer> lengths = new HashSet<>();
+        for (String word : person.getName().getWordsInName()) {
+            lengths.add(fold(word).length());
+        }
+        return lengths;
+    }
+
+    private static Set<String> getTrigrams(String foldedWord) {
+        final String paddedWord = PADDING + foldedWord + PADDING;
+        final Set<String> trigrams = new HashSet<>();
+        for (int i = 0; i + GRAM_LENGTH <= paddedWord.length(); i++) {
+            trigrams.add(paddedWord.substring(i, i + GRAM_LENGTH));
+        }
+        return trigrams;
+    }
+}
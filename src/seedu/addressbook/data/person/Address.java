@@ -29,6 +29,16 @@ public class Address {
         this.value = trimmedAddress;
     }
 
+    /**
+     * Does not validate the value; see {@link #fromValidated(String, boolean)}.
+     *
+     * @param isValidated only tells this constructor apart from the validating one
+     */
+    private Address(String validatedValue, boolean isPrivate, boolean isValidated) {
+        this.value = validatedValue;
+        this.isPrivate = isPrivate;
+    }
+
     /**
      * Returns true if a given string is a valid person address.
      */
@@ -36,6 +46,13 @@ public class Address {
         return test.matches(ADDRESS_VALIDATION_REGEX);
     }
 
+    /**
+     * Returns an address with a value that was validated when it was first stored, without validating it again.
+     */
+    static Address fromValidated(String validatedValue, boolean isPrivate) {
+        return new Address(validatedValue, isPrivate, true);
+    }
+
     @Override
     public String toString() {
         return value;
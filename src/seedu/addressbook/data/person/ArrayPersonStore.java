@@ -0,0 +1,100 @@
+package seedu.addressbook.data.person;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * A {@link PersonStore} backed by an array list and a hash index.
+ * Snapshots share both structures until either store is modified, at which point the modified store
+ * copies them (copy-on-write). Lookups take constant time; the first write after a snapshot takes linear time.
+ */
+class ArrayPersonStore implements PersonStore {
+
+    private List<Person> internalList = new ArrayList<>();
+
+    /** Index of every person in {@link #internalList}, keyed by identity. */
+    private Map<PersonIdentity, Person> identityIndex = new HashMap<>();
+
+    /**
+     * True if {@link #internalList} and {@link #identityIndex} may be referenced by another store.
+     * Shared structures are never modified; they are copied on the first write instead.
+     */
+    private boolean isShared;
+
+    ArrayPersonStore() {}
+
+    /**
+     * Constructs an empty store with room for {@code expectedSize} persons before any resizing.
+     */
+    ArrayPersonStore(int expectedSize) {
+        internalList = new ArrayList<>(expectedSize);
+        identityIndex = new HashMap<>(expectedSize * 4 / 3 + 1);
+    }
+
+    @Override
+    public Person get(PersonIdentity identity) {
+        return identityIndex.get(identity);
+    }
+
+    @Override
+    public void add(PersonIdentity identity, Person person) {
+        copyIfShared();
+        identityIndex.put(identity, person);
+        internalList.add(person);
+    }
+
+    @Override
+    public void remove(PersonIdentity identity, Person person) {
+        copyIfShared();
+        identityIndex.remove(identity);
+        internalList.remove(person);
+    }
+
+    @Override
+    public void clear() {
+        if (isShared) {
+            internalList = new ArrayList<>();
+            identityIndex = new HashMap<>();
+            isShared = false;
+            return;
+        }
+        internalList.clear();
+        identityIndex.clear();
+    }
+
+    @Override
+    public int size() {
+        return internalList.size();
+    }
+
+    @Override
+    public PersonStore snapshot() {
+        final ArrayPersonStore copy = new ArrayPersonStore();
+        copy.internalList = internalList;
+        copy.identityIndex = identityIndex;
+        copy.isShared = true;
+        isShared = true;
+        return copy;
+    }
+
+    @Override
+    public List<Person> asList() {
+        return Collections.unmodifiableList(internalList);
+    }
+
+    /**
+     * Gives this store its own copy of the internal structures if they may be shared with another store.
+     * Must be called before every modification of the internal structures.
+     */
+    private void copyIfShared() {
+        if (!isShared) {
+            return;
+        }
+        internalList = new ArrayList<>(internalList);
+        identityIndex = new HashMap<>(identityIndex);
+        isShared = false;
+    }
+}
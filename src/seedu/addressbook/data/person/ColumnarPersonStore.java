@@ -0,0 +1,573 @@
+package seedu.addressbook.data.person;
+
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Predicate;
+
+import seedu.addressbook.data.tag.Tag;
+import seedu.addressbook.data.tag.TagDictionary;
+
+/**
+ * A compact, scan-friendly {@link PersonStore}, laid out as columns (struct-of-arrays) instead of one object graph
+ * per person. Each field is kept in its own array indexed by the person's ordinal, the privacy flags of all
+ * persons are bit-packed into a single array, and tags are stored as arrays of ids into the {@link TagDictionary}.
+ * Persons are found by identity through an open-addressing table of ordinals that compares the name and phone
+ * columns directly, so the store keeps no key objects either.
+ *
+ * Persons are read through flyweight {@link ReadOnlyPerson} views that only hold an ordinal ({@link #get(int)}),
+ * or as {@link Person}s through the {@link PersonStore} methods. Either way field objects are created on demand,
+ * without validating the stored values again. Scans such as {@link #filterByName(Predicate)} run over a single
+ * column without creating any objects for persons that do not match.
+ *
+ * Ordinals follow insertion order. The data of an ordinal is never modified once written: removing a person only
+ * marks its ordinal as removed, and {@link #remove(PersonIdentity, Person)} compacts the columns in bulk once most
+ * ordinals belong to removed persons, so removals take amortized constant time. Compaction writes the remaining
+ * persons to new columns, so the persons seen through a view or list never change. Snapshots share the columns
+ * until either store is modified, at which point the modified store copies them (copy-on-write).
+ *
+ * The store is not thread-safe.
+ */
+public class ColumnarPersonStore implements PersonStore {
+
+    private static final int DEFAULT_CAPACITY = 16;
+    private static final int[] NO_TAGS = new int[0];
+
+    /** Minimum number of ordinals of removed persons before {@link #remove(PersonIdentity, Person)} compacts. */
+    private static final int MIN_REMOVED_ORDINALS_BEFORE_COMPACTION = 64;
+
+    /** Marks a slot of the identity table whose person was removed; probing continues past it. */
+    private static final int REMOVED_SLOT = -1;
+
+    /** Bit offsets of the privacy flags of a person, within the {@link #PRIVACY_BITS_PER_PERSON} bits it has. */
+    private static final int PHONE_PRIVACY_BIT = 0;
+    private static final int EMAIL_PRIVACY_BIT = 1;
+    private static final int ADDRESS_PRIVACY_BIT = 2;
+    private static final int PRIVACY_BITS_PER_PERSON = 3;
+
+    private Columns columns;
+
+    /** Number of ordinals handed out since the columns were last compacted, including those of removed persons. */
+    private int ordinalCount;
+
+    /** Number of persons in the store. */
+    private int size;
+
+    private BitSet removedOrdinals;
+
+    /**
+     * Ordinal plus one of every person, at the slot given by the hash of its identity or at the next free slot
+     * after it (linear probing); 0 marks a free slot. Has at least twice as many slots as the columns, so there
+     * are always free slots even if every ordinal has left a {@link #REMOVED_SLOT}.
+     */
+    private int[] identityTable;
+
+    /**
+     * True if {@link #columns}, {@link #removedOrdinals} and {@link #identityTable} may be referenced by another
+     * store. Shared structures are never modified; they are copied on the first write instead.
+     */
+    private boolean isShared;
+
+    public ColumnarPersonStore() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    /**
+     * @param initialCapacity number of persons the store can hold before its columns need to grow
+     */
+    public ColumnarPersonStore(int initialCapacity) {
+        final int capacity = Math.max(1, initialCapacity);
+        columns = new Columns(capacity);
+        removedOrdinals = new BitSet();
+        identityTable = new int[tableSizeFor(capacity)];
+    }
+
+    /**
+     * Constructs a store containing the given persons, in iteration order.
+     */
+    public ColumnarPersonStore(UniquePersonList persons) {
+        this(persons.size());
+        for (ReadOnlyPerson person : persons) {
+            add(person);
+        }
+    }
+
+    /**
+     * Constructs a store that shares the structures of {@code source}.
+     */
+    private ColumnarPersonStore(ColumnarPersonStore source) {
+        this.columns = source.columns;
+        this.ordinalCount = source.ordinalCount;
+        this.size = source.size;
+        this.removedOrdinals = source.removedOrdinals;
+        this.identityTable = source.identityTable;
+        this.isShared = true;
+    }
+
+    /**
+     * Appends a copy of the data of {@code person} to the store.
+     *
+     * @return the ordinal of the added person
+     */
+    public int add(ReadOnlyPerson person) {
+        copyIfShared();
+        if (ordinalCount == columns.getCapacity()) {
+            grow();
+        }
+        final int ordinal = ordinalCount++;
+        columns.set(ordinal, person);
+        insertIntoIdentityTable(ordinal);
+        size++;
+        return ordinal;
+    }
+
+    /**
+     * Returns a flyweight view of the person with the given ordinal.
+     * The view keeps showing that person even if the store is modified afterwards.
+     *
+     * @throws IndexOutOfBoundsException if there is no person with that ordinal
+     */
+    public ReadOnlyPerson get(int ordinal) {
+        checkOrdinal(ordinal);
+        return new PersonView(columns, ordinal);
+    }
+
+    /**
+     * Returns the ordinal of the person with the given identity, or -1 if there is none.
+     */
+    public int getOrdinal(PersonIdentity identity) {
+        final String name = identity.getName().fullName;
+        final String phone = identity.getPhone().value;
+        final int mask = identityTable.length - 1;
+        for (int slot = identityHash(name, phone) & mask; identityTable[slot] != 0; slot = (slot + 1) & mask) {
+            final int ordinal = identityTable[slot] - 1;
+            if (identityTable[slot] != REMOVED_SLOT
+                    && columns.names[ordinal].equals(name) && columns.phones[ordinal].equals(phone)) {
+                return ordinal;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Returns the number of ordinals handed out since the columns were last compacted, including those of
+     * removed persons. All ordinals are below this number.
+     */
+    public int getOrdinalCount() {
+        return ordinalCount;
+    }
+
+    @Override
+    public Person get(PersonIdentity identity) {
+        final int ordinal = getOrdinal(identity);
+        return ordinal < 0 ? null : columns.toPerson(ordinal);
+    }
+
+    @Override
+    public void add(PersonIdentity identity, Person person) {
+        add(person);
+    }
+
+    /**
+     * Removes the person with the given ordinal in constant time, without compacting the columns: the ordinals
+     * of the other persons do not change, and the ordinal is not handed out again until {@link #clear()}.
+     *
+     * @throws IndexOutOfBoundsException if there is no person with that ordinal
+     */
+    public void remove(int ordinal) {
+        checkOrdinal(ordinal);
+        copyIfShared();
+        final int mask = identityTable.length - 1;
+        int slot = identityHash(columns.names[ordinal], columns.phones[ordinal]) & mask;
+        while (identityTable[slot] != ordinal + 1) {
+            slot = (slot + 1) & mask;
+        }
+        identityTable[slot] = REMOVED_SLOT;
+        removedOrdinals.set(ordinal);
+        size--;
+    }
+
+    /**
+     * Removes {@code person}. Once most ordinals belong to removed persons, the remaining persons are moved to new
+     * columns and renumbered in order, so removals take amortized constant time.
+     */
+    @Override
+    public void remove(PersonIdentity identity, Person person) {
+        remove(getOrdinal(identity));
+        compactIfSparse();
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Removes all persons from the store. Views obtained before the call keep showing the persons they showed.
+     */
+    @Override
+    public void clear() {
+        columns = new Columns(DEFAULT_CAPACITY);
+        ordinalCount = 0;
+        size = 0;
+        removedOrdinals = new BitSet();
+        identityTable = new int[tableSizeFor(DEFAULT_CAPACITY)];
+        isShared = false;
+    }
+
+    @Override
+    public PersonStore snapshot() {
+        isShared = true;
+        return new ColumnarPersonStore(this);
+    }
+
+    /**
+     * Returns the persons in the store in ordinal order, each created from the columns when it is requested.
+     * The list does not reflect changes made to the store after the call.
+     */
+    @Override
+    public List<Person> asList() {
+        final Columns listed = columns;
+        final int listedSize = size;
+        final int[] listedOrdinals = size == ordinalCount ? null : getOrdinals();
+        return new AbstractList<Person>() {
+            @Override
+            public Person get(int index) {
+                if (index < 0 || index >= listedSize) {
+                    throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + listedSize);
+                }
+                return listed.toPerson(listedOrdinals == null ? index : listedOrdinals[index]);
+            }
+
+            @Override
+            public int size() {
+                return listedSize;
+            }
+        };
+    }
+
+    /**
+     * Returns views of all persons whose full name satisfies {@code namePredicate}, in ordinal order.
+     * Only the name column is read while scanning.
+     */
+    public List<ReadOnlyPerson> filterByName(Predicate<String> namePredicate) {
+        final List<ReadOnlyPerson> matches = new ArrayList<>();
+        for (int ordinal = 0; ordinal < ordinalCount; ordinal++) {
+            if (!removedOrdinals.get(ordinal) && namePredicate.test(columns.names[ordinal])) {
+                matches.add(new PersonView(columns, ordinal));
+            }
+        }
+        return matches;
+    }
+
+    /**
+     * Returns views of all persons that have the given tag, in ordinal order.
+     * Only the tag column is read while scanning, and tags are compared by id.
+     */
+    public List<ReadOnlyPerson> filterByTag(Tag tag) {
+        final List<ReadOnlyPerson> matches = new ArrayList<>();
+        final int tagId = tag.getId();
+        for (int ordinal = 0; ordinal < ordinalCount; ordinal++) {
+            if (!removedOrdinals.get(ordinal) && Arrays.binarySearch(columns.tagIds[ordinal], tagId) >= 0) {
+                matches.add(new PersonView(columns, ordinal));
+            }
+        }
+        return matches;
+    }
+
+    /**
+     * Returns the ordinals of all persons in the store, in ascending order.
+     */
+    private int[] getOrdinals() {
+        final int[] ordinals = new int[size];
+        int i = 0;
+        for (int ordinal = 0; ordinal < ordinalCount; ordinal++) {
+            if (!removedOrdinals.get(ordinal)) {
+                ordinals[i++] = ordinal;
+            }
+        }
+        return ordinals;
+    }
+
+    private void grow() {
+        final int capacity = columns.getCapacity() * 2;
+        columns = new Columns(columns, capacity);
+        rebuildIdentityTable();
+    }
+
+    /**
+     * Moves the remaining persons to new columns, renumbered in order, if most of the ordinals handed out belong to
+     * removed persons. The old columns are left as they are for the views and lists still reading them.
+     */
+    private void compactIfSparse() {
+        final int numberOfRemovedOrdinals = ordinalCount - size;
+        if (numberOfRemovedOrdinals < MIN_REMOVED_ORDINALS_BEFORE_COMPACTION || numberOfRemovedOrdinals <= size) {
+            return;
+        }
+        final Columns remaining = new Columns(Math.max(DEFAULT_CAPACITY, size * 2));
+        int to = 0;
+        int from = removedOrdinals.nextClearBit(0);
+        while (from < ordinalCount) {
+            final int nextRemoved = removedOrdinals.nextSetBit(from);
+            final int end = nextRemoved < 0 ? ordinalCount : Math.min(nextRemoved, ordinalCount);
+            remaining.copy(columns, from, to, end - from);
+            to += end - from;
+            from = removedOrdinals.nextClearBit(end);
+        }
+        columns = remaining;
+        ordinalCount = size;
+        removedOrdinals = new BitSet();
+        rebuildIdentityTable();
+    }
+
+    /**
+     * Gives this store its own copy of the internal structures if they may be shared with another store.
+     * Must be called before every modification of the internal structures.
+     */
+    private void copyIfShared() {
+        if (!isShared) {
+            return;
+        }
+        columns = new Columns(columns, columns.getCapacity());
+        removedOrdinals = (BitSet) removedOrdinals.clone();
+        identityTable = identityTable.clone();
+        isShared = false;
+    }
+
+    /**
+     * Replaces the identity table with a new one sized for the columns, holding the ordinals of all persons.
+     */
+    private void rebuildIdentityTable() {
+        identityTable = new int[tableSizeFor(columns.getCapacity())];
+        for (int ordinal = 0; ordinal < ordinalCount; ordinal++) {
+            if (!removedOrdinals.get(ordinal)) {
+                insertIntoIdentityTable(ordinal);
+            }
+        }
+    }
+
+    private void insertIntoIdentityTable(int ordinal) {
+        final int mask = identityTable.length - 1;
+        int slot = identityHash(columns.names[ordinal], columns.phones[ordinal]) & mask;
+        while (identityTable[slot] != 0) {
+            slot = (slot + 1) & mask;
+        }
+        identityTable[slot] = ordinal + 1;
+    }
+
+    private void checkOrdinal(int ordinal) {
+        if (ordinal < 0 || ordinal >= ordinalCount || removedOrdinals.get(ordinal)) {
+            throw new IndexOutOfBoundsException("No person with ordinal: " + ordinal);
+        }
+    }
+
+    private static int identityHash(String name, String phone) {
+        final int hash = 31 * name.hashCode() + phone.hashCode();
+        return hash ^ (hash >>> 16);
+    }
+
+    /**
+     * Returns the number of slots of the identity table for columns of the given capacity: the smallest power of
+     * two that is at least twice the capacity, so that probe sequences stay short.
+     */
+    private static int tableSizeFor(int capacity) {
+        return Integer.highestOneBit(capacity * 2 - 1) << 1;
+    }
+
+    /**
+     * Returns the number of words needed to hold the privacy flags of {@code capacity} persons.
+     */
+    private static int privacyWordsFor(int capacity) {
+        return (capacity * PRIVACY_BITS_PER_PERSON + Long.SIZE - 1) / Long.SIZE;
+    }
+
+    /**
+     * Returns the sorted ids of {@code tags}.
+     */
+    private static int[] toTagIds(Set<Tag> tags) {
+        if (tags.isEmpty()) {
+            return NO_TAGS;
+        }
+        final int[] ids = new int[tags.size()];
+        int i = 0;
+        for (Tag tag : tags) {
+            ids[i++] = tag.getId();
+        }
+        Arrays.sort(ids);
+        return ids;
+    }
+
+    /**
+     * The columns holding the data of the persons of a store, indexed by ordinal.
+     * The data of an ordinal is never modified once set, so views and lists can keep reading it after the store
+     * has replaced its columns.
+     */
+    private static class Columns {
+        private final String[] names;
+        private final String[] phones;
+        private final String[] emails;
+        private final String[] addresses;
+        private final long[] privacyFlags;
+        private final int[][] tagIds;
+
+        Columns(int capacity) {
+            names = new String[capacity];
+            phones = new String[capacity];
+            emails = new String[capacity];
+            addresses = new String[capacity];
+            privacyFlags = new long[privacyWordsFor(capacity)];
+            tagIds = new int[capacity][];
+        }
+
+        /**
+         * Constructs columns with the given capacity, holding the data of {@code source} up to that capacity.
+         */
+        Columns(Columns source, int capacity) {
+            names = Arrays.copyOf(source.names, capacity);
+            phones = Arrays.copyOf(source.phones, capacity);
+            emails = Arrays.copyOf(source.emails, capacity);
+            addresses = Arrays.copyOf(source.addresses, capacity);
+            privacyFlags = Arrays.copyOf(source.privacyFlags, privacyWordsFor(capacity));
+            tagIds = Arrays.copyOf(source.tagIds, capacity);
+        }
+
+        int getCapacity() {
+            return names.length;
+        }
+
+        void set(int ordinal, ReadOnlyPerson person) {
+            names[ordinal] = person.getName().fullName;
+            phones[ordinal] = person.getPhone().value;
+            emails[ordinal] = person.getEmail().value;
+            addresses[ordinal] = person.getAddress().value;
+            setPrivacyFlag(ordinal, PHONE_PRIVACY_BIT, person.getPhone().isPrivate());
+            setPrivacyFlag(ordinal, EMAIL_PRIVACY_BIT, person.getEmail().isPrivate());
+            setPrivacyFlag(ordinal, ADDRESS_PRIVACY_BIT, person.getAddress().isPrivate());
+            tagIds[ordinal] = toTagIds(person.getTags());
+        }
+
+        /**
+         * Copies the data of {@code count} persons of {@code source}, from ordinal {@code from} on, to the ordinals
+         * from {@code to} on.
+         */
+        void copy(Columns source, int from, int to, int count) {
+            System.arraycopy(source.names, from, names, to, count);
+            System.arraycopy(source.phones, from, phones, to, count);
+            System.arraycopy(source.emails, from, emails, to, count);
+            System.arraycopy(source.addresses, from, addresses, to, count);
+            System.arraycopy(source.tagIds, from, tagIds, to, count);
+            for (int i = 0; i < count; i++) {
+                for (int field = 0; field < PRIVACY_BITS_PER_PERSON; field++) {
+                    setPrivacyFlag(to + i, field, source.isPrivate(from + i, field));
+                }
+            }
+        }
+
+        Name getName(int ordinal) {
+            return Name.fromValidated(names[ordinal]);
+        }
+
+        Phone getPhone(int ordinal) {
+            return Phone.fromValidated(phones[ordinal], isPrivate(ordinal, PHONE_PRIVACY_BIT));
+        }
+
+        Email getEmail(int ordinal) {
+            return Email.fromValidated(emails[ordinal], isPrivate(ordinal, EMAIL_PRIVACY_BIT));
+        }
+
+        Address getAddress(int ordinal) {
+            return Address.fromValidated(addresses[ordinal], isPrivate(ordinal, ADDRESS_PRIVACY_BIT));
+        }
+
+        Set<Tag> getTags(int ordinal) {
+            final Set<Tag> tags = new HashSet<>();
+            for (int tagId : tagIds[ordinal]) {
+                tags.add(TagDictionary.getTag(tagId));
+            }
+            return tags;
+        }
+
+        /**
+         * Returns a new person with the data of the given ordinal.
+         */
+        Person toPerson(int ordinal) {
+            return new Person(getName(ordinal), getPhone(ordinal), getEmail(ordinal), getAddress(ordinal),
+                    tagIds[ordinal]);
+        }
+
+        private void setPrivacyFlag(int ordinal, int field, boolean isPrivate) {
+            final int bit = ordinal * PRIVACY_BITS_PER_PERSON + field;
+            if (isPrivate) {
+                privacyFlags[bit / Long.SIZE] |= 1L << (bit % Long.SIZE);
+            } else {
+                privacyFlags[bit / Long.SIZE] &= ~(1L << (bit % Long.SIZE));
+            }
+        }
+
+        private boolean isPrivate(int ordinal, int field) {
+            final int bit = ordinal * PRIVACY_BITS_PER_PERSON + field;
+            return (privacyFlags[bit / Long.SIZE] & (1L << (bit % Long.SIZE))) != 0;
+        }
+    }
+
+    /**
+     * A flyweight view of one person in the store, identified by its ordinal in the columns it was created from.
+     * Field objects are created from the columns each time they are requested.
+     */
+    private static class PersonView implements ReadOnlyPerson {
+
+        private final Columns columns;
+        private final int ordinal;
+
+        PersonView(Columns columns, int ordinal) {
+            this.columns = columns;
+            this.ordinal = ordinal;
+        }
+
+        @Override
+        public Name getName() {
+            return columns.getName(ordinal);
+        }
+
+        @Override
+        public Phone getPhone() {
+            return columns.getPhone(ordinal);
+        }
+
+        @Override
+        public Email getEmail() {
+            return columns.getEmail(ordinal);
+        }
+
+        @Override
+        public Address getAddress() {
+            return columns.getAddress(ordinal);
+        }
+
+        @Override
+        public Set<Tag> getTags() {
+            return columns.getTags(ordinal);
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            return other == this // short circuit if same object
+                    || (other instanceof ReadOnlyPerson // instanceof handles nulls
+                    && this.hasSameData((ReadOnlyPerson) other));
+        }
+
+        @Override
+        public int hashCode() {
+            return Person.hashCode(getName(), getPhone(), getEmail(), getAddress(), columns.tagIds[ordinal]);
+        }
+
+        @Override
+        public String toString() {
+            return getAsTextShowAll();
+        }
+    }
+}
@@ -30,6 +30,16 @@ public class Email {
         this.value = trimmedEmail;
     }
 
+    /**
+     * Does not validate the value; see {@link #fromValidated(String, boolean)}.
+     *
+     * @param isValidated only tells this constructor apart from the validating one
+     */
+    private Email(String validatedValue, boolean isPrivate, boolean isValidated) {
+        this.value = validatedValue;
+        this.isPrivate = isPrivate;
+    }
+
     /**
      * Returns true if the given string is a valid person email.
      */
@@ -37,6 +47,27 @@ public class Email {
         return test.matches(EMAIL_VALIDATION_REGEX);
     }
 
+    /**
+     * Returns an email with a value that was validated when it was first stored, without validating it again.
+     */
+    static Email fromValidated(String validatedValue, boolean isPrivate) {
+        return new Email(validatedValue, isPrivate, true);
+    }
+
+    /**
+     * Returns the part of the email address before the '@'.
+     */
+    public String getLocalPart() {
+        return value.substring(0, value.indexOf('@'));
+    }
+
+    /**
+     * Returns the part of the email address after the '@'.
+     */
+    public String getDomain() {
+        return value.substring(value.indexOf('@') + 1);
+    }
+
     @Override
     public String toString() {
         return value;
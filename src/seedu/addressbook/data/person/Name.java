@@ -29,6 +29,15 @@ public class Name {
         this.fullName = trimmedName;
     }
 
+    /**
+     * Does not validate the name; see {@link #fromValidated(String)}.
+     *
+     * @param isValidated only tells this constructor apart from the validating one
+     */
+    private Name(String validatedName, boolean isValidated) {
+        this.fullName = validatedName;
+    }
+
     /**
      * Returns true if the given string is a valid person name.
      */
@@ -36,6 +45,13 @@ public class Name {
         return test.matches(NAME_VALIDATION_REGEX);
     }
 
+    /**
+     * Returns a name with a value that was validated when it was first stored, without validating it again.
+     */
+    static Name fromValidated(String validatedName) {
+        return new Name(validatedName, true);
+    }
+
     /**
      * Retrieves a listing of every word in the name, in order.
      */
@@ -0,0 +1,181 @@
+package seedu.addressbook.data.person;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.List;
+
+import seedu.addressbook.common.ParallelScan;
+
+/**
+ * The case-folded names of a fixed list of persons, packed one after another into a single byte array, for fast
+ * substring search over all names.
+ *
+ * Names only contain ASCII letters and spaces (see {@link Name#NAME_VALIDATION_REGEX}), so each character takes
+ * one byte. Every name is followed by a separator byte that cannot occur in a name, so no match spans two names.
+ * The search kernel ({@link #indexOf}) compares eight bytes at a time: it reads the arena a {@code long} at a time
+ * and finds the bytes equal to the first byte of the keyword with word-wide arithmetic (SIMD within a register),
+ * and only compares the rest of the keyword at those candidate offsets. Matching offsets are mapped back to
+ * persons through the array of name start offsets.
+ *
+ * The kernel does not use the Vector API, which first shipped as the incubator module {@code jdk.incubator.vector}
+ * in JDK 16 and so is not available on JDK 11, which the build targets.
+ */
+public class NameArena {
+
+    private static final byte SEPARATOR = 0;
+    private static final long LOW_BITS = 0x0101010101010101L;
+    private static final long HIGH_BITS = 0x8080808080808080L;
+
+    private final List<ReadOnlyPerson> persons;
+    /** Ends with {@link Long#BYTES} bytes of padding, so that a word can be read at any offset of a name. */
+    private final byte[] arena;
+    /** Offset of the name of each person, followed by the length of the arena without padding. */
+    private final int[] nameStarts;
+    private final ByteBuffer words;
+
+    /**
+     * Packs the names of {@code persons}. Later changes to {@code persons} are not reflected in the arena.
+     */
+    public NameArena(List<? extends ReadOnlyPerson> persons) {
+        this.persons = new ArrayList<>(persons);
+        this.nameStarts = new int[this.persons.size() + 1];
+        int length = 0;
+        for (int i = 0; i < this.persons.size(); i++) {
+            nameStarts[i] = length;
+            length += this.persons.get(i).getName().fullName.length() + 1;
+        }
+        nameStarts[this.persons.size()] = length;
+        this.arena = new byte[length + Long.BYTES];
+        for (int i = 0; i < this.persons.size(); i++) {
+            final String name = this.persons.get(i).getName().fullName;
+            for (int j = 0; j < name.length(); j++) {
+                arena[nameStarts[i] + j] = (byte) Character.toLowerCase(name.charAt(j));
+            }
+            arena[nameStarts[i] + name.length()] = SEPARATOR;
+        }
+        this.words = ByteBuffer.wrap(arena).order(ByteOrder.LITTLE_ENDIAN);
+    }
+
+    /**
+     * Returns the number of persons in the arena.
+     */
+    public int size() {
+        return persons.size();
+    }
+
+    /**
+     * Returns the persons whose name contains any of {@code keywords}, ignoring case, in their order in the list
+     * the arena was built from. Large arenas are split by person and scanned in parallel by {@code scan}.
+     */
+    public List<ReadOnlyPerson> findPersonsContainingAny(Collection<String> keywords, ParallelScan scan) {
+        final List<byte[]> needles = new ArrayList<>();
+        for (String keyword : keywords) {
+            final byte[] needle = fold(keyword);
+            if (needle != null) {
+                needles.add(needle);
+            }
+        }
+        final List<ReadOnlyPerson> matches = new ArrayList<>();
+        for (int index : scan.scan(size(), (from, to) -> findIndexesContainingAny(needles, from, to))) {
+            matches.add(persons.get(index));
+        }
+        return matches;
+    }
+
+    /**
+     * Returns the indexes in [{@code fromIndex}, {@code toIndex}) of the persons whose folded name contains any of
+     * {@code needles}, in increasing order.
+     */
+    List<Integer> findIndexesContainingAny(List<byte[]> needles, int fromIndex, int toIndex) {
+        final BitSet found = new BitSet(toIndex - fromIndex);
+        final int end = nameStarts[toIndex];
+        for (byte[] needle : needles) {
+            int offset = indexOf(needle, nameStarts[fromIndex], end);
+            while (offset >= 0) {
+                // the last name starting at or before the offset
+                final int searchResult = Arrays.binarySearch(nameStarts, fromIndex, toIndex + 1, offset);
+                final int index = searchResult >= 0 ? searchResult : -searchResult - 2;
+                found.set(index - fromIndex);
+                offset = indexOf(needle, nameStarts[index + 1], end);
+            }
+        }
+        final List<Integer> indexes = new ArrayList<>(found.cardinality());
+        for (int i = found.nextSetBit(0); i >= 0; i = found.nextSetBit(i + 1)) {
+            indexes.add(fromIndex + i);
+        }
+        return indexes;
+    }
+
+    /**
+     * Returns the first offset in [{@code from}, {@code to}) at which {@code needle} occurs entirely before
+     * {@code to}, or -1 if there is none. Compares a word of eight bytes at a time.
+     */
+    int indexOf(byte[] needle, int from, int to) {
+        final int lastStart = to - needle.length;
+        if (lastStart - from < Long.BYTES) {
+            return indexOfScalar(needle, from, to);
+        }
+        final long firstBytes = (needle[0] & 0xFFL) * LOW_BITS;
+        for (int position = from; position <= lastStart; position += Long.BYTES) {
+            // zero bytes of the difference are the bytes equal to the first byte of the needle; the expression
+            // below sets the high bit of each of them (and possibly of some bytes above them, which are rejected
+            // when the needle is compared)
+            final long difference = words.getLong(position) ^ firstBytes;
+            long candidates = (difference - LOW_BITS) & ~difference & HIGH_BITS;
+            while (candidates != 0) {
+                final int candidate = position + (Long.numberOfTrailingZeros(candidates) >>> 3);
+                if (candidate > lastStart) {
+                    return -1;
+                }
+                if (matchesAt(needle, candidate)) {
+                    return candidate;
+                }
+                candidates &= candidates - 1;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Returns the same as {@link #indexOf}, comparing one byte at a time.
+     * Used for ranges too short to fill a word.
+     */
+    int indexOfScalar(byte[] needle, int from, int to) {
+        for (int candidate = from; candidate <= to - needle.length; candidate++) {
+            if (matchesAt(needle, candidate)) {
+                return candidate;
+            }
+        }
+        return -1;
+    }
+
+    private boolean matchesAt(byte[] needle, int offset) {
+        for (int i = 0; i < needle.length; i++) {
+            if (arena[offset + i] != needle[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Returns {@code keyword} case-folded the same way as the names in the arena, or null if it cannot occur in
+     * any name because it has a character that is not an ASCII letter or space in any case.
+     */
+    static byte[] fold(String keyword) {
+        final byte[] folded = new byte[keyword.length()];
+        for (int i = 0; i < keyword.length(); i++) {
+            // folds like String#regionMatches ignoring case, e.g. the Kelvin sign to 'k'
+            final char foldedChar = Character.toLowerCase(Character.toUpperCase(keyword.charAt(i)));
+            if (foldedChar >= 0x80 || foldedChar == SEPARATOR) {
+                return null;
+            }
+            folded[i] = (byte) foldedChar;
+        }
+        return folded;
+    }
+}
@@ -0,0 +1,86 @@
+package seedu.addressbook.data.person;
+
+import java.util.AbstractList;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+
+import seedu.addressbook.common.PersistentSortedMap;
+
+/**
+ * A {@link PersonStore} backed by persistent (structurally shared) maps.
+ * Every modification produces a new version of the maps that shares all unchanged nodes with the previous one,
+ * so snapshots take constant time and are immutable, and lookups and modifications take O(log n) time.
+ */
+class PersistentPersonStore implements PersonStore {
+
+    /** Persons keyed by the sequence number they were added with, i.e. in insertion order. */
+    private PersistentSortedMap<Long, Person> personsBySequence = PersistentSortedMap.empty(Comparator.naturalOrder());
+
+    /** Sequence number of every person in {@link #personsBySequence}, keyed by identity. */
+    private PersistentSortedMap<PersonIdentity, Long> sequenceByIdentity =
+            PersistentSortedMap.empty(Comparator.naturalOrder());
+
+    private long nextSequence;
+
+    @Override
+    public Person get(PersonIdentity identity) {
+        final Long sequence = sequenceByIdentity.get(identity);
+        return sequence == null ? null : personsBySequence.get(sequence);
+    }
+
+    @Override
+    public void add(PersonIdentity identity, Person person) {
+        final long sequence = nextSequence++;
+        personsBySequence = personsBySequence.put(sequence, person);
+        sequenceByIdentity = sequenceByIdentity.put(identity, sequence);
+    }
+
+    @Override
+    public void remove(PersonIdentity identity, Person person) {
+        final Long sequence = sequenceByIdentity.get(identity);
+        personsBySequence = personsBySequence.remove(sequence);
+        sequenceByIdentity = sequenceByIdentity.remove(identity);
+    }
+
+    @Override
+    public void clear() {
+        personsBySequence = PersistentSortedMap.empty(Comparator.naturalOrder());
+        sequenceByIdentity = PersistentSortedMap.empty(Comparator.naturalOrder());
+    }
+
+    @Override
+    public int size() {
+        return personsBySequence.size();
+    }
+
+    @Override
+    public PersonStore snapshot() {
+        final PersistentPersonStore copy = new PersistentPersonStore();
+        copy.personsBySequence = personsBySequence;
+        copy.sequenceByIdentity = sequenceByIdentity;
+        copy.nextSequence = nextSequence;
+        return copy;
+    }
+
+    @Override
+    public List<Person> asList() {
+        final PersistentSortedMap<Long, Person> version = personsBySequence;
+        return new AbstractList<Person>() {
+            @Override
+            public Person get(int index) {
+                return version.getByIndex(index);
+            }
+
+            @Override
+            public int size() {
+                return version.size();
+            }
+
+            @Override
+            public Iterator<Person> iterator() {
+                return version.iterator();
+            }
+        };
+    }
+}
@@ -1,10 +1,12 @@
 package seedu.addressbook.data.person;
 
+import java.util.Arrays;
 import java.util.HashSet;
 import java.util.Objects;
 import java.util.Set;
 
 import seedu.addressbook.data.tag.Tag;
+import seedu.addressbook.data.tag.TagDictionary;
 
 /**
  * Represents a Person in the address book.
@@ -12,12 +14,14 @@ import seedu.addressbook.data.tag.Tag;
  */
 public class Person implements ReadOnlyPerson {
 
+    private static final int[] NO_TAGS = new int[0];
+
     private Name name;
     private Phone phone;
     private Email email;
     private Address address;
-
-    private final Set<Tag> tags = new HashSet<>();
+    /** Sorted ids of the tags of this person in the {@link TagDictionary}. */
+    private int[] tagIds;
 
     /**
      * Assumption: Every field must be present and not null.
@@ -27,7 +31,20 @@ public class Person implements ReadOnlyPerson {
         this.phone = phone;
         this.email = email;
         this.address = address;
-        this.tags.addAll(tags);
+        this.tagIds = toSortedTagIds(tags);
+    }
+
+    /**
+     * Constructs a person with tags that are already given as sorted ids in the {@link TagDictionary}.
+     *
+     * @param tagIds must not be modified after being passed in
+     */
+    Person(Name name, Phone phone, Email email, Address address, int[] tagIds) {
+        this.name = name;
+        this.phone = phone;
+        this.email = email;
+        this.address = address;
+        this.tagIds = tagIds;
     }
 
     /**
@@ -59,15 +76,38 @@ public class Person implements ReadOnlyPerson {
 
     @Override
     public Set<Tag> getTags() {
-        return new HashSet<>(tags);
+        final Set<Tag> tags = new HashSet<>();
+        for (int tagId : tagIds) {
+            tags.add(TagDictionary.getTag(tagId));
+        }
+        return tags;
+    }
+
+    /**
+     * Returns true if this person has the given tag. Compares tag ids only; does not create a tag set.
+     */
+    public boolean hasTag(Tag tag) {
+        return Arrays.binarySearch(tagIds, tag.getId()) >= 0;
     }
 
     /**
      * Replaces this person's tags with the tags in the argument tag set.
      */
     public void setTags(Set<Tag> replacement) {
-        tags.clear();
-        tags.addAll(replacement);
+        tagIds = toSortedTagIds(replacement);
+    }
+
+    private static int[] toSortedTagIds(Set<Tag> tags) {
+        if (tags.isEmpty()) {
+            return NO_TAGS;
+        }
+        final int[] ids = new int[tags.size()];
+        int i = 0;
+        for (Tag tag : tags) {
+            ids[i++] = tag.getId();
+        }
+        Arrays.sort(ids);
+        return ids;
     }
 
     @Override
@@ -80,7 +120,20 @@ public class Person implements ReadOnlyPerson {
     @Override
     public int hashCode() {
         // use this method for custom fields hashing instead of implementing your own
-        return Objects.hash(name, phone, email, address, tags);
+        return hashCode(name, phone, email, address, tagIds);
+    }
+
+    /**
+     * Returns the hash code of any person with the given data, whatever its implementation of
+     * {@link ReadOnlyPerson}. The tags are hashed as a set, i.e. as the sum of their hash codes, so the order of
+     * {@code tagIds} does not matter.
+     */
+    static int hashCode(Name name, Phone phone, Email email, Address address, int[] tagIds) {
+        int tagsHashCode = 0;
+        for (int tagId : tagIds) {
+            tagsHashCode += TagDictionary.getTag(tagId).hashCode();
+        }
+        return Objects.hash(name, phone, email, address, tagsHashCode);
     }
 
     @Override
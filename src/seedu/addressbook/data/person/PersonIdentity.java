@@ -0,0 +1,55 @@
+package seedu.addressbook.data.person;
+
+import java.util.Objects;
+
+/**
+ * Represents the identity fields of a person (name and telephone), i.e. the fields compared by
+ * {@link ReadOnlyPerson#isSamePerson(ReadOnlyPerson)}.
+ * Two persons are the same person if and only if their identities are equal.
+ * Guarantees: immutable.
+ */
+public final class PersonIdentity implements Comparable<PersonIdentity> {
+
+    private final Name name;
+    private final Phone phone;
+
+    public PersonIdentity(ReadOnlyPerson person) {
+        this.name = person.getName();
+        this.phone = person.getPhone();
+    }
+
+    Name getName() {
+        return name;
+    }
+
+    Phone getPhone() {
+        return phone;
+    }
+
+    /**
+     * Orders identities by name, then by phone number.
+     */
+    @Override
+    public int compareTo(PersonIdentity other) {
+        final int nameComparison = name.fullName.compareTo(other.name.fullName);
+        return nameComparison != 0 ? nameComparison : phone.value.compareTo(other.phone.value);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof PersonIdentity // instanceof handles nulls
+                && this.name.equals(((PersonIdentity) other).name)
+                && this.phone.equals(((PersonIdentity) other).phone));
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(name, phone);
+    }
+
+    @Override
+    public String toString() {
+        return name + " (" + phone + ")";
+    }
+}
@@ -0,0 +1,42 @@
+package seedu.addressbook.data.person;
+
+import java.util.List;
+
+/**
+ * The storage behind a {@link UniquePersonList}.
+ * A store keeps persons in insertion order and indexes them by {@link PersonIdentity}.
+ * It does not check for duplicates; that is the responsibility of the {@code UniquePersonList}.
+ */
+interface PersonStore {
+
+    /**
+     * Returns the stored person with the given identity, or null if there is none.
+     */
+    Person get(PersonIdentity identity);
+
+    /**
+     * Appends {@code person}, which must not have the same identity as any stored person.
+     */
+    void add(PersonIdentity identity, Person person);
+
+    /**
+     * Removes {@code person}, which must be stored under {@code identity}.
+     */
+    void remove(PersonIdentity identity, Person person);
+
+    void clear();
+
+    int size();
+
+    /**
+     * Returns a store with the same contents as this one.
+     * Changes to either store after the call do not affect the other.
+     */
+    PersonStore snapshot();
+
+    /**
+     * Returns an unmodifiable view of the stored persons, in insertion order.
+     * The view is not required to reflect changes made to the store after the call.
+     */
+    List<Person> asList();
+}
@@ -29,6 +29,16 @@ public class Phone {
         this.value = trimmedPhone;
     }
 
+    /**
+     * Does not validate the value; see {@link #fromValidated(String, boolean)}.
+     *
+     * @param isValidated only tells this constructor apart from the validating one
+     */
+    private Phone(String validatedValue, boolean isPrivate, boolean isValidated) {
+        this.value = validatedValue;
+        this.isPrivate = isPrivate;
+    }
+
     /**
      * Returns true if the given string is a valid person phone number.
      */
@@ -36,6 +46,13 @@ public class Phone {
         return test.matches(PHONE_VALIDATION_REGEX);
     }
 
+    /**
+     * Returns a phone number with a value that was validated when it was first stored, without validating it again.
+     */
+    static Phone fromValidated(String validatedValue, boolean isPrivate) {
+        return new Phone(validatedValue, isPrivate, true);
+    }
+
     @Override
     public String toString() {
         return value;
@@ -1,43 +1,49 @@
 package seedu.addressbook.data.person;
 
-import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.Iterator;
 import java.util.List;
 
-import seedu.addressbook.common.Utils;
 import seedu.addressbook.data.exception.DuplicateDataException;
 
 
 
 /**
  * A list of persons. Does not allow null elements or duplicates.
+ * Duplicates are detected through an index on the identity of each person, so {@link #contains}, {@link #add}
+ * and duplicate rejection do not scan the list.
  *
- * @see Person#equals(Object)
- * @see Utils#elementsAreUnique(Collection)
+ * By default the list is backed by an array with a hash index, and copies of the list share that storage until
+ * either is modified. A list created with {@link #createPersistent()} is instead backed by persistent
+ * (structurally shared) maps, so that copies stay cheap even when the list keeps being modified. A list built
+ * with a {@link Builder}, e.g. when an address book is loaded, is backed by a {@link ColumnarPersonStore}, which
+ * takes far less memory for large lists but creates the person objects whenever they are read. The columnar
+ * store is only meant for address books used by a single thread: a concurrent address book copies the persons
+ * into a persistent list instead.
+ *
+ * @see ReadOnlyPerson#isSamePerson(ReadOnlyPerson)
+ * @see PersonIdentity
  */
 public class UniquePersonList implements Iterable<Person> {
 
 
 
-    private final List<Person> internalList = new ArrayList<>();
+    private final PersonStore store;
 
     /**
      * Constructs empty person list.
      */
-    public UniquePersonList() {}
+    public UniquePersonList() {
+        store = new ArrayPersonStore();
+    }
 
     /**
      * Constructs a person list with the given persons.
      */
     public UniquePersonList(Person... persons) throws DuplicatePersonException {
-        final List<Person> initialTags = Arrays.asList(persons);
-        if (!Utils.elementsAreUnique(initialTags)) {
-            throw new DuplicatePersonException();
-        }
-        internalList.addAll(initialTags);
+        this(Arrays.asList(persons));
     }
 
     /**
@@ -46,26 +52,42 @@ public class UniquePersonList implements Iterable<Person> {
      * @throws DuplicatePersonException if the {@code persons} contains duplicate persons
      */
     public UniquePersonList(Collection<Person> persons) throws DuplicatePersonException {
-        if (!Utils.elementsAreUnique(persons)) {
-            throw new DuplicatePersonException();
+        this();
+        for (Person person : persons) {
+            add(person);
         }
-        internalList.addAll(persons);
     }
 
     /**
-     * Constructs a shallow copy of the list.
+     * Constructs a shallow copy of the list, backed by the same kind of storage as {@code source}.
+     * The copy shares its storage with {@code source} until either list is modified, so copying is
+     * a constant-time operation.
      */
     public UniquePersonList(UniquePersonList source) {
-        internalList.addAll(source.internalList);
+        store = source.store.snapshot();
+    }
+
+    private UniquePersonList(PersonStore store) {
+        this.store = store;
+    }
+
+    /**
+     * Constructs an empty person list backed by persistent (structurally shared) maps.
+     * Additions, removals and lookups take O(log n) time, and copies of the list take constant time
+     * and never need to duplicate the storage, however the original is modified afterwards.
+     */
+    public static UniquePersonList createPersistent() {
+        return new UniquePersonList(new PersistentPersonStore());
     }
 
     /**
      * Returns an unmodifiable java List view with elements cast as immutable {@link ReadOnlyPerson}s.
      * For use with other methods/libraries.
-     * Any changes to the internal list/elements are immediately visible in the returned list.
+     * The view is stable: later additions and removals through this list are not visible in it
+     * if the list has been copied since, as with every list returned by {@code AddressBook#getAllPersons()}.
      */
     public List<ReadOnlyPerson> immutableListView() {
-        return Collections.unmodifiableList(internalList);
+        return Collections.unmodifiableList(store.asList());
     }
 
 
@@ -75,12 +97,7 @@ public class UniquePersonList implements Iterable<Person> {
      * defines a weaker notion of equality.
      */
     public boolean contains(ReadOnlyPerson toCheck) {
-        for (Person p : internalList) {
-            if (p.isSamePerson(toCheck)) {
-                return true;
-            }
-        }
-        return false;
+        return store.get(new PersonIdentity(toCheck)) != null;
     }
 
     /**
@@ -91,10 +108,11 @@ public class UniquePersonList implements Iterable<Person> {
      *    which defines a weaker notion of equality.
      */
     public void add(Person toAdd) throws DuplicatePersonException {
-        if (contains(toAdd)) {
+        final PersonIdentity identity = new PersonIdentity(toAdd);
+        if (store.get(identity) != null) {
             throw new DuplicatePersonException();
         }
-        internalList.add(toAdd);
+        store.add(identity, toAdd);
     }
 
     /**
@@ -103,29 +121,89 @@ public class UniquePersonList implements Iterable<Person> {
      * @throws PersonNotFoundException if no such person could be found in the list.
      */
     public void remove(ReadOnlyPerson toRemove) throws PersonNotFoundException {
-        final boolean personFoundAndDeleted = internalList.remove(toRemove);
-        if (!personFoundAndDeleted) {
+        final PersonIdentity identity = new PersonIdentity(toRemove);
+        final Person existing = store.get(identity);
+        final boolean isPersonFound = existing != null && existing.equals(toRemove);
+        if (!isPersonFound) {
             throw new PersonNotFoundException();
         }
+        store.remove(identity, existing);
     }
 
     /**
      * Clears all persons in list.
      */
     public void clear() {
-        internalList.clear();
+        store.clear();
+    }
+
+    /**
+     * Returns the number of persons in the list.
+     */
+    public int size() {
+        return store.size();
     }
 
     @Override
     public Iterator<Person> iterator() {
-        return internalList.iterator();
+        return store.asList().iterator();
     }
 
     @Override
     public boolean equals(Object other) {
         return other == this // short circuit if same object
                 || (other instanceof UniquePersonList // instanceof handles nulls
-                        && this.internalList.equals(((UniquePersonList) other).internalList));
+                        && this.store.asList().equals(((UniquePersonList) other).store.asList()));
+    }
+
+    /**
+     * Builds a {@link UniquePersonList} from persons supplied one at a time, e.g. while they are being decoded.
+     * The storage is sized up front from the expected number of persons, duplicates are detected in the same
+     * single pass that adds the persons, and the storage is handed over to the built list without copying.
+     * A builder can only be built once.
+     */
+    public static class Builder {
+
+        private PersonStore store;
+
+        /**
+         * @param expectedSize number of persons expected to be added; only a hint for sizing the storage
+         */
+        public Builder(int expectedSize) {
+            store = new ColumnarPersonStore(expectedSize);
+        }
+
+        /**
+         * Adds a person to the list being built.
+         *
+         * @throws DuplicatePersonException if the person is a duplicate of a person added earlier.
+         * @throws IllegalStateException if the list has already been built.
+         */
+        public Builder add(Person toAdd) throws DuplicatePersonException {
+            if (store == null) {
+                throw new IllegalStateException("List has already been built");
+            }
+            final PersonIdentity identity = new PersonIdentity(toAdd);
+            if (store.get(identity) != null) {
+                throw new DuplicatePersonException();
+            }
+            store.add(identity, toAdd);
+            return this;
+        }
+
+        /**
+         * Returns the built list, which takes over the storage of this builder.
+         *
+         * @throws IllegalStateException if the list has already been built.
+         */
+        public UniquePersonList build() {
+            if (store == null) {
+                throw new IllegalStateException("List has already been built");
+            }
+            final UniquePersonList built = new UniquePersonList(store);
+            store = null;
+            return built;
+        }
     }
 
     /**
@@ -0,0 +1,477 @@
+package seedu.addressbook.data.query;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+
+import seedu.addressbook.common.ParallelScan;
+import seedu.addressbook.common.Utils;
+import seedu.addressbook.data.person.Email;
+import seedu.addressbook.data.person.Person;
+import seedu.addressbook.data.person.ReadOnlyPerson;
+import seedu.addressbook.data.tag.Tag;
+
+/**
+ * A compiled boolean query over the fields of a person, e.g. {@code n/alice AND NOT t/colleagues}.
+ *
+ * Queries are compiled as they are built: the operands of nested {@code AND}s and {@code OR}s are flattened into a
+ * single node, and sorted so that the cheapest checks run first and can short-circuit the more expensive ones.
+ * Every check is prepared once (e.g. by resolving the tag id) and then only compares the person's field values,
+ * without splitting or copying them.
+ *
+ * Checks on phone, email and address never match a private field, so a query cannot reveal private data.
+ * Guarantees: immutable, so a query can be evaluated by several threads at once.
+ */
+public abstract class PersonQuery implements Predicate<ReadOnlyPerson> {
+
+    /** Number of persons from which the evaluation is split across several threads, see {@link ParallelScan}. */
+    public static final int PARALLEL_THRESHOLD = 10_000;
+
+    /** Relative costs of the checks, used to order the operands of {@code AND} and {@code OR}. */
+    private static final int COST_OF_TAG_CHECK = 1;
+    private static final int COST_OF_PHONE_CHECK = 2;
+    private static final int COST_OF_EMAIL_CHECK = 3;
+    private static final int COST_OF_NAME_CHECK = 4;
+    private static final int COST_OF_ADDRESS_CHECK = 5;
+
+    /**
+     * Returns true if the query holds for {@code person}.
+     */
+    @Override
+    public abstract boolean test(ReadOnlyPerson person);
+
+    /**
+     * Returns the estimated cost of evaluating this query for one person, relative to other queries.
+     */
+    abstract int getCost();
+
+    /**
+     * Returns the result of {@code visitor} for the kind of this query, e.g. to plan its evaluation with indexes.
+     */
+    public abstract <R> R accept(Visitor<R> visitor);
+
+    /**
+     * Computes a result for each kind of query. Operations are given their operands, cheapest first.
+     */
+    public interface Visitor<R> {
+        R visitNameHasWord(PersonQuery query, String word);
+
+        R visitPhoneStartsWith(PersonQuery query, String digits);
+
+        R visitEmailAtDomain(PersonQuery query, String domain);
+
+        R visitAddressContains(PersonQuery query, String text);
+
+        R visitHasTag(PersonQuery query, Tag tag);
+
+        R visitHasUnknownTag(PersonQuery query, String tagName);
+
+        R visitAnd(PersonQuery query, List<PersonQuery> operands);
+
+        R visitOr(PersonQuery query, List<PersonQuery> operands);
+
+        R visitNot(PersonQuery query, PersonQuery negated);
+    }
+
+    /**
+     * Returns the persons in {@code persons} for which the query holds, in their order in {@code persons}.
+     * Large lists are split into chunks that are evaluated in parallel.
+     */
+    public List<ReadOnlyPerson> filter(List<? extends ReadOnlyPerson> persons) {
+        return new ParallelScan(ForkJoinPool.commonPool(), PARALLEL_THRESHOLD).filter(persons, this);
+    }
+
+    /**
+     * Returns a query that holds for persons with a word in their name equal to {@code word}, ignoring case.
+     */
+    public static PersonQuery nameHasWord(String word) {
+        return new NameHasWord(word);
+    }
+
+    /**
+     * Returns a query that holds for persons with a public phone number that starts with {@code digits}.
+     */
+    public static PersonQuery phoneStartsWith(String digits) {
+        return new PhoneStartsWith(digits);
+    }
+
+    /**
+     * Returns a query that holds for persons with a public email address at {@code domain} or any of its
+     * subdomains, ignoring case.
+     */
+    public static PersonQuery emailAtDomain(String domain) {
+        return new EmailAtDomain(domain);
+    }
+
+    /**
+     * Returns a query that holds for persons with a public address that contains {@code text}, ignoring case.
+     */
+    public static PersonQuery addressContains(String text) {
+        return new AddressContains(text);
+    }
+
+    /**
+     * Returns a query that holds for persons with the given tag.
+     */
+    public static PersonQuery hasTag(Tag tag) {
+        return new HasTag(tag);
+    }
+
+    /**
+     * Returns a query that holds for nobody, for a tag name that is not the name of any tag, see
+     * {@link Tag#find(String)}.
+     */
+    public static PersonQuery hasUnknownTag(String tagName) {
+        return new HasUnknownTag(tagName);
+    }
+
+    /**
+     * Returns a query that holds if both {@code first} and {@code second} hold.
+     */
+    public static PersonQuery and(PersonQuery first, PersonQuery second) {
+        return new And(flatten(And.class, first, second));
+    }
+
+    /**
+     * Returns a query that holds if {@code first} or {@code second} holds, or both.
+     */
+    public static PersonQuery or(PersonQuery first, PersonQuery second) {
+        return new Or(flatten(Or.class, first, second));
+    }
+
+    /**
+     * Returns a query that holds if {@code negated} does not hold.
+     */
+    public static PersonQuery not(PersonQuery negated) {
+        return new Not(negated);
+    }
+
+    /**
+     * Returns the operands of {@code first} and {@code second} combined by the same operator, with nested
+     * operations of that operator replaced by their operands, ordered from cheapest to most expensive.
+     */
+    private static List<PersonQuery> flatten(Class<? extends Operation> operator, PersonQuery first,
+                                             PersonQuery second) {
+        final List<PersonQuery> operands = new ArrayList<>();
+        for (PersonQuery query : Arrays.asList(first, second)) {
+            if (operator.isInstance(query)) {
+                operands.addAll(((Operation) query).getOperands());
+            } else {
+                operands.add(query);
+            }
+        }
+        operands.sort(Comparator.comparingInt(PersonQuery::getCost));
+        return Collections.unmodifiableList(operands);
+    }
+
+    /**
+     * Returns true if {@code text} contains {@code word} as a whole space-separated word, ignoring case.
+     */
+    private static boolean containsWordIgnoreCase(String text, String word) {
+        final int lastStart = text.length() - word.length();
+        for (int start = 0; start <= lastStart; start++) {
+            final boolean isWordStart = start == 0 || text.charAt(start - 1) == ' ';
+            final int end = start + word.length();
+            final boolean isWordEnd = end == text.length() || text.charAt(end) == ' ';
+            if (isWordStart && isWordEnd && text.regionMatches(true, start, word, 0, word.length())) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static class NameHasWord extends PersonQuery {
+        private final String word;
+
+        NameHasWord(String word) {
+            this.word = word;
+        }
+
+        @Override
+        public boolean test(ReadOnlyPerson person) {
+            return containsWordIgnoreCase(person.getName().fullName, word);
+        }
+
+        @Override
+        int getCost() {
+            return COST_OF_NAME_CHECK;
+        }
+
+        @Override
+        public <R> R accept(Visitor<R> visitor) {
+            return visitor.visitNameHasWord(this, word);
+        }
+
+        @Override
+        public String toString() {
+            return "n/" + word;
+        }
+    }
+
+    private static class PhoneStartsWith extends PersonQuery {
+        private final String digits;
+
+        PhoneStartsWith(String digits) {
+            this.digits = digits;
+        }
+
+        @Override
+        public boolean test(ReadOnlyPerson person) {
+            return !person.getPhone().isPrivate() && person.getPhone().value.startsWith(digits);
+        }
+
+        @Override
+        int getCost() {
+            return COST_OF_PHONE_CHECK;
+        }
+
+        @Override
+        public <R> R accept(Visitor<R> visitor) {
+            return visitor.visitPhoneStartsWith(this, digits);
+        }
+
+        @Override
+        public String toString() {
+            return "p/" + digits;
+        }
+    }
+
+    private static class EmailAtDomain extends PersonQuery {
+        private final String domain;
+
+        EmailAtDomain(String domain) {
+            this.domain = domain;
+        }
+
+        @Override
+        public boolean test(ReadOnlyPerson person) {
+            final Email email = person.getEmail();
+            if (email.isPrivate()) {
+                return false;
+            }
+            final String address = email.value;
+            final int domainStart = address.indexOf('@') + 1;
+            final int start = address.length() - domain.length();
+            // the domain itself, or a subdomain whose labels end with those of the domain
+            final boolean isAtLabelBoundary = start == domainStart || (start > domainStart
+                    && address.charAt(start - 1) == '.');
+            return isAtLabelBoundary && address.regionMatches(true, start, domain, 0, domain.length());
+        }
+
+        @Override
+        int getCost() {
+            return COST_OF_EMAIL_CHECK;
+        }
+
+        @Override
+        public <R> R accept(Visitor<R> visitor) {
+            return visitor.visitEmailAtDomain(this, domain);
+        }
+
+        @Override
+        public String toString() {
+            return "e/" + domain;
+        }
+    }
+
+    private static class AddressContains extends PersonQuery {
+        private final String text;
+
+        AddressContains(String text) {
+            this.text = text;
+        }
+
+        @Override
+        public boolean test(ReadOnlyPerson person) {
+            if (person.getAddress().isPrivate()) {
+                return false;
+            }
+            return Utils.containsIgnoreCase(person.getAddress().value, text);
+        }
+
+        @Override
+        int getCost() {
+            return COST_OF_ADDRESS_CHECK;
+        }
+
+        @Override
+        public <R> R accept(Visitor<R> visitor) {
+            return visitor.visitAddressContains(this, text);
+        }
+
+        @Override
+        public String toString() {
+            return "a/" + text;
+        }
+    }
+
+    private static class HasTag extends PersonQuery {
+        private final Tag tag;
+
+        HasTag(Tag tag) {
+            this.tag = tag;
+        }
+
+        @Override
+        public boolean test(ReadOnlyPerson person) {
+            // persons compare tag ids directly, other implementations have to build their tag set
+            return person instanceof Person ? ((Person) person).hasTag(tag) : person.getTags().contains(tag);
+        }
+
+        @Override
+        int getCost() {
+            return COST_OF_TAG_CHECK;
+        }
+
+        @Override
+        public <R> R accept(Visitor<R> visitor) {
+            return visitor.visitHasTag(this, tag);
+        }
+
+        @Override
+        public String toString() {
+            return "t/" + tag.tagName;
+        }
+    }
+
+    private static class HasUnknownTag extends PersonQuery {
+        private final String tagName;
+
+        HasUnknownTag(String tagName) {
+            this.tagName = tagName;
+        }
+
+        @Override
+        public boolean test(ReadOnlyPerson person) {
+            return false;
+        }
+
+        @Override
+        int getCost() {
+            return COST_OF_TAG_CHECK;
+        }
+
+        @Override
+        public <R> R accept(Visitor<R> visitor) {
+            return visitor.visitHasUnknownTag(this, tagName);
+        }
+
+        @Override
+        public String toString() {
+            return "t/" + tagName;
+        }
+    }
+
+    /**
+     * A query that combines several operands with the same operator.
+     */
+    private abstract static class Operation extends PersonQuery {
+        /** Ordered from cheapest to most expensive. */
+        private final List<PersonQuery> operands;
+        private final int cost;
+
+        Operation(List<PersonQuery> operands) {
+            this.operands = operands;
+            this.cost = operands.stream().mapToInt(PersonQuery::getCost).sum();
+        }
+
+        List<PersonQuery> getOperands() {
+            return operands;
+        }
+
+        @Override
+        int getCost() {
+            return cost;
+        }
+
+        String join(String operator) {
+            return operands.stream().map(PersonQuery::toString)
+                    .collect(Collectors.joining(" " + operator + " ", "(", ")"));
+        }
+    }
+
+    private static class And extends Operation {
+        And(List<PersonQuery> operands) {
+            super(operands);
+        }
+
+        @Override
+        public boolean test(ReadOnlyPerson person) {
+            for (PersonQuery operand : getOperands()) {
+                if (!operand.test(person)) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        @Override
+        public <R> R accept(Visitor<R> visitor) {
+            return visitor.visitAnd(this, getOperands());
+        }
+
+        @Override
+        public String toString() {
+            return join("AND");
+        }
+    }
+
+    private static class Or extends Operation {
+        Or(List<PersonQuery> operands) {
+            super(operands);
+        }
+
+        @Override
+        public boolean test(ReadOnlyPerson person) {
+            for (PersonQuery operand : getOperands()) {
+                if (operand.test(person)) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        @Override
+        public <R> R accept(Visitor<R> visitor) {
+            return visitor.visitOr(this, getOperands());
+        }
+
+        @Override
+        public String toString() {
+            return join("OR");
+        }
+    }
+
+    private static class Not extends PersonQuery {
+        private final PersonQuery negated;
+
+        Not(PersonQuery negated) {
+            this.negated = negated;
+        }
+
+        @Override
+        public boolean test(ReadOnlyPerson person) {
+            return !negated.test(person);
+        }
+
+        @Override
+        int getCost() {
+            return negated.getCost();
+        }
+
+        @Override
+        public <R> R accept(Visitor<R> visitor) {
+            return visitor.visitNot(this, negated);
+        }
+
+        @Override
+        public String toString() {
+            return "NOT " + negated;
+        }
+    }
+}
@@ -1,9 +1,12 @@
 package seedu.addressbook.data.tag;
 
+import java.util.Optional;
+
 import seedu.addressbook.data.exception.IllegalValueException;
 
 /**
  * Represents a Tag in the address book.
+ * Every distinct tag name has an integer id assigned by the {@link TagDictionary}; tags are compared by id.
  * Guarantees: immutable; name is valid as declared in {@link #isValidTagName(String)}
  */
 public class Tag {
@@ -12,18 +15,56 @@ public class Tag {
     public static final String TAG_VALIDATION_REGEX = "\\p{Alnum}+";
 
     public final String tagName;
+    private final int id;
 
     /**
      * Validates given tag name.
+     * Prefer {@link #of(String)}, which returns the shared instance instead of creating a new one.
      *
      * @throws IllegalValueException if the given tag name string is invalid.
      */
     public Tag(String name) throws IllegalValueException {
+        this(of(name));
+    }
+
+    private Tag(Tag sharedTag) {
+        this(sharedTag.tagName, sharedTag.id);
+    }
+
+    /**
+     * Constructs the shared tag for a name. Only to be used by the {@link TagDictionary}.
+     */
+    Tag(String validatedName, int id) {
+        this.tagName = validatedName;
+        this.id = id;
+    }
+
+    /**
+     * Validates given tag name and returns the shared tag with that name.
+     *
+     * @throws IllegalValueException if the given tag name string is invalid.
+     */
+    public static Tag of(String name) throws IllegalValueException {
         String trimmedName = name.trim();
         if (!isValidTagName(trimmedName)) {
             throw new IllegalValueException(MESSAGE_TAG_CONSTRAINTS);
         }
-        this.tagName = trimmedName;
+        return TagDictionary.intern(trimmedName);
+    }
+
+    /**
+     * Validates given tag name and returns the shared tag with that name, or an empty optional if no tag with that
+     * name has been created. Unlike {@link #of(String)}, does not add the name to the {@link TagDictionary}, so
+     * searching for arbitrary names does not grow it; a name that is not in it is not the tag of any person.
+     *
+     * @throws IllegalValueException if the given tag name string is invalid.
+     */
+    public static Optional<Tag> find(String name) throws IllegalValueException {
+        String trimmedName = name.trim();
+        if (!isValidTagName(trimmedName)) {
+            throw new IllegalValueException(MESSAGE_TAG_CONSTRAINTS);
+        }
+        return TagDictionary.find(trimmedName);
     }
 
     /**
@@ -33,15 +74,23 @@ public class Tag {
         return test.matches(TAG_VALIDATION_REGEX);
     }
 
+    /**
+     * Returns the id of this tag in the {@link TagDictionary}.
+     */
+    public int getId() {
+        return id;
+    }
+
     @Override
     public boolean equals(Object other) {
         return other == this // short circuit if same object
                 || (other instanceof Tag // instanceof handles nulls
-                && this.tagName.equals(((Tag) other).tagName)); // state check
+                && this.id == ((Tag) other).id); // state check
     }
 
     @Override
     public int hashCode() {
+        // hash by name rather than id, so that the iteration order of tag sets does not depend on interning order
         return tagName.hashCode();
     }
 
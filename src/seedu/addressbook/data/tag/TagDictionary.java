@@ -0,0 +1,79 @@
+package seedu.addressbook.data.tag;
+
+import java.util.Arrays;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * The global dictionary of tags. Interns every distinct tag name to a single shared {@link Tag} instance
+ * with a small integer id, so that tags can be stored, compared and hashed as ints, and the memory used by
+ * tags is proportional to the number of distinct tag names rather than to the number of times they are used.
+ * Ids are assigned in order of first use, starting from 0, and are never reused.
+ *
+ * Thread-safe. Only interning a new name takes a lock; looking up tags never blocks, as tags never change once
+ * interned and the array of tags by id is only ever replaced by a larger copy.
+ */
+public final class TagDictionary {
+
+    private static final int INITIAL_CAPACITY = 16;
+
+    private static final Map<String, Tag> tagsByName = new ConcurrentHashMap<>();
+    /** Tags by id, followed by free slots. Only written while holding the class lock. */
+    private static volatile Tag[] tagsById = new Tag[INITIAL_CAPACITY];
+    /**
+     * Number of tags in {@link #tagsById}. Written after the tag is stored, so a reader that sees an id below it
+     * also sees the tag with that id.
+     */
+    private static volatile int size;
+
+    private TagDictionary() {}
+
+    /**
+     * Returns the shared tag with the given name, creating it if this is the first use of the name.
+     *
+     * @param tagName must be a valid tag name as declared in {@link Tag#isValidTagName(String)}
+     */
+    static synchronized Tag intern(String tagName) {
+        Tag tag = tagsByName.get(tagName);
+        if (tag == null) {
+            Tag[] tags = tagsById;
+            if (size == tags.length) {
+                tags = Arrays.copyOf(tags, tags.length * 2);
+            }
+            tag = new Tag(tagName, size);
+            tags[size] = tag;
+            tagsById = tags;
+            tagsByName.put(tagName, tag);
+            size++;
+        }
+        return tag;
+    }
+
+    /**
+     * Returns the shared tag with the given name, or an empty optional if the name has never been interned.
+     * Unlike {@link #intern(String)}, never adds the name to the dictionary.
+     */
+    static Optional<Tag> find(String tagName) {
+        return Optional.ofNullable(tagsByName.get(tagName));
+    }
+
+    /**
+     * Returns the shared tag with the given id.
+     *
+     * @throws IndexOutOfBoundsException if no tag has been given that id.
+     */
+    public static Tag getTag(int id) {
+        if (id < 0 || id >= size) {
+            throw new IndexOutOfBoundsException("Tag id: " + id + ", Size: " + size);
+        }
+        return tagsById[id];
+    }
+
+    /**
+     * Returns the number of distinct tags interned so far, i.e. one more than the largest id in use.
+     */
+    public static int size() {
+        return size;
+    }
+}
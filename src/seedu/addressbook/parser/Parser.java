@@ -15,11 +15,16 @@ import seedu.addressbook.commands.AddCommand;
 import seedu.addressbook.commands.ClearCommand;
 import seedu.addressbook.commands.Command;
 import seedu.addressbook.commands.DeleteCommand;
+import seedu.addressbook.commands.EmailCommand;
 import seedu.addressbook.commands.ExitCommand;
+import seedu.addressbook.commands.ExplainCommand;
+import seedu.addressbook.commands.FilterCommand;
 import seedu.addressbook.commands.FindCommand;
 import seedu.addressbook.commands.HelpCommand;
 import seedu.addressbook.commands.IncorrectCommand;
 import seedu.addressbook.commands.ListCommand;
+import seedu.addressbook.commands.LookupCommand;
+import seedu.addressbook.commands.QueryCommand;
 import seedu.addressbook.commands.ViewAllCommand;
 import seedu.addressbook.commands.ViewCommand;
 import seedu.addressbook.data.exception.IllegalValueException;
@@ -34,6 +39,12 @@ public class Parser {
     public static final Pattern KEYWORDS_ARGS_FORMAT =
             Pattern.compile("(?<keywords>\\S+(?:\\s+\\S+)*)"); // one or more keywords separated by whitespace
 
+    public static final Pattern LOOKUP_ARGS_FORMAT =
+            Pattern.compile("(?<digits>\\d+)(?<wildcard>\\*?)"); // digits, optionally followed by a wildcard
+
+    public static final Pattern EMAIL_ARGS_FORMAT = // local part and domain, either of which may be left out
+            Pattern.compile("(?<localPart>[\\w\\.]*)@(?<domain>[\\w\\.]*)");
+
     public static final Pattern PERSON_DATA_ARGS_FORMAT = // '/' forward slashes are reserved for delimiter prefixes
             Pattern.compile("(?<name>[^/]+)"
                     + " (?<isPhonePrivate>p?)p/(?<phone>[^/]+)"
@@ -76,6 +87,21 @@ public class Parser {
         case FindCommand.COMMAND_WORD:
             return prepareFind(arguments);
 
+        case FilterCommand.COMMAND_WORD:
+            return prepareFilter(arguments);
+
+        case EmailCommand.COMMAND_WORD:
+            return prepareEmail(arguments);
+
+        case QueryCommand.COMMAND_WORD:
+            return prepareQuery(arguments);
+
+        case ExplainCommand.COMMAND_WORD:
+            return prepareExplain(arguments);
+
+        case LookupCommand.COMMAND_WORD:
+            return prepareLookup(arguments);
+
         case ListCommand.COMMAND_WORD:
             return new ListCommand();
 
@@ -233,10 +259,123 @@ public class Parser {
                     FindCommand.MESSAGE_USAGE));
         }
 
-        // keywords delimited by whitespace
+        // keywords delimited by whitespace, optionally preceded by the flag of a match mode
         final String[] keywords = matcher.group("keywords").split("\\s+");
-        final Set<String> keywordSet = new HashSet<>(Arrays.asList(keywords));
-        return new FindCommand(keywordSet);
+        final FindCommand.MatchMode matchMode = getFindMatchMode(keywords[0]);
+        if (matchMode == null) {
+            return new FindCommand(new HashSet<>(Arrays.asList(keywords)));
+        }
+        if (keywords.length == 1) {
+            return new IncorrectCommand(String.format(MESSAGE_INVALID_COMMAND_FORMAT,
+                    FindCommand.MESSAGE_USAGE));
+        }
+        final Set<String> keywordSet = new HashSet<>(Arrays.asList(keywords).subList(1, keywords.length));
+        return new FindCommand(keywordSet, matchMode);
+    }
+
+    /**
+     * Returns the find match mode selected by {@code flag}, or null if {@code flag} is not the flag of a mode.
+     */
+    private static FindCommand.MatchMode getFindMatchMode(String flag) {
+        for (FindCommand.MatchMode mode : FindCommand.MatchMode.values()) {
+            if (!mode.flag.isEmpty() && mode.flag.equals(flag)) {
+                return mode;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Parses arguments in the context of the lookup person by phone command.
+     *
+     * @param args full command args string
+     * @return the prepared command
+     */
+    private Command prepareLookup(String args) {
+        final Matcher matcher = LOOKUP_ARGS_FORMAT.matcher(args.trim());
+        if (!matcher.matches()) {
+            return new IncorrectCommand(String.format(MESSAGE_INVALID_COMMAND_FORMAT,
+                    LookupCommand.MESSAGE_USAGE));
+        }
+        return new LookupCommand(matcher.group("digits"), !matcher.group("wildcard").isEmpty());
+    }
+
+    /**
+     * Parses arguments in the context of the find persons by email command.
+     *
+     * @param args full command args string
+     * @return the prepared command
+     */
+    private Command prepareEmail(String args) {
+        final Matcher matcher = EMAIL_ARGS_FORMAT.matcher(args.trim());
+        if (!matcher.matches() || (matcher.group("localPart").isEmpty() && matcher.group("domain").isEmpty())) {
+            return new IncorrectCommand(String.format(MESSAGE_INVALID_COMMAND_FORMAT,
+                    EmailCommand.MESSAGE_USAGE));
+        }
+        return new EmailCommand(matcher.group("localPart"), matcher.group("domain"));
+    }
+
+    /**
+     * Parses arguments in the context of the filter person command.
+     *
+     * @param args full command args string
+     * @return the prepared command
+     */
+    private Command prepareFilter(String args) {
+        if (args.trim().isEmpty()) {
+            return new IncorrectCommand(String.format(MESSAGE_INVALID_COMMAND_FORMAT,
+                    FilterCommand.MESSAGE_USAGE));
+        }
+        try {
+            return new FilterCommand(TagExpressionParser.parse(args));
+        } catch (ParseException pe) {
+            return new IncorrectCommand(String.format(MESSAGE_INVALID_COMMAND_FORMAT,
+                    FilterCommand.MESSAGE_USAGE));
+        } catch (IllegalValueException ive) {
+            return new IncorrectCommand(ive.getMessage());
+        }
+    }
+
+    /**
+     * Parses arguments in the context of the query persons command.
+     *
+     * @param args full command args string
+     * @return the prepared command
+     */
+    private Command prepareQuery(String args) {
+        if (args.trim().isEmpty()) {
+            return new IncorrectCommand(String.format(MESSAGE_INVALID_COMMAND_FORMAT,
+                    QueryCommand.MESSAGE_USAGE));
+        }
+        try {
+            return new QueryCommand(PersonQueryParser.parse(args));
+        } catch (ParseException pe) {
+            return new IncorrectCommand(String.format(MESSAGE_INVALID_COMMAND_FORMAT,
+                    QueryCommand.MESSAGE_USAGE));
+        } catch (IllegalValueException ive) {
+            return new IncorrectCommand(ive.getMessage());
+        }
+    }
+
+    /**
+     * Parses arguments in the context of the explain query command.
+     *
+     * @param args full command args string
+     * @return the prepared command
+     */
+    private Command prepareExplain(String args) {
+        if (args.trim().isEmpty()) {
+            return new IncorrectCommand(String.format(MESSAGE_INVALID_COMMAND_FORMAT,
+                    ExplainCommand.MESSAGE_USAGE));
+        }
+        try {
+            return new ExplainCommand(PersonQueryParser.parse(args));
+        } catch (ParseException pe) {
+            return new IncorrectCommand(String.format(MESSAGE_INVALID_COMMAND_FORMAT,
+                    ExplainCommand.MESSAGE_USAGE));
+        } catch (IllegalValueException ive) {
+            return new IncorrectCommand(ive.getMessage());
+        }
     }
 
     /**
@@ -0,0 +1,124 @@
+package seedu.addressbook.parser;
+
+import java.util.Arrays;
+import java.util.List;
+
+import seedu.addressbook.data.exception.IllegalValueException;
+import seedu.addressbook.data.person.Name;
+import seedu.addressbook.data.person.Phone;
+import seedu.addressbook.data.query.PersonQuery;
+import seedu.addressbook.data.tag.Tag;
+import seedu.addressbook.parser.Parser.ParseException;
+
+/**
+ * Parses boolean queries over the fields of a person, e.g. {@code n/alice AND NOT t/colleagues OR e/nus.edu.sg}.
+ * Every term is a field prefix followed by a value without spaces:
+ * {@value #PREFIX_NAME} (a word of the name), {@value #PREFIX_PHONE} (the start of the phone number),
+ * {@value #PREFIX_EMAIL} (the email domain), {@value #PREFIX_ADDRESS} (text in the address) or {@value #PREFIX_TAG}.
+ * The operators are the same as those of {@link TagExpressionParser}, with the same precedence.
+ */
+public class PersonQueryParser {
+
+    public static final String PREFIX_NAME = "n/";
+    public static final String PREFIX_PHONE = "p/";
+    public static final String PREFIX_EMAIL = "e/";
+    public static final String PREFIX_ADDRESS = "a/";
+    public static final String PREFIX_TAG = "t/";
+
+    public static final String MESSAGE_EMAIL_DOMAIN_CONSTRAINTS =
+            "Email domains should be alphanumeric/period strings";
+
+    private static final String EMAIL_DOMAIN_VALIDATION_REGEX = "[\\w\\.]+";
+
+    private final List<String> tokens;
+    private int position;
+
+    private PersonQueryParser(String query) {
+        this.tokens = Arrays.asList(query.trim().split("\\s+"));
+    }
+
+    /**
+     * Parses and compiles {@code query} into a {@code PersonQuery}.
+     *
+     * @throws ParseException if the query is not well-formed.
+     * @throws IllegalValueException if a value in the query is invalid for its field.
+     */
+    public static PersonQuery parse(String query) throws ParseException, IllegalValueException {
+        final PersonQueryParser parser = new PersonQueryParser(query);
+        final PersonQuery parsed = parser.parseOr();
+        if (parser.hasNextToken()) {
+            throw new ParseException("Unexpected '" + parser.tokens.get(parser.position) + "' in query");
+        }
+        return parsed;
+    }
+
+    private PersonQuery parseOr() throws ParseException, IllegalValueException {
+        PersonQuery query = parseAnd();
+        while (isNextToken(TagExpressionParser.OPERATOR_OR)) {
+            position++;
+            query = PersonQuery.or(query, parseAnd());
+        }
+        return query;
+    }
+
+    private PersonQuery parseAnd() throws ParseException, IllegalValueException {
+        PersonQuery query = parseNot();
+        while (isNextToken(TagExpressionParser.OPERATOR_AND)) {
+            position++;
+            query = PersonQuery.and(query, parseNot());
+        }
+        return query;
+    }
+
+    private PersonQuery parseNot() throws ParseException, IllegalValueException {
+        if (isNextToken(TagExpressionParser.OPERATOR_NOT)) {
+            position++;
+            return PersonQuery.not(parseNot());
+        }
+        if (!hasNextToken()) {
+            throw new ParseException("Expected a term in query");
+        }
+        return parseTerm(tokens.get(position++));
+    }
+
+    private static PersonQuery parseTerm(String term) throws ParseException, IllegalValueException {
+        if (term.startsWith(PREFIX_NAME)) {
+            final String word = term.substring(PREFIX_NAME.length());
+            if (!Name.isValidName(word)) {
+                throw new IllegalValueException(Name.MESSAGE_NAME_CONSTRAINTS);
+            }
+            return PersonQuery.nameHasWord(word);
+        }
+        if (term.startsWith(PREFIX_PHONE)) {
+            final String digits = term.substring(PREFIX_PHONE.length());
+            if (!Phone.isValidPhone(digits)) {
+                throw new IllegalValueException(Phone.MESSAGE_PHONE_CONSTRAINTS);
+            }
+            return PersonQuery.phoneStartsWith(digits);
+        }
+        if (term.startsWith(PREFIX_EMAIL)) {
+            final String domain = term.substring(PREFIX_EMAIL.length());
+            if (!domain.matches(EMAIL_DOMAIN_VALIDATION_REGEX)) {
+                throw new IllegalValueException(MESSAGE_EMAIL_DOMAIN_CONSTRAINTS);
+            }
+            return PersonQuery.emailAtDomain(domain);
+        }
+        if (term.startsWith(PREFIX_ADDRESS) && term.length() > PREFIX_ADDRESS.length()) {
+            return PersonQuery.addressContains(term.substring(PREFIX_ADDRESS.length()));
+        }
+        if (term.startsWith(PREFIX_TAG)) {
+            final String tagName = term.substring(PREFIX_TAG.length());
+            // looked up without interning, so that searching for arbitrary names does not grow the tag dictionary
+            return Tag.find(tagName).map(PersonQuery::hasTag).orElse(PersonQuery.hasUnknownTag(tagName));
+        }
+        throw new ParseException("Expected a term in query, found '" + term + "'");
+    }
+
+    private boolean hasNextToken() {
+        return position < tokens.size();
+    }
+
+    private boolean isNextToken(String operator) {
+        return hasNextToken() && tokens.get(position).equals(operator);
+    }
+}
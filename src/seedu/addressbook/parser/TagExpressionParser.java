@@ -0,0 +1,82 @@
+package seedu.addressbook.parser;
+
+import java.util.Arrays;
+import java.util.List;
+
+import seedu.addressbook.data.exception.IllegalValueException;
+import seedu.addressbook.data.index.TagExpression;
+import seedu.addressbook.data.tag.Tag;
+import seedu.addressbook.parser.Parser.ParseException;
+
+/**
+ * Parses boolean expressions over tag names, e.g. {@code friends AND NOT colleagues OR family}.
+ * The operators are {@value #OPERATOR_NOT}, {@value #OPERATOR_AND} and {@value #OPERATOR_OR}, in decreasing order
+ * of precedence. Operators must be in upper case; anything else is a tag name.
+ */
+public class TagExpressionParser {
+
+    public static final String OPERATOR_AND = "AND";
+    public static final String OPERATOR_OR = "OR";
+    public static final String OPERATOR_NOT = "NOT";
+
+    private final List<String> tokens;
+    private int position;
+
+    private TagExpressionParser(String expression) {
+        this.tokens = Arrays.asList(expression.trim().split("\\s+"));
+    }
+
+    /**
+     * Parses {@code expression} into a {@code TagExpression}.
+     *
+     * @throws ParseException if the expression is not well-formed.
+     * @throws IllegalValueException if a tag name in the expression is invalid.
+     */
+    public static TagExpression parse(String expression) throws ParseException, IllegalValueException {
+        final TagExpressionParser parser = new TagExpressionParser(expression);
+        final TagExpression parsed = parser.parseOr();
+        if (parser.hasNextToken()) {
+            throw new ParseException("Unexpected '" + parser.tokens.get(parser.position) + "' in tag expression");
+        }
+        return parsed;
+    }
+
+    private TagExpression parseOr() throws ParseException, IllegalValueException {
+        TagExpression expression = parseAnd();
+        while (isNextToken(OPERATOR_OR)) {
+            position++;
+            expression = TagExpression.or(expression, parseAnd());
+        }
+        return expression;
+    }
+
+    private TagExpression parseAnd() throws ParseException, IllegalValueException {
+        TagExpression expression = parseNot();
+        while (isNextToken(OPERATOR_AND)) {
+            position++;
+            expression = TagExpression.and(expression, parseNot());
+        }
+        return expression;
+    }
+
+    private TagExpression parseNot() throws ParseException, IllegalValueException {
+        if (isNextToken(OPERATOR_NOT)) {
+            position++;
+            return TagExpression.not(parseNot());
+        }
+        if (!hasNextToken() || isNextToken(OPERATOR_AND) || isNextToken(OPERATOR_OR)) {
+            throw new ParseException("Expected a tag name in tag expression");
+        }
+        final String tagName = tokens.get(position++);
+        // looked up without interning, so that searching for arbitrary names does not grow the tag dictionary
+        return Tag.find(tagName).map(TagExpression::hasTag).orElse(TagExpression.hasUnknownTag(tagName));
+    }
+
+    private boolean hasNextToken() {
+        return position < tokens.size();
+    }
+
+    private boolean isNextToken(String operator) {
+        return hasNextToken() && tokens.get(position).equals(operator);
+    }
+}
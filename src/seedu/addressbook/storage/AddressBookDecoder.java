@@ -2,7 +2,6 @@ package seedu.addressbook.storage;
 
 import static seedu.addressbook.parser.Parser.PERSON_DATA_ARGS_FORMAT;
 
-import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashSet;
 import java.util.List;
@@ -33,11 +32,11 @@ public class AddressBookDecoder {
      */
     public static AddressBook decodeAddressBook(List<String> encodedAddressBook)
             throws IllegalValueException, StorageOperationException {
-        final List<Person> decodedPersons = new ArrayList<>();
+        final UniquePersonList.Builder decodedPersons = new UniquePersonList.Builder(encodedAddressBook.size());
         for (String encodedPerson : encodedAddressBook) {
             decodedPersons.add(decodePersonFromString(encodedPerson));
         }
-        return new AddressBook(new UniquePersonList(decodedPersons));
+        return new AddressBook(decodedPersons);
     }
 
     /**
@@ -46,7 +45,7 @@ public class AddressBookDecoder {
      * @throws IllegalValueException if any field in the {@code encodedPerson} is invalid.
      * @throws StorageOperationException if {@code encodedPerson} is in an invalid format.
      */
-    private static Person decodePersonFromString(String encodedPerson)
+    static Person decodePersonFromString(String encodedPerson)
             throws IllegalValueException, StorageOperationException {
         final Matcher matcher = PERSON_DATA_ARGS_FORMAT.matcher(encodedPerson);
         if (!matcher.matches()) {
@@ -82,7 +81,7 @@ public class AddressBookDecoder {
         final String[] tagStrings = tagArguments.replaceFirst(" t/", "").split(" t/");
         final Set<Tag> tagSet = new HashSet<>();
         for (String tagName : tagStrings) {
-            tagSet.add(new Tag(tagName));
+            tagSet.add(Tag.of(tagName));
         }
 
         return tagSet;
@@ -4,7 +4,7 @@ import java.util.ArrayList;
 import java.util.List;
 
 import seedu.addressbook.data.AddressBook;
-import seedu.addressbook.data.person.Person;
+import seedu.addressbook.data.person.ReadOnlyPerson;
 
 /**
  * Encodes the {@code AddressBook} object into a data file for storage.
@@ -24,7 +24,7 @@ public class AddressBookEncoder {
     /**
      * Encodes the {@code person} into a decodable and readable string representation.
      */
-    private static String encodePersonToString(Person person) {
+    static String encodePersonToString(ReadOnlyPerson person) {
         final StringBuilder encodedPersonBuilder = new StringBuilder();
 
         encodedPersonBuilder.append(person.getName());
@@ -0,0 +1,288 @@
+package seedu.addressbook.storage;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.zip.CRC32;
+import java.util.zip.CheckedInputStream;
+
+import seedu.addressbook.data.AddressBook;
+import seedu.addressbook.data.exception.IllegalValueException;
+import seedu.addressbook.data.person.Address;
+import seedu.addressbook.data.person.Email;
+import seedu.addressbook.data.person.Name;
+import seedu.addressbook.data.person.Person;
+import seedu.addressbook.data.person.Phone;
+import seedu.addressbook.data.person.UniquePersonList;
+import seedu.addressbook.data.tag.Tag;
+import seedu.addressbook.storage.StorageFile.StorageOperationException;
+
+/**
+ * Encodes an {@code AddressBook} into a compact binary format for storage, and decodes it back.
+ * Much faster to decode than the text format of {@link AddressBookEncoder}, as no field needs to be searched for.
+ *
+ * <pre>
+ * file:   header, then the persons in blocks
+ * header: {@link #MAGIC}, format version (2 bytes), person count, tag count, tag names,
+ *         CRC32 of the header so far (4 bytes)
+ * block:  person count, length of the persons in bytes, persons, CRC32 of the persons (4 bytes)
+ * person: name, privacy flags (1 byte), phone, email, address, tag count, tag indexes in the header
+ * </pre>
+ * Counts, lengths and indexes are varints: 7 bits per byte, least significant first, with the high bit set in all
+ * but the last byte. Strings are a varint byte length followed by UTF-8 bytes. Each block holds up to
+ * {@link #PERSONS_PER_BLOCK} persons, so corrupted data is detected while the block holding it is decoded.
+ */
+public class BinaryAddressBookCodec {
+
+    /** Starts every file in this format. The first byte cannot start a text file in UTF-8. */
+    public static final byte[] MAGIC = {(byte) 0x89, 'A', 'B', 'K'};
+    /** Version of the format written. Files of a later version cannot be decoded. */
+    public static final int FORMAT_VERSION = 1;
+
+    static final int PERSONS_PER_BLOCK = 1024;
+    /** Upper bound on the length of a block or string, to fail fast on a corrupted length. */
+    private static final int MAX_LENGTH = 1 << 28;
+
+    private static final int PHONE_PRIVATE_FLAG = 1;
+    private static final int EMAIL_PRIVATE_FLAG = 1 << 1;
+    private static final int ADDRESS_PRIVATE_FLAG = 1 << 2;
+
+    /**
+     * Returns true if {@code in} starts with {@link #MAGIC}. Reads at most the length of the magic from {@code in}.
+     */
+    public static boolean hasMagic(InputStream in) throws IOException {
+        final byte[] start = new byte[MAGIC.length];
+        int length = 0;
+        int read;
+        while (length < start.length && (read = in.read(start, length, start.length - length)) >= 0) {
+            length += read;
+        }
+        return Arrays.equals(start, MAGIC);
+    }
+
+    /**
+     * Encodes all the persons in {@code toSave} to {@code out}.
+     */
+    public static void encodeAddressBook(AddressBook toSave, OutputStream out) throws IOException {
+        final List<Person> persons = new ArrayList<>();
+        toSave.getAllPersons().forEach(persons::add);
+        final Map<Tag, Integer> tagIndexes = new LinkedHashMap<>();
+        for (Person person : persons) {
+            for (Tag tag : person.getTags()) {
+                tagIndexes.putIfAbsent(tag, tagIndexes.size());
+            }
+        }
+
+        final ByteArrayOutputStream header = new ByteArrayOutputStream();
+        header.write(MAGIC);
+        new DataOutputStream(header).writeShort(FORMAT_VERSION);
+        writeVarint(header, persons.size());
+        writeVarint(header, tagIndexes.size());
+        for (Tag tag : tagIndexes.keySet()) {
+            writeString(header, tag.tagName);
+        }
+        writeChecked(header, out);
+
+        for (int start = 0; start < persons.size(); start += PERSONS_PER_BLOCK) {
+            final List<Person> blockPersons = persons.subList(start, Math.min(start + PERSONS_PER_BLOCK,
+                    persons.size()));
+            final ByteArrayOutputStream block = new ByteArrayOutputStream();
+            for (Person person : blockPersons) {
+                encodePerson(person, tagIndexes, block);
+            }
+            writeVarint(out, blockPersons.size());
+            writeVarint(out, block.size());
+            writeChecked(block, out);
+        }
+    }
+
+    private static void encodePerson(Person person, Map<Tag, Integer> tagIndexes, OutputStream out)
+            throws IOException {
+        writeString(out, person.getName().fullName);
+        out.write((person.getPhone().isPrivate() ? PHONE_PRIVATE_FLAG : 0)
+                | (person.getEmail().isPrivate() ? EMAIL_PRIVATE_FLAG : 0)
+                | (person.getAddress().isPrivate() ? ADDRESS_PRIVATE_FLAG : 0));
+        writeString(out, person.getPhone().value);
+        writeString(out, person.getEmail().value);
+        writeString(out, person.getAddress().value);
+        writeVarint(out, person.getTags().size());
+        for (Tag tag : person.getTags()) {
+            writeVarint(out, tagIndexes.get(tag));
+        }
+    }
+
+    /**
+     * Writes {@code data} to {@code out}, followed by its CRC32.
+     */
+    private static void writeChecked(ByteArrayOutputStream data, OutputStream out) throws IOException {
+        final CRC32 checksum = new CRC32();
+        checksum.update(data.toByteArray());
+        data.writeTo(out);
+        new DataOutputStream(out).writeInt((int) checksum.getValue());
+    }
+
+    /**
+     * Decodes the persons in {@code in} into an {@code AddressBook}.
+     *
+     * @throws IOException if there were errors reading from {@code in}.
+     * @throws IllegalValueException if any field of any person is invalid.
+     * @throws StorageOperationException if {@code in} is not in this format, is of a later version, or is corrupted.
+     */
+    public static AddressBook decodeAddressBook(InputStream in)
+            throws IOException, IllegalValueException, StorageOperationException {
+        try {
+            final CRC32 headerChecksum = new CRC32();
+            final DataInputStream header = new DataInputStream(new CheckedInputStream(in, headerChecksum));
+            if (!hasMagic(header)) {
+                throw new StorageOperationException("File is not in the binary format. Unable to decode.");
+            }
+            final int version = header.readUnsignedShort();
+            if (version > FORMAT_VERSION) {
+                throw new StorageOperationException("File is in binary format version " + version
+                        + ", which is newer than this version of the application. Unable to decode.");
+            }
+            final int personCount = readVarint(header);
+            final int tagCount = readVarint(header);
+            final List<String> tagNames = new ArrayList<>();
+            for (int i = 0; i < tagCount; i++) {
+                tagNames.add(readString(header));
+            }
+            verifyChecksum(headerChecksum, in);
+            final List<Tag> tags = new ArrayList<>();
+            for (String tagName : tagNames) {
+                tags.add(Tag.of(tagName));
+            }
+
+            final UniquePersonList.Builder decodedPersons = new UniquePersonList.Builder(personCount);
+            int decodedCount = 0;
+            while (decodedCount < personCount) {
+                decodedCount += decodeBlock(in, tags, decodedPersons);
+            }
+            if (decodedCount != personCount || in.read() >= 0) {
+                throw new StorageOperationException("File has a different number of persons than recorded.");
+            }
+            return new AddressBook(decodedPersons);
+        } catch (EOFException eofe) {
+            throw new StorageOperationException("File ends unexpectedly. Unable to decode.");
+        }
+    }
+
+    /**
+     * Decodes the next block of persons in {@code in} into {@code decodedPersons}, and returns their number.
+     */
+    private static int decodeBlock(InputStream in, List<Tag> tags, UniquePersonList.Builder decodedPersons)
+            throws IOException, IllegalValueException, StorageOperationException {
+        final int blockPersonCount = readVarint(in);
+        final byte[] block = readBytes(in, readVarint(in));
+        final CRC32 blockChecksum = new CRC32();
+        blockChecksum.update(block);
+        verifyChecksum(blockChecksum, in);
+
+        final ByteArrayInputStream blockIn = new ByteArrayInputStream(block);
+        for (int i = 0; i < blockPersonCount; i++) {
+            decodedPersons.add(decodePerson(blockIn, tags));
+        }
+        if (blockIn.available() > 0) {
+            throw new StorageOperationException("Block has a different number of persons than recorded.");
+        }
+        return blockPersonCount;
+    }
+
+    private static Person decodePerson(InputStream in, List<Tag> tags)
+            throws IOException, IllegalValueException, StorageOperationException {
+        final String name = readString(in);
+        final int privacyFlags = in.read();
+        if (privacyFlags < 0) {
+            throw new EOFException();
+        }
+        final String phone = readString(in);
+        final String email = readString(in);
+        final String address = readString(in);
+        final int tagCount = readVarint(in);
+        final Set<Tag> personTags = new HashSet<>();
+        for (int i = 0; i < tagCount; i++) {
+            final int tagIndex = readVarint(in);
+            if (tagIndex >= tags.size()) {
+                throw new StorageOperationException("Encoded person has an unknown tag. Unable to decode.");
+            }
+            personTags.add(tags.get(tagIndex));
+        }
+        return new Person(
+                new Name(name),
+                new Phone(phone, (privacyFlags & PHONE_PRIVATE_FLAG) != 0),
+                new Email(email, (privacyFlags & EMAIL_PRIVATE_FLAG) != 0),
+                new Address(address, (privacyFlags & ADDRESS_PRIVATE_FLAG) != 0),
+                personTags
+        );
+    }
+
+    /**
+     * Reads a CRC32 from {@code in} and checks that it equals {@code checksum}.
+     */
+    private static void verifyChecksum(CRC32 checksum, InputStream in) throws IOException, StorageOperationException {
+        final int expected = (int) checksum.getValue();
+        if (new DataInputStream(in).readInt() != expected) {
+            throw new StorageOperationException("File is corrupted: checksum mismatch. Unable to decode.");
+        }
+    }
+
+    private static void writeVarint(OutputStream out, int value) throws IOException {
+        int remaining = value;
+        while ((remaining & ~0x7F) != 0) {
+            out.write((remaining & 0x7F) | 0x80);
+            remaining >>>= 7;
+        }
+        out.write(remaining);
+    }
+
+    private static int readVarint(InputStream in) throws IOException, StorageOperationException {
+        int value = 0;
+        for (int shift = 0; shift < Integer.SIZE; shift += 7) {
+            final int read = in.read();
+            if (read < 0) {
+                throw new EOFException();
+            }
+            // the fifth byte may only hold the last 3 of the 31 bits of a non-negative int
+            if (shift == 28 && (read & ~0x07) != 0) {
+                break;
+            }
+            value |= (read & 0x7F) << shift;
+            if ((read & 0x80) == 0) {
+                return value;
+            }
+        }
+        throw new StorageOperationException("File is corrupted: invalid number. Unable to decode.");
+    }
+
+    private static void writeString(OutputStream out, String value) throws IOException {
+        final byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        writeVarint(out, bytes.length);
+        out.write(bytes);
+    }
+
+    private static String readString(InputStream in) throws IOException, StorageOperationException {
+        return new String(readBytes(in, readVarint(in)), StandardCharsets.UTF_8);
+    }
+
+    private static byte[] readBytes(InputStream in, int length) throws IOException, StorageOperationException {
+        if (length > MAX_LENGTH) {
+            throw new StorageOperationException("File is corrupted: invalid length. Unable to decode.");
+        }
+        final byte[] bytes = new byte[length];
+        new DataInputStream(in).readFully(bytes);
+        return bytes;
+    }
+}
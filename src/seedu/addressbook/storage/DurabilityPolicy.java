@@ -0,0 +1,109 @@
+package seedu.addressbook.storage;
+
+import seedu.addressbook.data.exception.IllegalValueException;
+
+/**
+ * When saved data is forced from the OS cache to the disk (fsync), trading the latency of a save against the data
+ * that a power loss or OS crash can lose. Whatever the policy, saves replace the storage file atomically, so a crash
+ * of the application alone never loses a completed save nor leaves a partly written file.
+ *
+ * <ul>
+ *     <li>{@link #EVERY_OPERATION}: a save returns only once its data is on the disk.</li>
+ *     <li>{@link #periodic(long)}: journal records are forced in the background at most the given interval after
+ *     they are written, so a power loss can lose the changes of that interval. Saves that replace the whole file
+ *     are still forced before the replacement, since an unforced replacement may leave an empty file.</li>
+ *     <li>{@link #OS_MANAGED}: nothing is forced; the OS writes the data to the disk in its own time.</li>
+ * </ul>
+ */
+public class DurabilityPolicy {
+
+    public static final String MESSAGE_POLICY_CONSTRAINTS = "Durability policy should be 'every-op', 'os' "
+            + "or a sync interval in milliseconds, e.g. '1000'";
+
+    public static final DurabilityPolicy EVERY_OPERATION = new DurabilityPolicy("every-op", 0);
+    public static final DurabilityPolicy OS_MANAGED = new DurabilityPolicy("os", -1);
+
+    private final String name;
+    /** Longest time written data may stay unforced; 0 to force on every save, negative to never force. */
+    private final long intervalMillis;
+
+    private DurabilityPolicy(String name, long intervalMillis) {
+        this.name = name;
+        this.intervalMillis = intervalMillis;
+    }
+
+    /**
+     * Returns the policy of forcing written data to the disk every {@code intervalMillis} milliseconds.
+     */
+    public static DurabilityPolicy periodic(long intervalMillis) {
+        if (intervalMillis <= 0) {
+            throw new IllegalArgumentException("The sync interval must be positive");
+        }
+        return new DurabilityPolicy(Long.toString(intervalMillis), intervalMillis);
+    }
+
+    /**
+     * Returns the policy named {@code name}: 'every-op', 'os', or a positive number of milliseconds for a periodic
+     * policy.
+     *
+     * @throws IllegalValueException if {@code name} does not name a policy.
+     */
+    public static DurabilityPolicy parse(String name) throws IllegalValueException {
+        if (name.equals(EVERY_OPERATION.name)) {
+            return EVERY_OPERATION;
+        }
+        if (name.equals(OS_MANAGED.name)) {
+            return OS_MANAGED;
+        }
+        try {
+            return periodic(Long.parseLong(name));
+        } catch (IllegalArgumentException iae) {
+            throw new IllegalValueException(MESSAGE_POLICY_CONSTRAINTS);
+        }
+    }
+
+    /**
+     * Returns true if every save waits until its data is on the disk.
+     */
+    public boolean isForcedOnEverySave() {
+        return intervalMillis == 0;
+    }
+
+    /**
+     * Returns true if written data is forced to the disk in the background, see {@link #getIntervalMillis()}.
+     */
+    public boolean isPeriodic() {
+        return intervalMillis > 0;
+    }
+
+    /**
+     * Returns true if written data is never forced to the disk.
+     */
+    public boolean isOsManaged() {
+        return intervalMillis < 0;
+    }
+
+    /**
+     * Returns the longest time written data stays unforced under a periodic policy.
+     */
+    public long getIntervalMillis() {
+        return intervalMillis;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof DurabilityPolicy // instanceof handles nulls
+                && this.intervalMillis == ((DurabilityPolicy) other).intervalMillis);
+    }
+
+    @Override
+    public int hashCode() {
+        return Long.hashCode(intervalMillis);
+    }
+
+    @Override
+    public String toString() {
+        return name;
+    }
+}
@@ -0,0 +1,100 @@
+package seedu.addressbook.storage;
+
+import java.io.IOException;
+
+/**
+ * Shares the forcing of a file to the disk between concurrent writers (group commit).
+ *
+ * Each writer reports its write with {@link #written()} and then waits in {@link #awaitForced(long)}. One waiting
+ * writer forces the file on behalf of all writes reported so far, while writers arriving meanwhile wait for the
+ * next force, which then covers all of them. A burst of concurrent writes thus costs a couple of forces rather than
+ * one each.
+ */
+class GroupCommit {
+
+    /**
+     * Forces the file to the disk.
+     */
+    interface ForceAction {
+        void force() throws IOException;
+    }
+
+    private final ForceAction forceAction;
+
+    // all fields below are guarded by this group commit
+
+    /** Number of writes reported. */
+    private long writtenCount;
+    /** Number of writes known to be on the disk. */
+    private long forcedCount;
+    private boolean isForcing;
+
+    GroupCommit(ForceAction forceAction) {
+        this.forceAction = forceAction;
+    }
+
+    /**
+     * Reports a write to the file, and returns its sequence number for {@link #awaitForced(long)}.
+     * Must be called after the data is written.
+     */
+    synchronized long written() {
+        return ++writtenCount;
+    }
+
+    /**
+     * Returns the sequence number of the last write reported.
+     */
+    synchronized long getWrittenCount() {
+        return writtenCount;
+    }
+
+    /**
+     * Records that all writes reported so far are on the disk by other means, e.g. because the file was replaced
+     * by a forced one.
+     */
+    synchronized void forcedAll() {
+        forcedCount = writtenCount;
+        notifyAll();
+    }
+
+    /**
+     * Waits until the write with sequence number {@code sequence} and all earlier ones are on the disk, forcing the
+     * file if no other writer is doing so.
+     *
+     * @throws IOException if forcing the file failed; the writes are then not known to be on the disk.
+     */
+    void awaitForced(long sequence) throws IOException {
+        final long target;
+        synchronized (this) {
+            boolean isInterrupted = false;
+            while (isForcing && forcedCount < sequence) {
+                try {
+                    wait();
+                } catch (InterruptedException ie) {
+                    isInterrupted = true;
+                }
+            }
+            if (isInterrupted) {
+                Thread.currentThread().interrupt();
+            }
+            if (forcedCount >= sequence) {
+                return;
+            }
+            isForcing = true;
+            target = writtenCount;
+        }
+        boolean isForced = false;
+        try {
+            forceAction.force();
+            isForced = true;
+        } finally {
+            synchronized (this) {
+                isForcing = false;
+                if (isForced) {
+                    forcedCount = Math.max(forcedCount, target);
+                }
+                notifyAll();
+            }
+        }
+    }
+}
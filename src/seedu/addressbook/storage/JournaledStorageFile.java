@@ -0,0 +1,371 @@
+package seedu.addressbook.storage;
+
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import seedu.addressbook.data.AddressBook;
+import seedu.addressbook.data.AddressBookChangeListener;
+import seedu.addressbook.data.exception.IllegalValueException;
+import seedu.addressbook.data.person.Person;
+import seedu.addressbook.data.person.ReadOnlyPerson;
+import seedu.addressbook.data.person.UniquePersonList.DuplicatePersonException;
+import seedu.addressbook.data.person.UniquePersonList.PersonNotFoundException;
+
+/**
+ * A storage file that records changes in an append-only journal (a write-ahead log) next to the base file, instead
+ * of rewriting the whole file on every save.
+ *
+ * Loading reads the base file and replays the journal over it. From then on the storage listens to the loaded
+ * address book, and a save appends one record per change made since the previous save, so its cost depends on the
+ * number of changes rather than on the size of the address book. Once the journal holds as many records as the
+ * address book has persons (and at least a minimum number of records), the save writes a checkpoint:
+ * it rewrites the base file and starts an empty journal. This keeps the journal, and so the time to load, in
+ * proportion to the size of the address book, at an amortized constant cost per change.
+ *
+ * Records are lines of text: an added or removed person in the format of the base file, or a cleared address book.
+ * A record left incomplete by a crash during an append is discarded when loading. Replaying a record is idempotent
+ * (adding a person that is present, or removing one that is absent, has no effect), so a crash between writing a
+ * checkpoint and deleting the journal loses nothing.
+ *
+ * Under {@link DurabilityPolicy#EVERY_OPERATION}, a save waits until its records are forced to the disk, and
+ * concurrent saves share a single force (see {@link GroupCommit}). Under a periodic policy the journal is forced in
+ * the background instead, and under {@link DurabilityPolicy#OS_MANAGED} it is not forced at all.
+ */
+public class JournaledStorageFile extends StorageFile {
+
+    /** Appended to the path of the base file to get the path of its journal. */
+    public static final String JOURNAL_EXTENSION = ".journal";
+
+    /** Default minimum number of records in the journal before a save writes a checkpoint. */
+    public static final int DEFAULT_MIN_RECORDS_BEFORE_CHECKPOINT = 1000;
+
+    private static final String ADD_RECORD_PREFIX = "+ ";
+    private static final String REMOVE_RECORD_PREFIX = "- ";
+    private static final String CLEAR_RECORD = "!";
+
+    /** Runs the forces of the journals with a periodic durability policy. */
+    private static final ScheduledExecutorService PERIODIC_FORCES =
+            Executors.newSingleThreadScheduledExecutor(runnable -> {
+                final Thread thread = new Thread(runnable, "journal periodic force");
+                thread.setDaemon(true);
+                return thread;
+            });
+
+    public final Path journalPath;
+    private final int minRecordsBeforeCheckpoint;
+    private final GroupCommit groupCommit = new GroupCommit(this::forceJournal);
+    /** Set when the journal is created, until the directory holding it is forced to the disk. */
+    private final AtomicBoolean isJournalDirectoryUnforced = new AtomicBoolean();
+
+    /** Records of the changes that are not in the journal yet. Guarded by itself. */
+    private final List<String> pendingRecords = new ArrayList<>();
+    private final AddressBookChangeListener recorder = new Recorder();
+    /** The address book whose changes are recorded: the last one loaded or saved. */
+    private AddressBook recordedAddressBook;
+    private int journalRecordCount;
+    private boolean isPeriodicForceScheduled;
+    /** The failure of the last periodic force, if it failed and the failure has not been reported yet. */
+    private StorageOperationException periodicForceFailure;
+
+    /**
+     * @throws InvalidStorageFilePathException if the default path is invalid
+     */
+    public JournaledStorageFile() throws InvalidStorageFilePathException {
+        this(DEFAULT_STORAGE_FILEPATH);
+    }
+
+    /**
+     * @throws InvalidStorageFilePathException if the given file path is invalid
+     */
+    public JournaledStorageFile(String filePath) throws InvalidStorageFilePathException {
+        this(filePath, DEFAULT_MIN_RECORDS_BEFORE_CHECKPOINT);
+    }
+
+    /**
+     * @throws InvalidStorageFilePathException if the given file path is invalid
+     */
+    public JournaledStorageFile(String filePath, DurabilityPolicy durability) throws InvalidStorageFilePathException {
+        this(filePath, durability, DEFAULT_MIN_RECORDS_BEFORE_CHECKPOINT);
+    }
+
+    /**
+     * @param minRecordsBeforeCheckpoint the journal is never checkpointed with fewer records than this
+     * @throws InvalidStorageFilePathException if the given file path is invalid
+     */
+    public JournaledStorageFile(String filePath, int minRecordsBeforeCheckpoint)
+            throws InvalidStorageFilePathException {
+        this(filePath, DurabilityPolicy.EVERY_OPERATION, minRecordsBeforeCheckpoint);
+    }
+
+    /**
+     * @param minRecordsBeforeCheckpoint the journal is never checkpointed with fewer records than this
+     * @throws InvalidStorageFilePathException if the given file path is invalid
+     */
+    public JournaledStorageFile(String filePath, DurabilityPolicy durability, int minRecordsBeforeCheckpoint)
+            throws InvalidStorageFilePathException {
+        super(filePath, durability);
+        if (minRecordsBeforeCheckpoint < 1) {
+            throw new IllegalArgumentException("The journal must hold at least one record before a checkpoint");
+        }
+        this.journalPath = path.resolveSibling(path.getFileName() + JOURNAL_EXTENSION);
+        this.minRecordsBeforeCheckpoint = minRecordsBeforeCheckpoint;
+    }
+
+    /**
+     * Appends the changes made to {@code addressBook} since it was loaded or last saved to the journal, and writes
+     * a checkpoint if the journal has grown too long. If {@code addressBook} is not the one last loaded or saved,
+     * its changes are unknown, so a checkpoint is written instead. Returns once the changes are as durable as
+     * required by the durability policy.
+     *
+     * @throws StorageOperationException if there were errors converting and/or storing data to file.
+     */
+    @Override
+    public void save(AddressBook addressBook) throws StorageOperationException {
+        final long sequence;
+        synchronized (this) {
+            reportPeriodicForceFailure();
+            if (recordedAddressBook == null || addressBook != recordedAddressBook) {
+                checkpoint(addressBook);
+                return;
+            }
+            final List<String> records = takePendingRecords();
+            if (records.isEmpty()) {
+                return;
+            }
+            try {
+                if (Files.notExists(journalPath)) {
+                    isJournalDirectoryUnforced.set(true);
+                }
+                Files.write(journalPath, records, StandardCharsets.UTF_8,
+                        StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+            } catch (IOException ioe) {
+                throw new StorageOperationException("Error writing to file: " + journalPath);
+            }
+            sequence = groupCommit.written();
+            journalRecordCount += records.size();
+            if (journalRecordCount >= Math.max(minRecordsBeforeCheckpoint, addressBook.size())) {
+                checkpoint(addressBook);
+                return;
+            }
+            if (durability.isPeriodic()) {
+                schedulePeriodicForce();
+            }
+        }
+        // outside of the lock, so that saves by other threads can append their records and share the force
+        if (durability.isForcedOnEverySave()) {
+            try {
+                groupCommit.awaitForced(sequence);
+            } catch (IOException ioe) {
+                throw new StorageOperationException("Error writing to file: " + journalPath);
+            }
+        }
+    }
+
+    /**
+     * Forces the journal, and the directory holding it if the journal is new, to the disk.
+     */
+    private void forceJournal() throws IOException {
+        try {
+            force(journalPath);
+        } catch (NoSuchFileException nsfe) {
+            // deleted by a checkpoint, which already forced all records written before it to the disk
+            return;
+        }
+        if (isJournalDirectoryUnforced.getAndSet(false)) {
+            try {
+                forceDirectoryOf(journalPath);
+            } catch (IOException ioe) {
+                isJournalDirectoryUnforced.set(true);
+                throw ioe;
+            }
+        }
+    }
+
+    private void schedulePeriodicForce() {
+        if (isPeriodicForceScheduled) {
+            return;
+        }
+        isPeriodicForceScheduled = true;
+        PERIODIC_FORCES.schedule(this::forcePeriodically, durability.getIntervalMillis(), TimeUnit.MILLISECONDS);
+    }
+
+    private void forcePeriodically() {
+        final long sequence;
+        synchronized (this) {
+            isPeriodicForceScheduled = false;
+            sequence = groupCommit.getWrittenCount();
+        }
+        try {
+            groupCommit.awaitForced(sequence);
+        } catch (IOException ioe) {
+            synchronized (this) {
+                periodicForceFailure = new StorageOperationException("Error writing to file: " + journalPath);
+            }
+        }
+    }
+
+    private void reportPeriodicForceFailure() throws StorageOperationException {
+        if (periodicForceFailure != null) {
+            final StorageOperationException failure = periodicForceFailure;
+            periodicForceFailure = null;
+            throw failure;
+        }
+    }
+
+    /**
+     * Writes all of {@code addressBook} to the base file, empties the journal, and records the later changes to
+     * {@code addressBook}.
+     */
+    private void checkpoint(AddressBook addressBook) throws StorageOperationException {
+        // changes made while the base file is written are both in the base file and in the next records,
+        // which is harmless because replaying is idempotent
+        recordChangesOf(addressBook);
+        super.save(addressBook);
+        try {
+            Files.deleteIfExists(journalPath);
+        } catch (IOException ioe) {
+            throw new StorageOperationException("Error deleting file: " + journalPath);
+        }
+        if (!durability.isOsManaged()) {
+            groupCommit.forcedAll();
+        }
+        journalRecordCount = 0;
+    }
+
+    /**
+     * Loads the base file, replays the journal over it, and records the later changes to the loaded address book.
+     *
+     * @throws StorageOperationException if there were errors reading and/or converting data from file.
+     */
+    @Override
+    public synchronized AddressBook load() throws StorageOperationException {
+        final AddressBook addressBook = super.load();
+        int replayedRecordCount = 0;
+        for (String record : readJournal()) {
+            replay(record, addressBook);
+            replayedRecordCount++;
+        }
+        recordChangesOf(addressBook);
+        journalRecordCount = replayedRecordCount;
+        return addressBook;
+    }
+
+    /**
+     * Returns the complete records in the journal. An incomplete last record is cut off the journal, so that the
+     * next record is appended after the last complete one.
+     */
+    private List<String> readJournal() throws StorageOperationException {
+        final List<String> records = new ArrayList<>();
+        if (!Files.isRegularFile(journalPath)) {
+            return records;
+        }
+        try {
+            final byte[] journal = Files.readAllBytes(journalPath);
+            int end = journal.length;
+            while (end > 0 && journal[end - 1] != '\n') {
+                end--;
+            }
+            if (end < journal.length) {
+                try (FileChannel channel = FileChannel.open(journalPath, StandardOpenOption.WRITE)) {
+                    channel.truncate(end);
+                }
+            }
+            for (String record : new String(journal, 0, end, StandardCharsets.UTF_8).split("\\R")) {
+                if (!record.isEmpty()) {
+                    records.add(record);
+                }
+            }
+            return records;
+        } catch (IOException ioe) {
+            throw new StorageOperationException("Error reading from file: " + journalPath);
+        }
+    }
+
+    /**
+     * Applies the change in {@code record} to {@code addressBook}, unless it is already applied.
+     *
+     * A change is already applied if the base file was written after it, in which case the base file may also hold
+     * later versions of the person. So an add is skipped if an equivalent person is stored, and a remove is
+     * skipped unless a person equal to the recorded one is stored: either way the later records in the journal
+     * bring the person to its final state.
+     */
+    private static void replay(String record, AddressBook addressBook) throws StorageOperationException {
+        try {
+            if (record.equals(CLEAR_RECORD)) {
+                addressBook.clear();
+            } else if (record.startsWith(ADD_RECORD_PREFIX)) {
+                addressBook.addPerson(decodeRecordedPerson(record, ADD_RECORD_PREFIX));
+            } else if (record.startsWith(REMOVE_RECORD_PREFIX)) {
+                addressBook.removePerson(decodeRecordedPerson(record, REMOVE_RECORD_PREFIX));
+            } else {
+                throw new StorageOperationException("Journal record in invalid format. Unable to replay.");
+            }
+        } catch (DuplicatePersonException | PersonNotFoundException alreadyApplied) {
+            // skipped, see above
+        } catch (IllegalValueException ive) {
+            throw new StorageOperationException("Journal contains illegal data values; data type constraints not met");
+        }
+    }
+
+    private static Person decodeRecordedPerson(String record, String prefix)
+            throws IllegalValueException, StorageOperationException {
+        return AddressBookDecoder.decodePersonFromString(record.substring(prefix.length()));
+    }
+
+    private void recordChangesOf(AddressBook addressBook) {
+        if (recordedAddressBook != addressBook) {
+            if (recordedAddressBook != null) {
+                recordedAddressBook.removeChangeListener(recorder);
+            }
+            addressBook.addChangeListener(recorder);
+            recordedAddressBook = addressBook;
+        }
+        takePendingRecords();
+    }
+
+    private List<String> takePendingRecords() {
+        synchronized (pendingRecords) {
+            final List<String> records = new ArrayList<>(pendingRecords);
+            pendingRecords.clear();
+            return records;
+        }
+    }
+
+    /**
+     * Turns every change to the recorded address book into a pending record.
+     */
+    private class Recorder implements AddressBookChangeListener {
+
+        @Override
+        public void personAdded(ReadOnlyPerson person) {
+            addPendingRecord(ADD_RECORD_PREFIX + AddressBookEncoder.encodePersonToString(person));
+        }
+
+        @Override
+        public void personRemoved(ReadOnlyPerson person) {
+            addPendingRecord(REMOVE_RECORD_PREFIX + AddressBookEncoder.encodePersonToString(person));
+        }
+
+        @Override
+        public void cleared() {
+            addPendingRecord(CLEAR_RECORD);
+        }
+
+        private void addPendingRecord(String record) {
+            synchronized (pendingRecords) {
+                pendingRecords.add(record);
+            }
+        }
+    }
+}
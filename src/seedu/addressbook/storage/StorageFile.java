@@ -1,25 +1,47 @@
 package seedu.addressbook.storage;
 
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.BufferedWriter;
 import java.io.FileNotFoundException;
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
 import java.util.List;
+import java.util.Objects;
 
 import seedu.addressbook.data.AddressBook;
 import seedu.addressbook.data.exception.IllegalValueException;
 
 /**
  * Represents the file used to store address book data.
+ * Files ending with {@value #BINARY_FILE_EXTENSION} are saved in the binary format of {@link BinaryAddressBookCodec},
+ * and other files in the text format of {@link AddressBookEncoder}. Files in either format can be loaded from any
+ * path, as the binary format is recognised by its header.
+ * The file is replaced atomically on every save, and forced to the disk as set by its {@link DurabilityPolicy}.
  */
 public class StorageFile {
 
     /** Default file path used if the user doesn't provide the file name. */
     public static final String DEFAULT_STORAGE_FILEPATH = "addressbook.txt";
 
+    public static final String TEXT_FILE_EXTENSION = ".txt";
+    public static final String BINARY_FILE_EXTENSION = ".bin";
+
+    /** Appended to the path of the storage file to get the path of the file a save is written to first. */
+    public static final String TEMPORARY_FILE_EXTENSION = ".tmp";
 
     public final Path path;
+    protected final DurabilityPolicy durability;
 
     /**
      * @throws InvalidStorageFilePathException if the default path is invalid
@@ -32,18 +54,31 @@ public class StorageFile {
      * @throws InvalidStorageFilePathException if the given file path is invalid
      */
     public StorageFile(String filePath) throws InvalidStorageFilePathException {
+        this(filePath, DurabilityPolicy.EVERY_OPERATION);
+    }
+
+    /**
+     * @throws InvalidStorageFilePathException if the given file path is invalid
+     */
+    public StorageFile(String filePath, DurabilityPolicy durability) throws InvalidStorageFilePathException {
         path = Paths.get(filePath);
         if (!isValidPath(path)) {
-            throw new InvalidStorageFilePathException("Storage file should end with '.txt'");
+            throw new InvalidStorageFilePathException("Storage file should end with '" + TEXT_FILE_EXTENSION
+                    + "' or '" + BINARY_FILE_EXTENSION + "'");
         }
+        this.durability = durability;
     }
 
     /**
      * Returns true if the given path is acceptable as a storage file.
-     * The file path is considered acceptable if it ends with '.txt'
+     * The file path is considered acceptable if it ends with '.txt' or '.bin'
      */
     private static boolean isValidPath(Path filePath) {
-        return filePath.toString().endsWith(".txt");
+        return filePath.toString().endsWith(TEXT_FILE_EXTENSION) || isBinaryPath(filePath);
+    }
+
+    private static boolean isBinaryPath(Path filePath) {
+        return filePath.toString().endsWith(BINARY_FILE_EXTENSION);
     }
 
     /**
@@ -53,13 +88,77 @@ public class StorageFile {
      */
     public void save(AddressBook addressBook) throws StorageOperationException {
         try {
+            if (isBinaryPath(path)) {
+                Objects.requireNonNull(addressBook);
+                replaceWith(out -> BinaryAddressBookCodec.encodeAddressBook(addressBook, out));
+                return;
+            }
             List<String> encodedAddressBook = AddressBookEncoder.encodeAddressBook(addressBook);
-            Files.write(path, encodedAddressBook);
+            replaceWith(out -> {
+                final BufferedWriter writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8));
+                for (String line : encodedAddressBook) {
+                    writer.write(line);
+                    writer.newLine();
+                }
+                writer.flush();
+            });
         } catch (IOException ioe) {
             throw new StorageOperationException("Error writing to file: " + path);
         }
     }
 
+    /**
+     * Replaces the storage file with a file of the content written by {@code content}, atomically: the content is
+     * written to a temporary file next to the storage file, which is then renamed over it, so that a crash at any
+     * point leaves either the old or the new file and never a partly written one. Unless the durability policy
+     * leaves it to the OS, the temporary file is forced to the disk before the rename, and the directory after it.
+     */
+    protected synchronized void replaceWith(ContentWriter content) throws IOException {
+        final Path temporaryPath = path.resolveSibling(path.getFileName() + TEMPORARY_FILE_EXTENSION);
+        try (OutputStream out = new BufferedOutputStream(Files.newOutputStream(temporaryPath))) {
+            content.writeTo(out);
+        }
+        if (!durability.isOsManaged()) {
+            force(temporaryPath);
+        }
+        try {
+            Files.move(temporaryPath, path, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        } catch (AtomicMoveNotSupportedException amnse) {
+            Files.move(temporaryPath, path, StandardCopyOption.REPLACE_EXISTING);
+        }
+        if (!durability.isOsManaged()) {
+            forceDirectoryOf(path);
+        }
+    }
+
+    /**
+     * Forces the contents of the file at {@code filePath} to the disk.
+     */
+    protected static void force(Path filePath) throws IOException {
+        try (FileChannel channel = FileChannel.open(filePath, StandardOpenOption.WRITE)) {
+            channel.force(true);
+        }
+    }
+
+    /**
+     * Forces the directory containing {@code filePath} to the disk, so that files created, renamed or deleted in it
+     * stay so after a power loss. Does nothing on platforms where directories cannot be opened, e.g. Windows.
+     */
+    protected static void forceDirectoryOf(Path filePath) throws IOException {
+        final Path directory = filePath.toAbsolutePath().getParent();
+        final FileChannel channel;
+        try {
+            channel = FileChannel.open(directory, StandardOpenOption.READ);
+        } catch (IOException ioe) {
+            return;
+        }
+        try {
+            channel.force(true);
+        } finally {
+            channel.close();
+        }
+    }
+
     /**
      * Loads the {@code AddressBook} data from this storage file, and then returns it.
      * Returns an empty {@code AddressBook} if the file does not exist, or is not a regular file.
@@ -67,13 +166,18 @@ public class StorageFile {
      * @throws StorageOperationException if there were errors reading and/or converting data from file.
      */
     public AddressBook load() throws StorageOperationException {
-
-        if (!Files.exists(path) || !Files.isRegularFile(path)) {
+        final Path sourcePath = getPathToLoad();
+        if (!Files.exists(sourcePath) || !Files.isRegularFile(sourcePath)) {
             return new AddressBook();
         }
 
         try {
-            return AddressBookDecoder.decodeAddressBook(Files.readAllLines(path));
+            if (isBinaryFile(sourcePath)) {
+                try (InputStream in = new BufferedInputStream(Files.newInputStream(sourcePath))) {
+                    return BinaryAddressBookCodec.decodeAddressBook(in);
+                }
+            }
+            return AddressBookDecoder.decodeAddressBook(Files.readAllLines(sourcePath));
         } catch (FileNotFoundException fnfe) {
             throw new AssertionError("A non-existent file scenario is already handled earlier.");
         // other errors
@@ -84,6 +188,25 @@ public class StorageFile {
         }
     }
 
+    /**
+     * Returns the path of the file to load: the storage file, or while a binary storage file does not exist yet,
+     * the text file it migrates from, i.e. the file with the same name but {@value #TEXT_FILE_EXTENSION}.
+     */
+    private Path getPathToLoad() {
+        if (!isBinaryPath(path) || Files.exists(path)) {
+            return path;
+        }
+        final String binaryFileName = path.getFileName().toString();
+        return path.resolveSibling(binaryFileName.substring(0, binaryFileName.length() - BINARY_FILE_EXTENSION.length())
+                + TEXT_FILE_EXTENSION);
+    }
+
+    private static boolean isBinaryFile(Path filePath) throws IOException {
+        try (InputStream in = Files.newInputStream(filePath)) {
+            return BinaryAddressBookCodec.hasMagic(in);
+        }
+    }
+
     public String getPath() {
         return path.toString();
     }
@@ -92,6 +215,13 @@ public class StorageFile {
      * More info https://docs.oracle.com/javase/tutorial/java/javaOO/nested.html
      */
 
+    /**
+     * Writes the content of a file.
+     */
+    protected interface ContentWriter {
+        void writeTo(OutputStream out) throws IOException;
+    }
+
     /**
      * Signals that the given file path does not fulfill the storage filepath constraints.
      */
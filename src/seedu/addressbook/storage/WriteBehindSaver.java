@@ -0,0 +1,209 @@
+package seedu.addressbook.storage;
+
+import java.util.concurrent.TimeUnit;
+
+import seedu.addressbook.data.AddressBook;
+import seedu.addressbook.storage.StorageFile.StorageOperationException;
+
+/**
+ * Saves an address book to a storage file on a background thread, so that changing the address book does not wait
+ * for the disk.
+ *
+ * Callers report each change with {@link #changed()}, which only records it. The writer thread coalesces a burst of
+ * changes into a single save: it saves once the oldest unsaved change is {@code maxDelayMillis} old, or once
+ * {@code maxPendingChanges} changes are unsaved, whichever comes first. {@link #flush()} waits until every change
+ * reported so far is saved, and {@link #close()} flushes and stops the writer; a JVM shutdown hook closes the saver
+ * if the application did not.
+ *
+ * The writer reads the address book while other threads may be changing it, so the address book must support that,
+ * e.g. a {@link seedu.addressbook.data.ConcurrentAddressBook}.
+ */
+public class WriteBehindSaver implements AutoCloseable {
+
+    /** Default maximum time a change waits before it is saved. */
+    public static final long DEFAULT_MAX_DELAY_MILLIS = 200;
+    /** Default maximum number of unsaved changes before they are saved without waiting any longer. */
+    public static final int DEFAULT_MAX_PENDING_CHANGES = 100;
+
+    private final StorageFile storage;
+    private final AddressBook addressBook;
+    private final long maxDelayNanos;
+    private final int maxPendingChanges;
+    private final Thread shutdownHook;
+
+    // all fields below are guarded by this saver
+
+    /** Number of changes reported so far. */
+    private long reportedCount;
+    /** Number of changes the writer has started to save. */
+    private long takenCount;
+    /** Number of changes saved, or whose save failed. */
+    private long savedCount;
+    /** When the oldest change not yet taken by the writer was reported, in {@link System#nanoTime()} terms. */
+    private long oldestPendingNanos;
+    private boolean isFlushRequested;
+    private boolean isClosed;
+    /** The failure of the last save, if it failed and the failure has not been reported yet. */
+    private StorageOperationException failure;
+
+    /**
+     * Starts saving changes to {@code addressBook} to {@code storage} with the default limits.
+     */
+    public WriteBehindSaver(StorageFile storage, AddressBook addressBook) {
+        this(storage, addressBook, DEFAULT_MAX_DELAY_MILLIS, DEFAULT_MAX_PENDING_CHANGES);
+    }
+
+    /**
+     * Starts saving changes to {@code addressBook} to {@code storage}.
+     *
+     * @param maxDelayMillis longest time a change waits before it is saved, unless a save is already running
+     * @param maxPendingChanges number of unsaved changes at which they are saved without waiting any longer
+     */
+    public WriteBehindSaver(StorageFile storage, AddressBook addressBook, long maxDelayMillis,
+                            int maxPendingChanges) {
+        if (maxDelayMillis < 0 || maxPendingChanges < 1) {
+            throw new IllegalArgumentException("The delay must not be negative and at least one change must pend");
+        }
+        this.storage = storage;
+        this.addressBook = addressBook;
+        this.maxDelayNanos = TimeUnit.MILLISECONDS.toNanos(maxDelayMillis);
+        this.maxPendingChanges = maxPendingChanges;
+        final Thread writer = new Thread(this::writeUntilClosed, "write-behind " + storage.getPath());
+        writer.setDaemon(true);
+        writer.start();
+        this.shutdownHook = new Thread(this::closeQuietly, "write-behind flush " + storage.getPath());
+        Runtime.getRuntime().addShutdownHook(shutdownHook);
+    }
+
+    /**
+     * Records that the address book has changed, to be saved soon. Does not wait for the change to be saved.
+     *
+     * @throws StorageOperationException if an earlier save failed since the last failure was reported.
+     */
+    public synchronized void changed() throws StorageOperationException {
+        if (isClosed) {
+            throw new IllegalStateException("The saver is closed");
+        }
+        throwFailure();
+        if (reportedCount == takenCount) {
+            oldestPendingNanos = System.nanoTime();
+        }
+        reportedCount++;
+        notifyAll();
+    }
+
+    /**
+     * Saves the changes reported so far without further delay, and waits until they are saved.
+     *
+     * @throws StorageOperationException if a save failed since the last failure was reported.
+     */
+    public synchronized void flush() throws StorageOperationException {
+        final long target = reportedCount;
+        isFlushRequested = true;
+        notifyAll();
+        boolean isInterrupted = false;
+        while (savedCount < target) {
+            try {
+                wait();
+            } catch (InterruptedException ie) {
+                isInterrupted = true;
+            }
+        }
+        if (isInterrupted) {
+            Thread.currentThread().interrupt();
+        }
+        throwFailure();
+    }
+
+    /**
+     * Flushes the reported changes and stops the writer. Later calls have no effect.
+     *
+     * @throws StorageOperationException if a save failed since the last failure was reported.
+     */
+    @Override
+    public void close() throws StorageOperationException {
+        synchronized (this) {
+            if (isClosed) {
+                return;
+            }
+            isClosed = true;
+        }
+        try {
+            flush();
+        } finally {
+            try {
+                Runtime.getRuntime().removeShutdownHook(shutdownHook);
+            } catch (IllegalStateException ise) {
+                // already shutting down, possibly running the hook
+            }
+        }
+    }
+
+    private void closeQuietly() {
+        try {
+            close();
+        } catch (StorageOperationException soe) {
+            // nothing left to report the failure to while the JVM shuts down
+        }
+    }
+
+    private void throwFailure() throws StorageOperationException {
+        if (failure != null) {
+            final StorageOperationException toThrow = failure;
+            failure = null;
+            throw toThrow;
+        }
+    }
+
+    private void writeUntilClosed() {
+        long target;
+        while ((target = awaitChangesToSave()) >= 0) {
+            StorageOperationException saveFailure = null;
+            try {
+                storage.save(addressBook);
+            } catch (StorageOperationException soe) {
+                saveFailure = soe;
+            } catch (RuntimeException re) {
+                saveFailure = new StorageOperationException("Error saving to file: " + storage.getPath());
+            }
+            synchronized (this) {
+                savedCount = target;
+                if (saveFailure != null) {
+                    failure = saveFailure;
+                }
+                notifyAll();
+            }
+        }
+    }
+
+    /**
+     * Waits until the reported changes are due to be saved, takes them, and returns the number of changes reported
+     * so far. Returns -1 once the saver is closed and all changes are saved.
+     */
+    private synchronized long awaitChangesToSave() {
+        try {
+            while (reportedCount == takenCount) {
+                if (isClosed && savedCount == reportedCount) {
+                    return -1;
+                }
+                wait();
+            }
+            while (!isFlushRequested && !isClosed && reportedCount - takenCount < maxPendingChanges) {
+                final long remainingNanos = oldestPendingNanos + maxDelayNanos - System.nanoTime();
+                if (remainingNanos <= 0) {
+                    break;
+                }
+                TimeUnit.NANOSECONDS.timedWait(this, remainingNanos);
+            }
+        } catch (InterruptedException ie) {
+            // save what is pending, then stop
+            isClosed = true;
+            if (reportedCount == takenCount) {
+                return -1;
+            }
+        }
+        isFlushRequested = false;
+        takenCount = reportedCount;
+        return takenCount;
+    }
+}
@@ -1,6 +1,7 @@
 package seedu.addressbook.commands;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import java.util.Collections;
 import java.util.List;
@@ -51,6 +52,11 @@ public class DeleteCommandTest {
         listWithSurnameDoe = TestUtil.createList(johnDoe, janeDoe, samDoe);
     }
 
+    @Test
+    public void isMutating_deleteCommand_true() {
+        assertTrue(new DeleteCommand(1).isMutating());
+    }
+
     @Test
     public void execute_emptyAddressBook_returnsPersonNotFoundMessage() {
         assertDeletionFailsDueToNoSuchPerson(1, emptyAddressBook, listWithEveryone);
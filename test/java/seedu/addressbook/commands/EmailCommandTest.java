@@ -0,0 +1,87 @@
+package seedu.addressbook.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.addressbook.data.AddressBook;
+import seedu.addressbook.data.person.Address;
+import seedu.addressbook.data.person.Email;
+import seedu.addressbook.data.person.Name;
+import seedu.addressbook.data.person.Person;
+import seedu.addressbook.data.person.Phone;
+import seedu.addressbook.data.person.ReadOnlyPerson;
+import seedu.addressbook.util.TypicalPersons;
+
+public class EmailCommandTest {
+
+    private final AddressBook addressBook = new TypicalPersons().getTypicalAddressBook();
+    private final TypicalPersons td = new TypicalPersons();
+
+    @Test
+    public void execute_domain() throws Exception {
+        Person eve = createPerson("Eve", "eve@mail.GMAIL.com");
+        Person fay = createPerson("Fay", "fay@notgmail.com");
+        addressBook.addPerson(eve);
+        addressBook.addPerson(fay);
+
+        //domain and its subdomains, any case: matched
+        assertEmailCommandBehavior("", "Gmail.com", Arrays.asList(td.getAmy(), td.getBill(), td.getCandy(), eve));
+        assertEmailCommandBehavior("", "com", Arrays.asList(td.getAmy(), td.getBill(), td.getCandy(), eve, fay));
+        assertEmailCommandBehavior("", "mail.gmail.com", Arrays.asList(eve));
+
+        //partial label: not matched
+        assertEmailCommandBehavior("", "mail.com", Collections.emptyList());
+
+        //private email: not matched
+        assertEmailCommandBehavior("", "tt.com", Collections.emptyList());
+    }
+
+    @Test
+    public void execute_localPart() {
+        //same local part: matched
+        assertEmailCommandBehavior("bc", "", Arrays.asList(td.getBill()));
+
+        //local part of a private email: not matched
+        assertEmailCommandBehavior("ss", "", Collections.emptyList());
+
+        //local part and domain: both must match
+        assertEmailCommandBehavior("cd", "gmail.com", Arrays.asList(td.getCandy()));
+        assertEmailCommandBehavior("cd", "yahoo.com", Collections.emptyList());
+    }
+
+    @Test
+    public void execute_afterAddressBookChanged_matchesCurrentPersons() throws Exception {
+        addressBook.removePerson(td.getAmy());
+        addressBook.removePerson(td.getBill());
+        addressBook.removePerson(td.getCandy());
+        assertEmailCommandBehavior("", "gmail.com", Collections.emptyList());
+        assertEmailCommandBehavior("ab", "", Collections.emptyList());
+
+        addressBook.addPerson(td.getBill());
+        assertEmailCommandBehavior("", "gmail.com", Arrays.asList(td.getBill()));
+    }
+
+    private static Person createPerson(String name, String email) throws Exception {
+        return new Person(new Name(name), new Phone("1", false), new Email(email, false),
+                new Address("NUS", false), Collections.emptySet());
+    }
+
+    /**
+     * Executes the email command for the given local part and domain and verifies
+     * the result matches the persons in the expectedPersonList exactly.
+     */
+    private void assertEmailCommandBehavior(String localPart, String domain,
+                                            List<ReadOnlyPerson> expectedPersonList) {
+        EmailCommand command = new EmailCommand(localPart, domain);
+        command.setData(addressBook, Collections.emptyList());
+        CommandResult result = command.execute();
+
+        assertEquals(Command.getMessageForPersonListShownSummary(expectedPersonList), result.feedbackToUser);
+        assertEquals(expectedPersonList, result.getRelevantPersons().get());
+    }
+}
@@ -42,25 +42,104 @@ public class FindCommandTest {
         assertFindCommandBehavior(new String[]{"Clementi"}, Collections.emptyList());
     }
 
+    @Test
+    public void execute_afterAddressBookChanged_matchesCurrentPersons() throws Exception {
+        addressBook.removePerson(td.getAmy());
+        assertFindCommandBehavior(new String[]{"Amy", "Buck"}, Collections.emptyList());
+
+        addressBook.addPerson(td.getAmy());
+        assertFindCommandBehavior(new String[]{"Buck", "Destiny"}, Arrays.asList(td.getCandy(), td.getAmy()));
+    }
+
+    @Test
+    public void execute_prefixMode_matchesWordPrefixesIgnoringCase() throws Exception {
+        //prefix of first or later word, any case: matched
+        assertFindCommandBehavior(FindCommand.MatchMode.PREFIX, new String[]{"aM"}, Arrays.asList(td.getAmy()));
+        assertFindCommandBehavior(FindCommand.MatchMode.PREFIX, new String[]{"dest", "CL"},
+                Arrays.asList(td.getBill(), td.getCandy()));
+
+        //whole word: matched
+        assertFindCommandBehavior(FindCommand.MatchMode.PREFIX, new String[]{"candy"}, Arrays.asList(td.getCandy()));
+
+        //middle of a word or longer than the word: not matched
+        assertFindCommandBehavior(FindCommand.MatchMode.PREFIX, new String[]{"my", "Amyx"}, Collections.emptyList());
+
+        //removed person: not matched
+        addressBook.removePerson(td.getAmy());
+        assertFindCommandBehavior(FindCommand.MatchMode.PREFIX, new String[]{"a"}, Collections.emptyList());
+    }
+
+    @Test
+    public void execute_fuzzyMode_matchesSimilarWordsClosestFirst() throws Exception {
+        //one typo, any case: matched
+        assertFindCommandBehavior(FindCommand.MatchMode.FUZZY, new String[]{"clnt"}, Arrays.asList(td.getBill()));
+        assertFindCommandBehavior(FindCommand.MatchMode.FUZZY, new String[]{"AMI"}, Arrays.asList(td.getAmy()));
+
+        //closer match ranked first
+        assertFindCommandBehavior(FindCommand.MatchMode.FUZZY, new String[]{"Destni", "Smith"},
+                Arrays.asList(td.getDan(), td.getCandy()));
+
+        //too many typos: not matched
+        assertFindCommandBehavior(FindCommand.MatchMode.FUZZY, new String[]{"Axz", "Smoooth"},
+                Collections.emptyList());
+    }
+
+    @Test
+    public void execute_substringMode_matchesAnywhereIgnoringCase() {
+        //part of a word, any case: matched
+        assertFindCommandBehavior(FindCommand.MatchMode.SUBSTRING, new String[]{"MY"}, Arrays.asList(td.getAmy()));
+        assertFindCommandBehavior(FindCommand.MatchMode.SUBSTRING, new String[]{"in", "uc"},
+                Arrays.asList(td.getAmy(), td.getBill(), td.getCandy()));
+
+        //across words: matched
+        assertFindCommandBehavior(FindCommand.MatchMode.SUBSTRING, new String[]{"n sm"}, Arrays.asList(td.getDan()));
+
+        //not in any name: not matched
+        assertFindCommandBehavior(FindCommand.MatchMode.SUBSTRING, new String[]{"xyz"}, Collections.emptyList());
+    }
+
+    @Test
+    public void execute_phoneticMode_matchesSoundAlikeWords() {
+        //different spelling, any case: matched
+        assertFindCommandBehavior(FindCommand.MatchMode.PHONETIC, new String[]{"Smyth"}, Arrays.asList(td.getDan()));
+        assertFindCommandBehavior(FindCommand.MatchMode.PHONETIC, new String[]{"candi", "AMMI"},
+                Arrays.asList(td.getAmy(), td.getCandy()));
+
+        //different first letter or consonants: not matched
+        assertFindCommandBehavior(FindCommand.MatchMode.PHONETIC, new String[]{"Klint", "Smart"},
+                Collections.emptyList());
+    }
+
     /**
      * Executes the find command for the given keywords and verifies
      * the result matches the persons in the expectedPersonList exactly.
      */
     private void assertFindCommandBehavior(String[] keywords, List<ReadOnlyPerson> expectedPersonList) {
-        FindCommand command = createFindCommand(keywords);
+        assertFindCommandBehavior(FindCommand.MatchMode.WORD, keywords, expectedPersonList);
+    }
+
+    /**
+     * Executes the find command for the given keywords in the given match mode and verifies
+     * the result matches the persons in the expectedPersonList exactly.
+     */
+    private void assertFindCommandBehavior(FindCommand.MatchMode matchMode, String[] keywords,
+                                           List<ReadOnlyPerson> expectedPersonList) {
+        FindCommand command = createFindCommand(matchMode, keywords);
         CommandResult result = command.execute();
 
         assertEquals(Command.getMessageForPersonListShownSummary(expectedPersonList), result.feedbackToUser);
+        assertEquals(expectedPersonList, result.getRelevantPersons().get());
     }
 
     /**
      * Factory method that creates and returns a {@code FindCommand}.
+     * @param matchMode how the keywords are matched.
      * @param keywords list of keywords to search for.
      * @return an instance of {@FindCommand} that searches the test AddressBook.
      */
-    private FindCommand createFindCommand(String[] keywords) {
+    private FindCommand createFindCommand(FindCommand.MatchMode matchMode, String[] keywords) {
         final Set<String> keywordSet = new HashSet<>(Arrays.asList(keywords));
-        FindCommand command = new FindCommand(keywordSet);
+        FindCommand command = new FindCommand(keywordSet, matchMode);
         command.setData(addressBook, Collections.emptyList());
         return command;
     }
@@ -0,0 +1,75 @@
+package seedu.addressbook.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.addressbook.data.AddressBook;
+import seedu.addressbook.data.person.Email;
+import seedu.addressbook.data.person.Person;
+import seedu.addressbook.data.person.Phone;
+import seedu.addressbook.data.person.ReadOnlyPerson;
+import seedu.addressbook.util.TypicalPersons;
+
+public class LookupCommandTest {
+
+    private final AddressBook addressBook = new TypicalPersons().getTypicalAddressBook();
+    private final TypicalPersons td = new TypicalPersons();
+
+    @Test
+    public void execute_exactNumber() {
+        //public number: matched
+        assertLookupCommandBehavior("91119111", false, Arrays.asList(td.getAmy()));
+
+        //prefix or extension of a number: not matched
+        assertLookupCommandBehavior("9111", false, Collections.emptyList());
+        assertLookupCommandBehavior("911191110", false, Collections.emptyList());
+
+        //private number: not matched
+        assertLookupCommandBehavior("93339333", false, Collections.emptyList());
+    }
+
+    @Test
+    public void execute_prefix() {
+        //common prefix of public numbers: all matched, in list order
+        assertLookupCommandBehavior("9", true, Arrays.asList(td.getAmy(), td.getBill()));
+        assertLookupCommandBehavior("922", true, Arrays.asList(td.getBill()));
+
+        //whole number: matched
+        assertLookupCommandBehavior("91119111", true, Arrays.asList(td.getAmy()));
+
+        //prefix of private numbers only: not matched
+        assertLookupCommandBehavior("933", true, Collections.emptyList());
+        assertLookupCommandBehavior("12", true, Collections.emptyList());
+    }
+
+    @Test
+    public void execute_afterAddressBookChanged_matchesCurrentPersons() throws Exception {
+        Person amyNewNumber = new Person(td.getAmy().getName(), new Phone("92220000", false),
+                new Email("ab@gmail.com", false), td.getAmy().getAddress(), td.getAmy().getTags());
+        addressBook.removePerson(td.getAmy());
+        addressBook.addPerson(amyNewNumber);
+
+        assertLookupCommandBehavior("91119111", false, Collections.emptyList());
+        assertLookupCommandBehavior("911", true, Collections.emptyList());
+        assertLookupCommandBehavior("9222", true, Arrays.asList(td.getBill(), amyNewNumber));
+    }
+
+    /**
+     * Executes the lookup command for the given digits and verifies
+     * the result matches the persons in the expectedPersonList exactly.
+     */
+    private void assertLookupCommandBehavior(String digits, boolean isPrefix,
+                                             List<ReadOnlyPerson> expectedPersonList) {
+        LookupCommand command = new LookupCommand(digits, isPrefix);
+        command.setData(addressBook, Collections.emptyList());
+        CommandResult result = command.execute();
+
+        assertEquals(Command.getMessageForPersonListShownSummary(expectedPersonList), result.feedbackToUser);
+        assertEquals(expectedPersonList, result.getRelevantPersons().get());
+    }
+}
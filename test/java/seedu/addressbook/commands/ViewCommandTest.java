@@ -1,6 +1,7 @@
 package seedu.addressbook.commands;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 
 import java.util.ArrayList;
 import java.util.Arrays;
@@ -30,6 +31,12 @@ public class ViewCommandTest {
     private List<ReadOnlyPerson> listWithAllTypicalPersons = Arrays.asList(td.getTypicalPersons());
     private List<ReadOnlyPerson> listWithSomeTypicalPersons = Arrays.asList(td.getAmy(), td.getCandy(), td.getDan());
 
+    @Test
+    public void isMutating_viewCommands_false() {
+        assertFalse(new ViewCommand(1).isMutating());
+        assertFalse(new ViewAllCommand(1).isMutating());
+    }
+
     @Test
     public void execute_invalidIndex_returnsInvalidIndexMessage() {
         // empty addressbook
@@ -0,0 +1,44 @@
+package seedu.addressbook.common;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.Test;
+
+public class ParallelScanTest {
+
+    @Test
+    public void constructor_nonPositiveThreshold_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> new ParallelScan(ForkJoinPool.commonPool(), 0));
+    }
+
+    @Test
+    public void filter_emptyList_emptyResult() {
+        assertEquals(Collections.emptyList(), new ParallelScan().filter(new ArrayList<Integer>(), item -> true));
+    }
+
+    @Test
+    public void filter_splitIntoChunks_resultInListOrder() {
+        List<Integer> items = IntStream.range(0, 10_000).boxed().collect(Collectors.toList());
+        Predicate<Integer> predicate = item -> item % 7 == 3;
+        List<Integer> expected = items.stream().filter(predicate).collect(Collectors.toList());
+
+        // thresholds from one chunk per item up to a single sequential scan
+        for (int threshold : new int[] {1, 3, 100, 4096, 20_000}) {
+            ForkJoinPool pool = new ForkJoinPool(4);
+            try {
+                assertEquals(expected, new ParallelScan(pool, threshold).filter(items, predicate));
+            } finally {
+                pool.shutdown();
+            }
+        }
+    }
+}
@@ -0,0 +1,86 @@
+package seedu.addressbook.common;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+import java.util.TreeMap;
+
+import org.junit.jupiter.api.Test;
+
+public class PersistentSortedMapTest {
+
+    private final PersistentSortedMap<Integer, String> empty = PersistentSortedMap.empty(Comparator.naturalOrder());
+
+    @Test
+    public void put_existingVersion_unchanged() {
+        PersistentSortedMap<Integer, String> first = empty.put(2, "two");
+        PersistentSortedMap<Integer, String> second = first.put(1, "one").put(2, "TWO");
+
+        assertEquals(1, first.size());
+        assertEquals("two", first.get(2));
+        assertNull(first.get(1));
+
+        assertEquals(2, second.size());
+        assertEquals("TWO", second.get(2));
+        assertTrue(empty.isEmpty());
+    }
+
+    @Test
+    public void remove_existingVersion_unchanged() {
+        PersistentSortedMap<Integer, String> full = empty.put(1, "one").put(2, "two").put(3, "three");
+        PersistentSortedMap<Integer, String> removed = full.remove(2);
+
+        assertFalse(removed.containsKey(2));
+        assertEquals(2, removed.size());
+        assertTrue(full.containsKey(2));
+        assertEquals(3, full.size());
+    }
+
+    @Test
+    public void remove_missingKey_returnsSameVersion() {
+        PersistentSortedMap<Integer, String> map = empty.put(1, "one");
+        assertSame(map, map.remove(5));
+    }
+
+    @Test
+    public void getByIndex_invalidIndex_throwsIndexOutOfBoundsException() {
+        PersistentSortedMap<Integer, String> map = empty.put(1, "one");
+        assertThrows(IndexOutOfBoundsException.class, () -> map.getByIndex(1));
+        assertThrows(IndexOutOfBoundsException.class, () -> map.getByIndex(-1));
+    }
+
+    @Test
+    public void randomOperations_matchTreeMap() {
+        Random random = new Random(42);
+        TreeMap<Integer, String> expected = new TreeMap<>();
+        PersistentSortedMap<Integer, String> actual = empty;
+
+        for (int i = 0; i < 5000; i++) {
+            int key = random.nextInt(1000);
+            if (random.nextInt(3) == 0) {
+                expected.remove(key);
+                actual = actual.remove(key);
+            } else {
+                expected.put(key, "v" + i);
+                actual = actual.put(key, "v" + i);
+            }
+        }
+
+        assertEquals(expected.size(), actual.size());
+        List<String> actualValues = new ArrayList<>();
+        actual.forEach(actualValues::add);
+        assertEquals(new ArrayList<>(expected.values()), actualValues);
+        int index = 0;
+        for (String value : expected.values()) {
+            assertEquals(value, actual.getByIndex(index++));
+        }
+    }
+}
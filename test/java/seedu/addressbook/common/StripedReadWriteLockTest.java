@@ -0,0 +1,82 @@
+package seedu.addressbook.common;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.Lock;
+
+import org.junit.jupiter.api.Test;
+
+public class StripedReadWriteLockTest {
+
+    @Test
+    public void constructor_nonPositiveStripes_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> new StripedReadWriteLock(0));
+    }
+
+    @Test
+    public void constructor_stripes_roundedUpToPowerOfTwo() {
+        assertEquals(1, new StripedReadWriteLock(1).getStripeCount());
+        assertEquals(4, new StripedReadWriteLock(3).getStripeCount());
+        assertEquals(8, new StripedReadWriteLock(8).getStripeCount());
+    }
+
+    @Test
+    public void readLock_heldByOtherThread_readersDoNotBlock() throws Exception {
+        StripedReadWriteLock lock = new StripedReadWriteLock(4);
+        lockOnOtherThreadUntil(lock, new CountDownLatch(1));
+
+        Lock readLock = lock.readLock();
+        assertTrue(readLock.tryLock(5, TimeUnit.SECONDS));
+        readLock.unlock();
+    }
+
+    @Test
+    public void lockForWriting_readLockHeld_waitsForReader() throws Exception {
+        StripedReadWriteLock lock = new StripedReadWriteLock(4);
+        CountDownLatch releaseReader = new CountDownLatch(1);
+        lockOnOtherThreadUntil(lock, releaseReader);
+
+        AtomicBoolean written = new AtomicBoolean();
+        Thread writer = new Thread(() -> {
+            lock.lockForWriting();
+            written.set(true);
+            lock.unlockForWriting();
+        });
+        writer.start();
+        writer.join(100);
+        assertFalse(written.get());
+
+        releaseReader.countDown();
+        writer.join();
+        assertTrue(written.get());
+    }
+
+    /**
+     * Takes the read lock on a new thread and holds it until {@code release} is counted down.
+     */
+    private static void lockOnOtherThreadUntil(StripedReadWriteLock lock, CountDownLatch release)
+            throws InterruptedException {
+        CountDownLatch locked = new CountDownLatch(1);
+        Thread reader = new Thread(() -> {
+            final Lock readLock = lock.readLock();
+            readLock.lock();
+            locked.countDown();
+            try {
+                release.await();
+            } catch (InterruptedException ie) {
+                Thread.currentThread().interrupt();
+            } finally {
+                readLock.unlock();
+            }
+        });
+        reader.setDaemon(true);
+        reader.start();
+        locked.await();
+    }
+}
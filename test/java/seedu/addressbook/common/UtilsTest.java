@@ -1,9 +1,11 @@
 package seedu.addressbook.common;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import java.util.Arrays;
+import java.util.Random;
 
 import org.junit.jupiter.api.Test;
 
@@ -35,6 +37,53 @@ public class UtilsTest {
         assertNotUnique(null, "a", "b", null);
     }
 
+    @Test
+    public void boundedEditDistance() {
+        assertEquals(0, Utils.boundedEditDistance("", "", 0));
+        assertEquals(0, Utils.boundedEditDistance("alice", "alice", 2));
+        assertEquals(1, Utils.boundedEditDistance("alice", "alise", 2));
+        assertEquals(2, Utils.boundedEditDistance("alice", "lice", 2) + Utils.boundedEditDistance("lice", "lic", 2));
+        assertEquals(2, Utils.boundedEditDistance("kitten", "sittin", 2));
+
+        // distance above the bound
+        assertEquals(3, Utils.boundedEditDistance("kitten", "sitting", 2));
+        assertEquals(2, Utils.boundedEditDistance("a", "abcdef", 1));
+
+        // random strings over a small alphabet, against the unbounded distance
+        Random random = new Random(3);
+        for (int i = 0; i < 2000; i++) {
+            String first = randomString(random);
+            String second = randomString(random);
+            int maxDistance = random.nextInt(4);
+            int expected = Math.min(editDistance(first, second), maxDistance + 1);
+            assertEquals(expected, Utils.boundedEditDistance(first, second, maxDistance), first + " " + second);
+        }
+    }
+
+    private static String randomString(Random random) {
+        StringBuilder builder = new StringBuilder();
+        for (int length = random.nextInt(8); length > 0; length--) {
+            builder.append((char) ('a' + random.nextInt(3)));
+        }
+        return builder.toString();
+    }
+
+    private static int editDistance(String first, String second) {
+        int[][] distances = new int[first.length() + 1][second.length() + 1];
+        for (int i = 0; i <= first.length(); i++) {
+            for (int j = 0; j <= second.length(); j++) {
+                if (i == 0 || j == 0) {
+                    distances[i][j] = i + j;
+                } else {
+                    int substitutionCost = first.charAt(i - 1) == second.charAt(j - 1) ? 0 : 1;
+                    distances[i][j] = Math.min(distances[i - 1][j - 1] + substitutionCost,
+                            Math.min(distances[i - 1][j], distances[i][j - 1]) + 1);
+                }
+            }
+        }
+        return distances[first.length()][second.length()];
+    }
+
     @Test
     public void isAnyNull() {
         // no items
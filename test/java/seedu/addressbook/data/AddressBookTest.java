@@ -1,5 +1,6 @@
 package seedu.addressbook.data;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
@@ -10,10 +11,12 @@ import static seedu.addressbook.util.TestUtil.isIdentical;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashSet;
+import java.util.List;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
+import seedu.addressbook.data.index.TagExpression;
 import seedu.addressbook.data.person.Address;
 import seedu.addressbook.data.person.Email;
 import seedu.addressbook.data.person.Name;
@@ -80,6 +83,25 @@ public class AddressBookTest {
         assertThrows(DuplicatePersonException.class, () -> defaultAddressBook.addPerson(aliceBetsy));
     }
 
+    @Test
+    public void addPerson_samePersonWithDifferentDetails_throwsDuplicatePersonException() throws Exception {
+        Person aliceWithNewEmail = new Person(aliceBetsy.getName(),
+                                              aliceBetsy.getPhone(),
+                                              new Email("alice@nus.edu.sg", false),
+                                              aliceBetsy.getAddress(),
+                                              Collections.emptySet());
+
+        assertThrows(DuplicatePersonException.class, () -> defaultAddressBook.addPerson(aliceWithNewEmail));
+    }
+
+    @Test
+    public void addPerson_personPreviouslyRemoved_addsNormally() throws Exception {
+        defaultAddressBook.removePerson(aliceBetsy);
+        defaultAddressBook.addPerson(aliceBetsy);
+
+        assertTrue(defaultAddressBook.containsPerson(aliceBetsy));
+    }
+
     @Test
     public void containsPerson() throws Exception {
         UniquePersonList personsWhoShouldBeIn = new UniquePersonList(aliceBetsy, bobChaplin);
@@ -111,6 +133,29 @@ public class AddressBookTest {
 
     }
 
+    @Test
+    public void removePerson_wordRepeatedInName_removedFromIndexes() throws Exception {
+        Person johnJohn = new Person(new Name("John John"),
+                                     new Phone("91234567", false),
+                                     new Email("john@example.com", false),
+                                     new Address("1 Repeat Road", false),
+                                     Collections.emptySet());
+        defaultAddressBook.addPerson(johnJohn);
+        defaultAddressBook.removePerson(johnJohn);
+
+        assertFalse(defaultAddressBook.containsPerson(johnJohn));
+        List<String> john = Collections.singletonList("John");
+        assertTrue(defaultAddressBook.findPersonsWithNameContainingAnyWord(john).isEmpty());
+        assertTrue(defaultAddressBook.findPersonsWithNameWordStartingWithAny(john).isEmpty());
+        assertTrue(defaultAddressBook.findPersonsWithNameSimilarTo(john).isEmpty());
+        assertTrue(defaultAddressBook.findPersonsWithNameSoundingLike(john).isEmpty());
+
+        // the person can be added again
+        defaultAddressBook.addPerson(johnJohn);
+        assertEquals(Collections.singletonList(johnJohn),
+                defaultAddressBook.findPersonsWithNameContainingAnyWord(john));
+    }
+
     @Test
     public void removePerson_personNotExists_throwsPersonNotFoundException() {
         assertThrows(PersonNotFoundException.class, () -> defaultAddressBook.removePerson(charlieDouglas));
@@ -121,6 +166,7 @@ public class AddressBookTest {
         defaultAddressBook.clear();
 
         assertTrue(isEmpty(defaultAddressBook.getAllPersons()));
+        assertFalse(defaultAddressBook.containsPerson(aliceBetsy));
     }
 
     @Test
@@ -130,4 +176,187 @@ public class AddressBookTest {
 
         assertTrue(isIdentical(allPersons, personsToCheck));
     }
+
+    @Test
+    public void getAllPersons_addressBookModifiedAfterwards_snapshotUnchanged() throws Exception {
+        UniquePersonList snapshot = defaultAddressBook.getAllPersons();
+        defaultAddressBook.addPerson(charlieDouglas);
+        defaultAddressBook.removePerson(aliceBetsy);
+
+        assertTrue(isIdentical(snapshot, new UniquePersonList(aliceBetsy, bobChaplin)));
+        assertTrue(isIdentical(defaultAddressBook.getAllPersons(), new UniquePersonList(bobChaplin, charlieDouglas)));
+    }
+
+    @Test
+    public void getAllPersons_snapshotModified_addressBookUnchanged() throws Exception {
+        UniquePersonList snapshot = defaultAddressBook.getAllPersons();
+        snapshot.add(davidElliot);
+        snapshot.clear();
+
+        assertTrue(isIdentical(defaultAddressBook.getAllPersons(), new UniquePersonList(aliceBetsy, bobChaplin)));
+    }
+
+    @Test
+    public void persistentPersonList_copyModifiedAfterwards_originalUnchanged() throws Exception {
+        UniquePersonList original = UniquePersonList.createPersistent();
+        original.add(aliceBetsy);
+        original.add(bobChaplin);
+
+        UniquePersonList copy = new UniquePersonList(original);
+        copy.remove(aliceBetsy);
+        copy.add(charlieDouglas);
+
+        assertTrue(isIdentical(original, new UniquePersonList(aliceBetsy, bobChaplin)));
+        assertTrue(isIdentical(copy, new UniquePersonList(bobChaplin, charlieDouglas)));
+        assertTrue(copy.contains(charlieDouglas));
+        assertFalse(original.contains(charlieDouglas));
+        assertThrows(DuplicatePersonException.class, () -> copy.add(bobChaplin));
+    }
+
+    @Test
+    public void getSnapshot_addressBookModifiedAfterwards_snapshotUnchanged() throws Exception {
+        AddressBookSnapshot snapshot = defaultAddressBook.getSnapshot();
+        defaultAddressBook.removePerson(aliceBetsy);
+        defaultAddressBook.addPerson(charlieDouglas);
+
+        assertTrue(snapshot.containsPerson(aliceBetsy));
+        assertFalse(snapshot.containsPerson(charlieDouglas));
+        assertTrue(isIdentical(snapshot.getAllPersons(), new UniquePersonList(aliceBetsy, bobChaplin)));
+        assertEquals(snapshot.getVersion() + 2, defaultAddressBook.getSnapshot().getVersion());
+    }
+
+    @Test
+    public void getSnapshot_addressBookModifiedAfterwards_searchesSeeSnapshot() throws Exception {
+        AddressBookSnapshot snapshot = defaultAddressBook.getSnapshot();
+        List<String> alice = Collections.singletonList("Alice");
+        assertEquals(Collections.singletonList(aliceBetsy), snapshot.findPersonsWithNameContainingAnyWord(alice));
+
+        defaultAddressBook.removePerson(aliceBetsy);
+        defaultAddressBook.addPerson(charlieDouglas);
+
+        assertTrue(defaultAddressBook.findPersonsWithNameContainingAnyWord(alice).isEmpty());
+        assertEquals(Collections.singletonList(aliceBetsy), snapshot.findPersonsWithNameContainingAnyWord(alice));
+        assertEquals(Arrays.asList(aliceBetsy, bobChaplin),
+                snapshot.findPersonsWithTags(TagExpression.hasTag(tagMathematician)));
+        assertTrue(snapshot.findPersonsWithTags(TagExpression.hasTag(tagScientist)).isEmpty());
+    }
+
+    @Test
+    public void getSnapshot_failedChange_versionUnchanged() throws Exception {
+        long versionBeforeChange = defaultAddressBook.getSnapshot().getVersion();
+
+        assertThrows(DuplicatePersonException.class, () -> defaultAddressBook.addPerson(aliceBetsy));
+        assertThrows(PersonNotFoundException.class, () -> defaultAddressBook.removePerson(charlieDouglas));
+        defaultAddressBook.containsPerson(aliceBetsy);
+        defaultAddressBook.getAllPersons();
+
+        assertEquals(versionBeforeChange, defaultAddressBook.getSnapshot().getVersion());
+    }
+
+    @Test
+    public void getVersion_changes_increasedOnlyBySuccessfulChanges() throws Exception {
+        long initialVersion = defaultAddressBook.getVersion();
+
+        defaultAddressBook.findPersonsWithNameContainingAnyWord(Collections.singleton("Alice"));
+        assertThrows(DuplicatePersonException.class, () -> defaultAddressBook.addPerson(aliceBetsy));
+        assertEquals(initialVersion, defaultAddressBook.getVersion());
+
+        defaultAddressBook.addPerson(charlieDouglas);
+        defaultAddressBook.clear();
+        assertEquals(initialVersion + 2, defaultAddressBook.getVersion());
+        assertEquals(defaultAddressBook.getVersion(), defaultAddressBook.getSnapshot().getVersion());
+    }
+
+    @Test
+    public void constructor_builder_containsBuiltPersons() throws Exception {
+        UniquePersonList.Builder builder = new UniquePersonList.Builder(2);
+        builder.add(aliceBetsy).add(bobChaplin);
+        AddressBook addressBook = new AddressBook(builder);
+
+        assertTrue(isIdentical(addressBook.getAllPersons(), new UniquePersonList(aliceBetsy, bobChaplin)));
+        assertThrows(IllegalStateException.class, () -> builder.add(charlieDouglas));
+        assertThrows(IllegalStateException.class, () -> builder.build());
+    }
+
+    @Test
+    public void builderAdd_duplicatePerson_throwsDuplicatePersonException() throws Exception {
+        UniquePersonList.Builder builder = new UniquePersonList.Builder(0);
+        builder.add(aliceBetsy);
+
+        assertThrows(DuplicatePersonException.class, () -> builder.add(aliceBetsy));
+    }
+
+    @Test
+    public void findPersonsWithTags_afterChanges_resultsInListOrder() throws Exception {
+        AddressBook addressBook = new AddressBook(new UniquePersonList(aliceBetsy, bobChaplin, charlieDouglas));
+        addressBook.addPerson(davidElliot);
+        addressBook.removePerson(bobChaplin);
+
+        TagExpression scientistOrPrizeWinner = TagExpression.or(TagExpression.hasTag(tagPrizeWinner),
+                TagExpression.hasTag(tagScientist));
+        assertEquals(Arrays.asList(charlieDouglas, davidElliot),
+                addressBook.findPersonsWithTags(scientistOrPrizeWinner));
+        assertEquals(Arrays.asList(aliceBetsy, charlieDouglas),
+                addressBook.findPersonsWithTags(TagExpression.not(TagExpression.hasTag(tagEconomist))));
+        assertEquals(Collections.singletonList(aliceBetsy),
+                addressBook.findPersonsWithTags(TagExpression.hasTag(tagMathematician)));
+
+        addressBook.clear();
+        assertTrue(addressBook.findPersonsWithTags(TagExpression.hasTag(tagMathematician)).isEmpty());
+    }
+
+    @Test
+    public void findPersonsWithTags_manyRemovals_resultsInListOrder() throws Exception {
+        AddressBook addressBook = new AddressBook();
+        for (int i = 0; i < 200; i++) {
+            addressBook.addPerson(new Person(new Name("Person"), new Phone(String.valueOf(i), false),
+                    aliceBetsy.getEmail(), aliceBetsy.getAddress(), Collections.singleton(tagScientist)));
+        }
+        for (int i = 0; i < 190; i++) {
+            addressBook.removePerson(new Person(new Name("Person"), new Phone(String.valueOf(i), false),
+                    aliceBetsy.getEmail(), aliceBetsy.getAddress(), Collections.singleton(tagScientist)));
+        }
+
+        assertEquals(addressBook.getAllPersons().immutableListView(),
+                addressBook.findPersonsWithTags(TagExpression.hasTag(tagScientist)));
+        assertEquals(10, addressBook.findPersonsWithTags(TagExpression.hasTag(tagScientist)).size());
+    }
+
+    @Test
+    public void findPersonsWithNameContainingAnyWord_unrelatedChange_answeredFromCache() throws Exception {
+        AddressBook addressBook = new AddressBook(new UniquePersonList(aliceBetsy, bobChaplin));
+        List<String> keywords = Arrays.asList("Alice", "Charlie");
+        assertEquals(Collections.singletonList(aliceBetsy), addressBook.findPersonsWithNameContainingAnyWord(keywords));
+
+        // cannot affect the result: cached result reused
+        addressBook.addPerson(davidElliot);
+        addressBook.removePerson(bobChaplin);
+        assertEquals(Collections.singletonList(aliceBetsy),
+                addressBook.findPersonsWithNameContainingAnyWord(Arrays.asList("Charlie", "Alice", "Alice")));
+        assertEquals(1, addressBook.getFindCacheHitCount());
+
+        // affects the result: recomputed
+        addressBook.addPerson(charlieDouglas);
+        assertEquals(Arrays.asList(aliceBetsy, charlieDouglas),
+                addressBook.findPersonsWithNameContainingAnyWord(keywords));
+        addressBook.removePerson(aliceBetsy);
+        assertEquals(Collections.singletonList(charlieDouglas),
+                addressBook.findPersonsWithNameContainingAnyWord(keywords));
+        assertEquals(1, addressBook.getFindCacheHitCount());
+        assertEquals(3, addressBook.getFindCacheMissCount());
+    }
+
+    @Test
+    public void findPersonsWithNameSimilarTo_matchingPersonAdded_recomputed() throws Exception {
+        AddressBook addressBook = new AddressBook(new UniquePersonList(aliceBetsy));
+        assertTrue(addressBook.findPersonsWithNameSimilarTo(Collections.singleton("charly")).isEmpty());
+        assertTrue(addressBook.findPersonsWithNameWordStartingWithAny(Collections.singleton("CH")).isEmpty());
+
+        addressBook.addPerson(charlieDouglas);
+        assertEquals(Collections.singletonList(charlieDouglas),
+                addressBook.findPersonsWithNameSimilarTo(Collections.singleton("Charly")));
+        assertEquals(Collections.singletonList(charlieDouglas),
+                addressBook.findPersonsWithNameWordStartingWithAny(Collections.singleton("ch")));
+        assertEquals(0, addressBook.getFindCacheHitCount());
+    }
 }
@@ -0,0 +1,141 @@
+package seedu.addressbook.data;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.addressbook.util.TestUtil.getSize;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.addressbook.data.person.Address;
+import seedu.addressbook.data.person.Email;
+import seedu.addressbook.data.person.Name;
+import seedu.addressbook.data.person.Person;
+import seedu.addressbook.data.person.PersonIdentity;
+import seedu.addressbook.data.person.Phone;
+import seedu.addressbook.data.person.UniquePersonList;
+
+public class ConcurrentAddressBookTest {
+
+    private static final int NUMBER_OF_WRITERS = 4;
+    private static final int NUMBER_OF_READERS = 4;
+    private static final int PERSONS_PER_WRITER = 500;
+
+    @Test
+    public void concurrentReadsAndWrites_snapshotsConsistentAndFinalStateCorrect() throws Exception {
+        final ConcurrentAddressBook addressBook = new ConcurrentAddressBook();
+        final ExecutorService executor = Executors.newFixedThreadPool(NUMBER_OF_WRITERS + NUMBER_OF_READERS);
+        final CountDownLatch start = new CountDownLatch(1);
+        final AtomicBoolean isWriting = new AtomicBoolean(true);
+        final List<Future<?>> writers = new ArrayList<>();
+        final List<Future<?>> readers = new ArrayList<>();
+
+        for (int writer = 0; writer < NUMBER_OF_WRITERS; writer++) {
+            final int writerId = writer;
+            writers.add(executor.submit(() -> {
+                start.await();
+                // adds every person, then removes every other one
+                for (int i = 0; i < PERSONS_PER_WRITER; i++) {
+                    addressBook.addPerson(createPerson(writerId, i));
+                }
+                for (int i = 0; i < PERSONS_PER_WRITER; i += 2) {
+                    addressBook.removePerson(createPerson(writerId, i));
+                }
+                return null;
+            }));
+        }
+        for (int reader = 0; reader < NUMBER_OF_READERS; reader++) {
+            readers.add(executor.submit(() -> {
+                start.await();
+                while (isWriting.get()) {
+                    assertSnapshotIsConsistent(addressBook.getAllPersons());
+                }
+                return null;
+            }));
+        }
+
+        start.countDown();
+        for (Future<?> writer : writers) {
+            writer.get(30, TimeUnit.SECONDS);
+        }
+        isWriting.set(false);
+        for (Future<?> reader : readers) {
+            reader.get(30, TimeUnit.SECONDS);
+        }
+        executor.shutdown();
+
+        assertEquals(NUMBER_OF_WRITERS * PERSONS_PER_WRITER / 2, getSize(addressBook.getAllPersons()));
+        for (int writer = 0; writer < NUMBER_OF_WRITERS; writer++) {
+            for (int i = 0; i < PERSONS_PER_WRITER; i++) {
+                assertEquals(i % 2 == 1, addressBook.containsPerson(createPerson(writer, i)));
+            }
+        }
+    }
+
+    @Test
+    public void getSnapshot_writesAfterwards_snapshotUnchanged() throws Exception {
+        final ConcurrentAddressBook addressBook = new ConcurrentAddressBook();
+        final Person first = createPerson(0, 0);
+        final Person second = createPerson(0, 1);
+        addressBook.addPerson(first);
+
+        final AddressBookSnapshot snapshot = addressBook.getSnapshot();
+        final Thread writer = new Thread(() -> {
+            try {
+                addressBook.addPerson(second);
+                addressBook.removePerson(first);
+            } catch (Exception e) {
+                throw new AssertionError(e);
+            }
+        });
+        writer.start();
+        writer.join();
+
+        assertTrue(snapshot.containsPerson(first));
+        assertFalse(snapshot.containsPerson(second));
+        assertEquals(1, getSize(snapshot.getAllPersons()));
+        assertEquals(snapshot.getVersion() + 2, addressBook.getSnapshot().getVersion());
+        assertTrue(addressBook.containsPerson(second));
+        assertFalse(addressBook.containsPerson(first));
+    }
+
+    @Test
+    public void constructor_arrayBackedPersons_copiesPersons() throws Exception {
+        Person person = createPerson(0, 0);
+        ConcurrentAddressBook addressBook = new ConcurrentAddressBook(new UniquePersonList(person));
+
+        assertTrue(addressBook.containsPerson(person));
+        assertEquals(1, getSize(addressBook.getAllPersons()));
+    }
+
+    /**
+     * Asserts that the snapshot does not contain duplicates, and that its size matches its contents.
+     */
+    private static void assertSnapshotIsConsistent(UniquePersonList snapshot) {
+        final Set<PersonIdentity> identities = new HashSet<>();
+        for (Person person : snapshot) {
+            assertTrue(identities.add(new PersonIdentity(person)));
+        }
+        assertEquals(identities.size(), snapshot.size());
+    }
+
+    private static Person createPerson(int writerId, int personId) throws Exception {
+        return new Person(new Name("Writer " + (char) ('A' + writerId)),
+                          new Phone(String.valueOf(personId), false),
+                          new Email("writer@nus.edu.sg", false),
+                          new Address("Concurrency Lane", false),
+                          Collections.emptySet());
+    }
+}
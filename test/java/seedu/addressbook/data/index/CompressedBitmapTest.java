@@ -0,0 +1,127 @@
+package seedu.addressbook.data.index;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Random;
+import java.util.TreeSet;
+
+import org.junit.jupiter.api.Test;
+
+public class CompressedBitmapTest {
+
+    @Test
+    public void addRemoveContains() {
+        CompressedBitmap bitmap = CompressedBitmap.of(5, 70000, 3);
+
+        assertTrue(bitmap.contains(5));
+        assertTrue(bitmap.contains(70000));
+        assertFalse(bitmap.contains(4));
+        assertArrayEquals(new int[] {3, 5, 70000}, bitmap.toArray());
+
+        bitmap.remove(70000);
+        bitmap.remove(12345);
+        assertArrayEquals(new int[] {3, 5}, bitmap.toArray());
+        assertEquals(2, bitmap.cardinality());
+
+        bitmap.clear();
+        assertTrue(bitmap.isEmpty());
+    }
+
+    @Test
+    public void add_negativeValue_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> new CompressedBitmap().add(-1));
+    }
+
+    @Test
+    public void copyConstructor_copyModified_originalUnchanged() {
+        CompressedBitmap original = CompressedBitmap.of(1, 2);
+        CompressedBitmap copy = new CompressedBitmap(original);
+        copy.add(3);
+        copy.remove(1);
+
+        assertArrayEquals(new int[] {1, 2}, original.toArray());
+        assertArrayEquals(new int[] {2, 3}, copy.toArray());
+    }
+
+    @Test
+    public void setOperations_sparseAndDenseChunks_matchTreeSet() {
+        Random random = new Random(7);
+        TreeSet<Integer> firstExpected = new TreeSet<>();
+        TreeSet<Integer> secondExpected = new TreeSet<>();
+        CompressedBitmap first = new CompressedBitmap();
+        CompressedBitmap second = new CompressedBitmap();
+
+        // chunk 0 is dense in both, chunk 1 is sparse in both, chunk 2 is dense in one and sparse in the other
+        for (int i = 0; i < 30000; i++) {
+            addToBoth(random.nextInt(1 << 16), firstExpected, first);
+            addToBoth(random.nextInt(1 << 16), secondExpected, second);
+            addToBoth((2 << 16) + random.nextInt(1 << 16), firstExpected, first);
+        }
+        for (int i = 0; i < 1000; i++) {
+            addToBoth((1 << 16) + random.nextInt(1 << 16), firstExpected, first);
+            addToBoth((1 << 16) + random.nextInt(1 << 16), secondExpected, second);
+            addToBoth((2 << 16) + random.nextInt(1 << 16), secondExpected, second);
+        }
+        // removing most of a dense chunk makes it sparse again
+        for (int i = 0; i < (1 << 16); i += 2) {
+            firstExpected.remove(i);
+            first.remove(i);
+        }
+
+        assertArrayEquals(toArray(firstExpected), first.toArray());
+        assertEquals(firstExpected.size(), first.cardinality());
+
+        TreeSet<Integer> intersection = new TreeSet<>(firstExpected);
+        intersection.retainAll(secondExpected);
+        assertArrayEquals(toArray(intersection), CompressedBitmap.and(first, second).toArray());
+
+        TreeSet<Integer> union = new TreeSet<>(firstExpected);
+        union.addAll(secondExpected);
+        assertArrayEquals(toArray(union), CompressedBitmap.or(first, second).toArray());
+
+        TreeSet<Integer> difference = new TreeSet<>(firstExpected);
+        difference.removeAll(secondExpected);
+        assertArrayEquals(toArray(difference), CompressedBitmap.andNot(first, second).toArray());
+        TreeSet<Integer> reverseDifference = new TreeSet<>(secondExpected);
+        reverseDifference.removeAll(firstExpected);
+        assertArrayEquals(toArray(reverseDifference), CompressedBitmap.andNot(second, first).toArray());
+    }
+
+    @Test
+    public void addRemove_sizeAroundContainerThreshold_matchesTreeSet() {
+        TreeSet<Integer> expected = new TreeSet<>();
+        CompressedBitmap actual = new CompressedBitmap();
+        for (int value = 0; value < 4096; value++) {
+            addToBoth(value * 3, expected, actual);
+        }
+        // crosses the array/bitmap threshold in both directions, then shrinks below the conversion back
+        for (int round = 0; round < 10; round++) {
+            addToBoth(100_000 + round, expected, actual);
+            addToBoth(1, expected, actual);
+            expected.remove(1);
+            actual.remove(1);
+        }
+        for (int value = 0; value < 3000; value++) {
+            expected.remove(value * 3);
+            actual.remove(value * 3);
+        }
+
+        assertArrayEquals(toArray(expected), actual.toArray());
+        assertEquals(expected.size(), actual.cardinality());
+        assertTrue(actual.contains(3000 * 3));
+        assertFalse(actual.contains(1));
+    }
+
+    private static void addToBoth(int value, TreeSet<Integer> expected, CompressedBitmap actual) {
+        expected.add(value);
+        actual.add(value);
+    }
+
+    private static int[] toArray(TreeSet<Integer> values) {
+        return values.stream().mapToInt(Integer::intValue).toArray();
+    }
+}
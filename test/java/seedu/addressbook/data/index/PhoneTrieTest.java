@@ -0,0 +1,57 @@
+package seedu.addressbook.data.index;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Collections;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.addressbook.data.person.Address;
+import seedu.addressbook.data.person.Email;
+import seedu.addressbook.data.person.Name;
+import seedu.addressbook.data.person.Person;
+import seedu.addressbook.data.person.Phone;
+import seedu.addressbook.util.TypicalPersons;
+
+public class PhoneTrieTest {
+
+    private final TypicalPersons td = new TypicalPersons();
+
+    @Test
+    public void getOrdinalsWithNumber_prefixOfIndexedNumber_empty() {
+        PhoneTrie trie = new PhoneTrie();
+        trie.add(0, td.getAmy());
+
+        assertTrue(trie.getOrdinalsWithNumber("9111").isEmpty());
+        assertEquals(CompressedBitmap.of(0), trie.getOrdinalsWithPrefix("9111"));
+        assertEquals(CompressedBitmap.of(0), trie.getOrdinalsWithNumber("91119111"));
+    }
+
+    @Test
+    public void getOrdinalsWithPrefix_nonAsciiDigits_empty() {
+        PhoneTrie trie = new PhoneTrie();
+        trie.add(0, td.getAmy());
+
+        // ARABIC-INDIC DIGIT NINE, which Character.digit reads as 9
+        assertTrue(trie.getOrdinalsWithPrefix("\u0669").isEmpty());
+        assertTrue(trie.getOrdinalsWithNumber("\u06691119111").isEmpty());
+    }
+
+    @Test
+    public void remove_numberEndingOnPathOfAnother_otherStillFound() throws Exception {
+        PhoneTrie trie = new PhoneTrie();
+        Person shortNumber = new Person(new Name("Short Number"), new Phone("9111", false),
+                new Email("sn@gmail.com", false), new Address("3 Clementi Road", false), Collections.emptySet());
+        trie.add(0, td.getAmy());
+        trie.add(1, shortNumber);
+        trie.remove(1, shortNumber);
+
+        assertTrue(trie.getOrdinalsWithNumber("9111").isEmpty());
+        assertEquals(CompressedBitmap.of(0), trie.getOrdinalsWithPrefix("9111"));
+        assertEquals(CompressedBitmap.of(0), trie.getOrdinalsWithNumber("91119111"));
+
+        trie.add(1, shortNumber);
+        assertEquals(CompressedBitmap.of(1), trie.getOrdinalsWithNumber("9111"));
+    }
+}
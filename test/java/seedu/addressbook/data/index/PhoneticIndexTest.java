@@ -0,0 +1,30 @@
+package seedu.addressbook.data.index;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import org.junit.jupiter.api.Test;
+
+public class PhoneticIndexTest {
+
+    @Test
+    public void encode_words_standardSoundexCodes() {
+        assertEquals("R163", PhoneticIndex.encode("Robert"));
+        assertEquals("R163", PhoneticIndex.encode("rupert"));
+        assertEquals("S530", PhoneticIndex.encode("Smith"));
+        assertEquals("S530", PhoneticIndex.encode("SMYTH"));
+        // short words padded with zeros
+        assertEquals("L000", PhoneticIndex.encode("Lee"));
+        // consonant with the same digit as the first letter skipped
+        assertEquals("P236", PhoneticIndex.encode("Pfister"));
+        // consonants with the same digit separated by H or W count once, by a vowel twice
+        assertEquals("A261", PhoneticIndex.encode("Ashcraft"));
+        assertEquals("T522", PhoneticIndex.encode("Tymczak"));
+    }
+
+    @Test
+    public void encode_noLetters_null() {
+        assertNull(PhoneticIndex.encode("123"));
+        assertNull(PhoneticIndex.encode(""));
+    }
+}
@@ -0,0 +1,119 @@
+package seedu.addressbook.data.index;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.addressbook.data.person.Address;
+import seedu.addressbook.data.person.Email;
+import seedu.addressbook.data.person.Name;
+import seedu.addressbook.data.person.Person;
+import seedu.addressbook.data.person.Phone;
+import seedu.addressbook.data.query.PersonQuery;
+import seedu.addressbook.data.tag.Tag;
+
+public class QueryPlanTest {
+
+    private static final String[] WORDS = {"Alice", "Bob", "Carol", "Dave"};
+    private static final String[] DOMAINS = {"nus.edu.sg", "comp.nus.edu.sg", "gmail.com"};
+    private static final String[] TAGS = {"friends", "family", "work"};
+
+    private final Random random = new Random(11);
+    private final PersonIndexes indexes = new PersonIndexes();
+    private final List<Person> persons = new ArrayList<>();
+    private int nextPhoneNumber = 90000;
+
+    @Test
+    public void plan_andWithIndexedConditions_intersectsMostSelectiveFirst() throws Exception {
+        addRandomPersons(200);
+        PersonQuery query = PersonQuery.and(PersonQuery.and(PersonQuery.hasTag(Tag.of("friends")),
+                PersonQuery.emailAtDomain("comp.nus.edu.sg")), PersonQuery.addressContains("street 1"));
+        String plan = indexes.plan(query).toString();
+
+        int tagCount = indexes.getTagIndex().getOrdinals(Tag.of("friends")).cardinality();
+        int domainCount = indexes.getEmailIndex().getOrdinalsAtDomain("comp.nus.edu.sg").cardinality();
+        String tagLookup = "INDEX tag t/friends (" + tagCount + " persons)";
+        String domainLookup = "INDEX email domain e/comp.nus.edu.sg (" + domainCount + " persons)";
+        String expectedLookups = tagCount <= domainCount
+                ? "  " + tagLookup + "\n  " + domainLookup
+                : "  " + domainLookup + "\n  " + tagLookup;
+        assertEquals("INTERSECT (at most " + Math.min(tagCount, domainCount) + " persons)\n" + expectedLookups
+                + "\n  FILTER candidates for a/street 1", plan);
+    }
+
+    @Test
+    public void plan_conditionWithoutIndexInOr_scans() throws Exception {
+        addRandomPersons(10);
+        PersonQuery query = PersonQuery.or(PersonQuery.hasTag(Tag.of("work")), PersonQuery.addressContains("1"));
+        assertEquals("SCAN all 10 persons for (t/work OR a/1)", indexes.plan(query).toString());
+    }
+
+    @Test
+    public void getPersons_randomQueries_sameResultAsScanning() throws Exception {
+        addRandomPersons(300);
+        for (int i = 0; i < 20; i++) {
+            indexes.remove(persons.remove(random.nextInt(persons.size())));
+        }
+        for (int i = 0; i < 500; i++) {
+            PersonQuery query = randomQuery(3);
+            assertEquals(query.filter(persons), indexes.getPersons(query), query.toString());
+        }
+    }
+
+    @Test
+    public void getPersons_mostPersonsRemovedAndMoreAdded_sameResultAsScanning() throws Exception {
+        addRandomPersons(300);
+        for (int i = 0; i < 250; i++) {
+            indexes.remove(persons.remove(random.nextInt(persons.size())));
+        }
+        addRandomPersons(20);
+
+        assertEquals(persons, indexes.getPersons(indexes.getAllOrdinals()));
+        assertFalse(indexes.getPersons(indexes.getAllOrdinals()).get(0) instanceof Person);
+        for (int i = 0; i < 200; i++) {
+            PersonQuery query = randomQuery(3);
+            assertEquals(query.filter(persons), indexes.getPersons(query), query.toString());
+        }
+    }
+
+    private void addRandomPersons(int count) throws Exception {
+        for (int i = 0; i < count; i++) {
+            String name = WORDS[random.nextInt(WORDS.length)] + " " + WORDS[random.nextInt(WORDS.length)];
+            Phone phone = new Phone(String.valueOf(nextPhoneNumber++), random.nextInt(4) == 0);
+            Email email = new Email("p" + i + "@" + DOMAINS[random.nextInt(DOMAINS.length)], random.nextInt(4) == 0);
+            Address address = new Address("street " + random.nextInt(30), random.nextInt(4) == 0);
+            Person person = new Person(new Name(name), phone, email, address,
+                    random.nextBoolean() ? Collections.emptySet()
+                            : Collections.singleton(Tag.of(TAGS[random.nextInt(TAGS.length)])));
+            persons.add(person);
+            indexes.add(person);
+        }
+    }
+
+    private PersonQuery randomQuery(int depth) throws Exception {
+        switch (depth == 0 ? random.nextInt(5) : random.nextInt(8)) {
+        case 0:
+            return PersonQuery.nameHasWord(WORDS[random.nextInt(WORDS.length)].toLowerCase());
+        case 1:
+            return PersonQuery.phoneStartsWith("900" + random.nextInt(3));
+        case 2:
+            return PersonQuery.emailAtDomain(DOMAINS[random.nextInt(DOMAINS.length)]);
+        case 3:
+            return PersonQuery.addressContains("street " + random.nextInt(30));
+        case 4:
+            return PersonQuery.hasTag(Tag.of(TAGS[random.nextInt(TAGS.length)]));
+        case 5:
+            return PersonQuery.and(randomQuery(depth - 1), randomQuery(depth - 1));
+        case 6:
+            return PersonQuery.or(randomQuery(depth - 1), randomQuery(depth - 1));
+        default:
+            return PersonQuery.not(randomQuery(depth - 1));
+        }
+    }
+}
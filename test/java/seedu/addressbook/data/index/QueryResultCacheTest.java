@@ -0,0 +1,117 @@
+package seedu.addressbook.data.index;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.addressbook.data.person.ReadOnlyPerson;
+import seedu.addressbook.util.TypicalPersons;
+
+public class QueryResultCacheTest {
+
+    private final TypicalPersons td = new TypicalPersons();
+
+    @Test
+    public void key_termOrderAndRepetition_ignored() {
+        assertEquals(new QueryResultCache.Key("word", Arrays.asList("a", "b", "a")),
+                new QueryResultCache.Key("word", Arrays.asList("b", "a")));
+        assertEquals(new QueryResultCache.Key("word", Arrays.asList("a", "b")).hashCode(),
+                new QueryResultCache.Key("word", Arrays.asList("b", "a")).hashCode());
+        assertNotEquals(new QueryResultCache.Key("word", Arrays.asList("a")),
+                new QueryResultCache.Key("prefix", Arrays.asList("a")));
+    }
+
+    @Test
+    public void get_repeatedQuery_answeredFromCache() {
+        QueryResultCache cache = new QueryResultCache();
+        List<ReadOnlyPerson> first = cache.get(key("amy"), () -> Arrays.asList(td.getAmy()), person -> false);
+        List<ReadOnlyPerson> second = cache.get(key("amy"), () -> Collections.emptyList(), person -> false);
+
+        assertSame(first, second);
+        assertEquals(1, cache.getHitCount());
+        assertEquals(1, cache.getMissCount());
+    }
+
+    @Test
+    public void get_full_evictsLeastRecentlyUsed() {
+        QueryResultCache cache = new QueryResultCache(2);
+        cache.get(key("a"), Collections::emptyList, person -> false);
+        cache.get(key("b"), Collections::emptyList, person -> false);
+        cache.get(key("a"), Collections::emptyList, person -> false);
+        cache.get(key("c"), Collections::emptyList, person -> false);
+        assertEquals(2, cache.size());
+
+        cache.get(key("a"), Collections::emptyList, person -> false);
+        cache.get(key("b"), Collections::emptyList, person -> false);
+        assertEquals(2, cache.getHitCount());
+        assertEquals(4, cache.getMissCount());
+    }
+
+    @Test
+    public void invalidate_onlyResultsContainingPerson() {
+        QueryResultCache cache = new QueryResultCache();
+        cache.get(key("amy"), () -> Arrays.asList(td.getAmy()), person -> person.isSamePerson(td.getAmy()));
+        cache.get(key("bill"), () -> Arrays.asList(td.getBill()), person -> person.isSamePerson(td.getBill()));
+
+        cache.invalidate(td.getAmy());
+        assertEquals(1, cache.size());
+        cache.get(key("bill"), Collections::emptyList, person -> false);
+        assertEquals(1, cache.getHitCount());
+
+        cache.clear();
+        assertEquals(0, cache.size());
+    }
+
+    @Test
+    public void get_queryComputedOutsideCacheLock_otherThreadsNotBlocked() throws Exception {
+        QueryResultCache cache = new QueryResultCache();
+        CountDownLatch slowQueryStarted = new CountDownLatch(1);
+        CountDownLatch releaseSlowQuery = new CountDownLatch(1);
+        Thread slow = new Thread(() -> cache.get(key("slow"), () -> {
+            slowQueryStarted.countDown();
+            awaitUninterruptibly(releaseSlowQuery);
+            return Collections.emptyList();
+        }, person -> false));
+        slow.start();
+        slowQueryStarted.await();
+
+        assertEquals(Arrays.asList(td.getAmy()),
+                cache.get(key("amy"), () -> Arrays.asList(td.getAmy()), person -> false));
+        assertEquals(1, cache.size());
+
+        releaseSlowQuery.countDown();
+        slow.join();
+        assertEquals(2, cache.size());
+    }
+
+    @Test
+    public void get_invalidatedWhileComputing_resultNotCached() {
+        QueryResultCache cache = new QueryResultCache();
+        List<ReadOnlyPerson> result = cache.get(key("amy"), () -> {
+            cache.invalidate(td.getAmy());
+            return Arrays.asList(td.getAmy());
+        }, person -> person.isSamePerson(td.getAmy()));
+
+        assertEquals(Arrays.asList(td.getAmy()), result);
+        assertEquals(0, cache.size());
+    }
+
+    private static void awaitUninterruptibly(CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException ie) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static QueryResultCache.Key key(String term) {
+        return new QueryResultCache.Key("word", Collections.singletonList(term));
+    }
+}
@@ -0,0 +1,56 @@
+package seedu.addressbook.data.index;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Collections;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.addressbook.data.AddressBook;
+import seedu.addressbook.data.person.Address;
+import seedu.addressbook.data.person.Email;
+import seedu.addressbook.data.person.Name;
+import seedu.addressbook.data.person.Person;
+import seedu.addressbook.data.person.Phone;
+
+public class TrigramIndexTest {
+
+    @Test
+    public void getCandidates_oneLetterKeywordOneSubstitutionAway_included() throws Exception {
+        TrigramIndex index = new TrigramIndex();
+        index.add(0, person("B Clint"));
+        index.add(1, person("Bill Clint"));
+
+        // "a" and "b" share no padded trigram
+        assertEquals(CompressedBitmap.of(0), index.getCandidates("a", 1));
+
+        index.remove(0, person("B Clint"));
+        assertTrue(index.getCandidates("a", 1).isEmpty());
+    }
+
+    @Test
+    public void getCandidates_longKeyword_sharedTrigramsRequired() throws Exception {
+        TrigramIndex index = new TrigramIndex();
+        index.add(0, person("Bill Clint"));
+        index.add(1, person("Amy Buck"));
+
+        assertEquals(CompressedBitmap.of(0), index.getCandidates("clnt", 1));
+    }
+
+    @Test
+    public void findPersonsWithNameSimilarTo_oneLetterWords_agreesWithScan() throws Exception {
+        AddressBook addressBook = new AddressBook();
+        Person oneLetterName = person("B Clint");
+        addressBook.addPerson(oneLetterName);
+
+        assertTrue(PersonIndexes.hasWordSimilarToAny(oneLetterName, Collections.singleton("a")));
+        assertEquals(Collections.singletonList(oneLetterName),
+                addressBook.findPersonsWithNameSimilarTo(Collections.singleton("a")));
+    }
+
+    private static Person person(String name) throws Exception {
+        return new Person(new Name(name), new Phone("92229222", false), new Email("bc@gmail.com", false),
+                new Address("2 Clementi Road", false), Collections.emptySet());
+    }
+}
@@ -0,0 +1,188 @@
+package seedu.addressbook.data.person;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.addressbook.data.tag.Tag;
+import seedu.addressbook.util.TypicalPersons;
+
+public class ColumnarPersonStoreTest {
+
+    private final TypicalPersons td = new TypicalPersons();
+
+    @Test
+    public void get_addedPersons_viewsHaveSameData() {
+        ColumnarPersonStore store = new ColumnarPersonStore(1);
+        for (Person person : td.getTypicalPersons()) {
+            store.add(person);
+        }
+
+        assertEquals(4, store.size());
+        for (int ordinal = 0; ordinal < store.size(); ordinal++) {
+            Person expected = td.getTypicalPersons()[ordinal];
+            ReadOnlyPerson actual = store.get(ordinal);
+            assertTrue(actual.hasSameData(expected));
+            assertEquals(expected, actual);
+            assertEquals(expected.hashCode(), actual.hashCode());
+            assertEquals(expected.getPhone().isPrivate(), actual.getPhone().isPrivate());
+            assertEquals(expected.getEmail().isPrivate(), actual.getEmail().isPrivate());
+            assertEquals(expected.getAddress().isPrivate(), actual.getAddress().isPrivate());
+        }
+    }
+
+    @Test
+    public void get_invalidOrdinal_throwsIndexOutOfBoundsException() {
+        ColumnarPersonStore store = new ColumnarPersonStore();
+        store.add(td.getAmy());
+
+        assertThrows(IndexOutOfBoundsException.class, () -> store.get(1));
+        assertThrows(IndexOutOfBoundsException.class, () -> store.get(-1));
+    }
+
+    @Test
+    public void filterByName_matchesInOrdinalOrder() throws Exception {
+        ColumnarPersonStore store = new ColumnarPersonStore(new UniquePersonList(td.getTypicalPersons()));
+        List<ReadOnlyPerson> matches = store.filterByName(name -> name.contains("y"));
+
+        assertEquals(Arrays.asList(td.getAmy(), td.getCandy()), matches);
+    }
+
+    @Test
+    public void filterByTag() throws Exception {
+        ColumnarPersonStore store = new ColumnarPersonStore(new UniquePersonList(td.getTypicalPersons()));
+
+        assertEquals(Collections.singletonList(td.getDan()), store.filterByTag(new Tag("test")));
+        assertTrue(store.filterByTag(new Tag("unknown")).isEmpty());
+    }
+
+    @Test
+    public void getByIdentity_addedPerson_returnsPersonWithSameData() {
+        List<Person> added = Arrays.asList(td.getAmy(), td.getCandy(), td.getDan());
+        ColumnarPersonStore store = new ColumnarPersonStore(1);
+        for (Person person : added) {
+            store.add(new PersonIdentity(person), person);
+        }
+
+        for (Person person : added) {
+            Person stored = store.get(new PersonIdentity(person));
+            assertEquals(person, stored);
+            assertEquals(person.getEmail().isPrivate(), stored.getEmail().isPrivate());
+        }
+        assertNull(store.get(new PersonIdentity(td.getBill())));
+    }
+
+    @Test
+    public void remove_otherOrdinalsKept_earlierViewsAndListsUnchanged() throws Exception {
+        ColumnarPersonStore store = new ColumnarPersonStore(new UniquePersonList(td.getTypicalPersons()));
+        ReadOnlyPerson billView = store.get(1);
+        List<Person> listBefore = store.asList();
+
+        store.remove(new PersonIdentity(td.getBill()), td.getBill());
+
+        assertEquals(Arrays.asList(td.getAmy(), td.getCandy(), td.getDan()), store.asList());
+        assertEquals(3, store.size());
+        assertEquals(td.getCandy(), store.get(2));
+        assertThrows(IndexOutOfBoundsException.class, () -> store.get(1));
+        assertEquals(2, store.getOrdinal(new PersonIdentity(td.getCandy())));
+        assertEquals(-1, store.getOrdinal(new PersonIdentity(td.getBill())));
+        assertNull(store.get(new PersonIdentity(td.getBill())));
+        assertTrue(store.filterByName(name -> true).stream().noneMatch(td.getBill()::equals));
+        assertEquals(td.getBill(), billView);
+        assertEquals(Arrays.asList(td.getTypicalPersons()), listBefore);
+
+        store.add(td.getBill());
+        assertEquals(4, store.getOrdinal(new PersonIdentity(td.getBill())));
+        assertEquals(Arrays.asList(td.getAmy(), td.getCandy(), td.getDan(), td.getBill()), store.asList());
+    }
+
+    @Test
+    public void remove_mostPersonsRemoved_remainingPersonsCompactedInOrder() throws Exception {
+        ColumnarPersonStore store = new ColumnarPersonStore();
+        List<Person> persons = new ArrayList<>();
+        for (int i = 0; i < 300; i++) {
+            Person person = new Person(new Name("Person"), new Phone(String.valueOf(10000 + i), false),
+                    new Email("p" + i + "@example.com", false), new Address("Street " + i, false),
+                    Collections.emptySet());
+            persons.add(person);
+            store.add(person);
+        }
+        List<Person> listBefore = store.asList();
+        List<Person> remaining = new ArrayList<>();
+        for (int i = 0; i < persons.size(); i++) {
+            if (i % 10 == 3) {
+                remaining.add(persons.get(i));
+            } else {
+                store.remove(new PersonIdentity(persons.get(i)), persons.get(i));
+            }
+        }
+
+        assertTrue(store.getOrdinalCount() < persons.size());
+        assertEquals(remaining, store.asList());
+        for (int i = 0; i < remaining.size(); i++) {
+            assertEquals(remaining.get(i), store.get(store.getOrdinal(new PersonIdentity(remaining.get(i)))));
+        }
+        assertEquals(persons, listBefore);
+    }
+
+    @Test
+    public void remove_fromSnapshot_originalUnchanged() throws Exception {
+        ColumnarPersonStore store = new ColumnarPersonStore(new UniquePersonList(td.getTypicalPersons()));
+        PersonStore snapshot = store.snapshot();
+
+        snapshot.remove(new PersonIdentity(td.getAmy()), td.getAmy());
+
+        assertEquals(Arrays.asList(td.getTypicalPersons()), store.asList());
+        assertEquals(td.getAmy(), store.get(0));
+        assertEquals(Arrays.asList(td.getBill(), td.getCandy(), td.getDan()), snapshot.asList());
+    }
+
+    @Test
+    public void snapshot_eitherStoreModified_otherUnchanged() throws Exception {
+        ColumnarPersonStore store = new ColumnarPersonStore(new UniquePersonList(td.getAmy(), td.getBill()));
+        PersonStore snapshot = store.snapshot();
+
+        store.add(td.getCandy());
+        snapshot.add(new PersonIdentity(td.getDan()), td.getDan());
+
+        assertEquals(Arrays.asList(td.getAmy(), td.getBill(), td.getCandy()), store.asList());
+        assertEquals(Arrays.asList(td.getAmy(), td.getBill(), td.getDan()), snapshot.asList());
+        assertNull(store.get(new PersonIdentity(td.getDan())));
+        assertNull(snapshot.get(new PersonIdentity(td.getCandy())));
+    }
+
+    @Test
+    public void builtUniquePersonList_addAndRemove_behavesAsList() throws Exception {
+        UniquePersonList.Builder builder = new UniquePersonList.Builder(2);
+        for (Person person : td.getTypicalPersons()) {
+            builder.add(person);
+        }
+        UniquePersonList persons = builder.build();
+
+        persons.remove(td.getAmy());
+        assertThrows(UniquePersonList.PersonNotFoundException.class, () -> persons.remove(td.getAmy()));
+        persons.add(td.getAmy());
+        assertThrows(UniquePersonList.DuplicatePersonException.class, () -> persons.add(td.getAmy()));
+
+        assertEquals(new UniquePersonList(td.getBill(), td.getCandy(), td.getDan(), td.getAmy()), persons);
+    }
+
+    @Test
+    public void clear() {
+        ColumnarPersonStore store = new ColumnarPersonStore();
+        store.add(td.getDan());
+        store.clear();
+
+        assertEquals(0, store.size());
+        assertFalse(store.filterByTag(td.getDan().getTags().iterator().next()).iterator().hasNext());
+    }
+}
@@ -0,0 +1,97 @@
+package seedu.addressbook.data.person;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.addressbook.common.ParallelScan;
+import seedu.addressbook.common.Utils;
+import seedu.addressbook.util.TypicalPersons;
+
+public class NameArenaTest {
+
+    private final TypicalPersons td = new TypicalPersons();
+
+    @Test
+    public void findPersonsContainingAny_partsOfNames_matchesIgnoringCaseInListOrder() {
+        NameArena arena = new NameArena(Arrays.asList(td.getTypicalPersons()));
+        ParallelScan scan = new ParallelScan();
+        Person[] persons = td.getTypicalPersons();
+
+        assertEquals(Arrays.asList(persons[1], persons[3]),
+                arena.findPersonsContainingAny(Arrays.asList("SMI", "ll c"), scan));
+        assertEquals(Arrays.asList(persons[0], persons[2]),
+                arena.findPersonsContainingAny(Collections.singletonList("y"), scan));
+        // does not match across the end of one name and the start of the next
+        assertEquals(Collections.emptyList(), arena.findPersonsContainingAny(Arrays.asList("ckbill", "k b"), scan));
+        // cannot occur in a name
+        assertEquals(Collections.emptyList(), arena.findPersonsContainingAny(Arrays.asList("\u00E9", "\0"), scan));
+    }
+
+    @Test
+    public void fold_nonAsciiFoldingToAscii_foldedLikeIgnoreCaseComparison() {
+        assertEquals("kelvin", new String(NameArena.fold("\u212AelvIN")));
+        assertNull(NameArena.fold("caf\u00E9"));
+    }
+
+    @Test
+    public void indexOf_randomNames_sameAsScalarScan() throws Exception {
+        Random random = new Random(7);
+        List<Person> persons = new ArrayList<>();
+        for (int i = 0; i < 300; i++) {
+            persons.add(new Person(new Name(randomName(random)), new Phone("1", false), new Email("a@b", false),
+                    new Address("a", false), Collections.emptySet()));
+        }
+        NameArena arena = new NameArena(persons);
+        for (int i = 0; i < 500; i++) {
+            String name = randomName(random);
+            byte[] needle = NameArena.fold(name.substring(0, 1 + random.nextInt(Math.min(3, name.length()))));
+            int from = random.nextInt(200);
+            int to = from + random.nextInt(200);
+            assertEquals(arena.indexOfScalar(needle, from, to), arena.indexOf(needle, from, to));
+        }
+    }
+
+    @Test
+    public void findPersonsContainingAny_splitIntoChunks_sameAsScanningEachName() throws Exception {
+        Random random = new Random(11);
+        List<Person> persons = new ArrayList<>();
+        for (int i = 0; i < 1000; i++) {
+            persons.add(new Person(new Name(randomName(random)), new Phone("1", false), new Email("a@b", false),
+                    new Address("a", false), Collections.emptySet()));
+        }
+        NameArena arena = new NameArena(persons);
+        List<String> keywords = Arrays.asList("Ab", "c", "BAA");
+        List<Person> expected = persons.stream()
+                .filter(person -> keywords.stream()
+                        .anyMatch(keyword -> Utils.containsIgnoreCase(person.getName().fullName, keyword)))
+                .collect(Collectors.toList());
+
+        for (int threshold : new int[] {1, 7, 100, 4096}) {
+            ForkJoinPool pool = new ForkJoinPool(4);
+            try {
+                assertEquals(expected, arena.findPersonsContainingAny(keywords, new ParallelScan(pool, threshold)));
+            } finally {
+                pool.shutdown();
+            }
+        }
+    }
+
+    private static String randomName(Random random) {
+        StringBuilder name = new StringBuilder();
+        int length = 1 + random.nextInt(12);
+        for (int i = 0; i < length; i++) {
+            name.append(i > 0 && random.nextInt(5) == 0 ? ' ' : "abcAB".charAt(random.nextInt(5)));
+        }
+        return name.toString();
+    }
+}
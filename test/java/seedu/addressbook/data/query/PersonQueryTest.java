@@ -0,0 +1,90 @@
+package seedu.addressbook.data.query;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.addressbook.data.person.Address;
+import seedu.addressbook.data.person.Email;
+import seedu.addressbook.data.person.Name;
+import seedu.addressbook.data.person.Person;
+import seedu.addressbook.data.person.Phone;
+import seedu.addressbook.data.person.ReadOnlyPerson;
+import seedu.addressbook.data.tag.Tag;
+import seedu.addressbook.util.TypicalPersons;
+
+public class PersonQueryTest {
+
+    private final TypicalPersons td = new TypicalPersons();
+
+    @Test
+    public void test_fieldTerms() throws Exception {
+        assertTrue(PersonQuery.nameHasWord("buck").test(td.getAmy()));
+        assertFalse(PersonQuery.nameHasWord("buc").test(td.getAmy()));
+        assertFalse(PersonQuery.nameHasWord("Amy Buck").test(td.getBill()));
+
+        assertTrue(PersonQuery.phoneStartsWith("9111").test(td.getAmy()));
+        assertFalse(PersonQuery.phoneStartsWith("111").test(td.getAmy()));
+
+        assertTrue(PersonQuery.emailAtDomain("GMAIL.com").test(td.getAmy()));
+        assertTrue(PersonQuery.emailAtDomain("com").test(td.getAmy()));
+        assertFalse(PersonQuery.emailAtDomain("mail.com").test(td.getAmy()));
+
+        assertTrue(PersonQuery.addressContains("clementi").test(td.getAmy()));
+        assertFalse(PersonQuery.addressContains("clementi road 1").test(td.getAmy()));
+
+        assertTrue(PersonQuery.hasTag(new Tag("test")).test(td.getDan()));
+        assertFalse(PersonQuery.hasTag(new Tag("Test")).test(td.getDan()));
+    }
+
+    @Test
+    public void test_privateFields_neverMatch() {
+        // Bill's address, Candy's phone and Dan's email are private
+        assertFalse(PersonQuery.addressContains("Clementi").test(td.getBill()));
+        assertFalse(PersonQuery.phoneStartsWith("9").test(td.getCandy()));
+        assertFalse(PersonQuery.emailAtDomain("tt.com").test(td.getDan()));
+    }
+
+    @Test
+    public void compile_nestedOperations_flattenedCheapestFirst() throws Exception {
+        PersonQuery query = PersonQuery.and(PersonQuery.and(PersonQuery.addressContains("x"),
+                PersonQuery.nameHasWord("y")), PersonQuery.or(PersonQuery.emailAtDomain("z"),
+                PersonQuery.or(PersonQuery.hasTag(new Tag("t")), PersonQuery.not(PersonQuery.phoneStartsWith("1")))));
+        assertEquals("(n/y AND a/x AND (t/t OR NOT p/1 OR e/z))", query.toString());
+    }
+
+    @Test
+    public void filter_operators_matchesInListOrder() throws Exception {
+        List<ReadOnlyPerson> persons = new ArrayList<>(Arrays.asList(td.getTypicalPersons()));
+        PersonQuery gmailNotAmy = PersonQuery.and(PersonQuery.emailAtDomain("gmail.com"),
+                PersonQuery.not(PersonQuery.nameHasWord("amy")));
+        assertEquals(Arrays.asList(td.getBill(), td.getCandy()), gmailNotAmy.filter(persons));
+
+        PersonQuery taggedOrPhone = PersonQuery.or(PersonQuery.hasTag(new Tag("test")),
+                PersonQuery.phoneStartsWith("92"));
+        assertEquals(Arrays.asList(td.getBill(), td.getDan()), taggedOrPhone.filter(persons));
+    }
+
+    @Test
+    public void filter_largeList_sameResultAsSequentialEvaluation() throws Exception {
+        List<ReadOnlyPerson> persons = new ArrayList<>();
+        List<ReadOnlyPerson> expected = new ArrayList<>();
+        PersonQuery query = PersonQuery.phoneStartsWith("7");
+        for (int i = 0; i < PersonQuery.PARALLEL_THRESHOLD * 2; i++) {
+            Person person = new Person(new Name("Person"), new Phone(String.valueOf(i), false),
+                    new Email("p@e.mail", false), new Address("NUS", false), Collections.emptySet());
+            persons.add(person);
+            if (query.test(person)) {
+                expected.add(person);
+            }
+        }
+        assertEquals(expected, query.filter(persons));
+    }
+}
@@ -0,0 +1,87 @@
+package seedu.addressbook.data.tag;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.addressbook.data.exception.IllegalValueException;
+
+public class TagTest {
+
+    @Test
+    public void of_sameName_returnsSharedTag() throws Exception {
+        Tag tag = Tag.of("friends");
+
+        assertSame(tag, Tag.of("friends"));
+        assertSame(tag, Tag.of(" friends "));
+        assertSame(tag, TagDictionary.getTag(tag.getId()));
+    }
+
+    @Test
+    public void getTag_manyTagsInterned_allFound() throws Exception {
+        Tag[] tags = new Tag[100];
+        for (int i = 0; i < tags.length; i++) {
+            tags[i] = Tag.of("many" + i);
+        }
+
+        for (Tag tag : tags) {
+            assertSame(tag, TagDictionary.getTag(tag.getId()));
+        }
+        assertThrows(IndexOutOfBoundsException.class, () -> TagDictionary.getTag(TagDictionary.size()));
+        assertThrows(IndexOutOfBoundsException.class, () -> TagDictionary.getTag(-1));
+    }
+
+    @Test
+    public void getTag_dictionaryLockedByOtherThread_doesNotBlock() throws Exception {
+        Tag tag = Tag.of("unblocked");
+        CountDownLatch locked = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        Thread lockHolder = new Thread(() -> {
+            synchronized (TagDictionary.class) {
+                locked.countDown();
+                try {
+                    release.await();
+                } catch (InterruptedException ie) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+        });
+        lockHolder.setDaemon(true);
+        lockHolder.start();
+        locked.await();
+
+        try {
+            AtomicReference<Tag> found = new AtomicReference<>();
+            Thread reader = new Thread(() -> found.set(TagDictionary.getTag(tag.getId())));
+            reader.start();
+            reader.join(5000);
+            assertSame(tag, found.get());
+        } finally {
+            release.countDown();
+        }
+    }
+
+    @Test
+    public void of_invalidName_throwsIllegalValueException() {
+        assertThrows(IllegalValueException.class, () -> Tag.of("not a tag"));
+        assertThrows(IllegalValueException.class, () -> new Tag("not_a_tag"));
+    }
+
+    @Test
+    public void equals_comparesById() throws Exception {
+        Tag constructed = new Tag("colleagues");
+        Tag shared = Tag.of("colleagues");
+
+        assertEquals(shared, constructed);
+        assertEquals(shared.getId(), constructed.getId());
+        assertEquals(shared.hashCode(), constructed.hashCode());
+        assertNotEquals(shared, Tag.of("Colleagues"));
+        assertNotEquals(shared.getId(), Tag.of("Colleagues").getId());
+    }
+}
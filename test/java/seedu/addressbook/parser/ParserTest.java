@@ -1,6 +1,7 @@
 package seedu.addressbook.parser;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.addressbook.common.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
 import static seedu.addressbook.common.Messages.MESSAGE_INVALID_PERSON_DISPLAYED_INDEX;
@@ -16,13 +17,19 @@ import seedu.addressbook.commands.AddCommand;
 import seedu.addressbook.commands.ClearCommand;
 import seedu.addressbook.commands.Command;
 import seedu.addressbook.commands.DeleteCommand;
+import seedu.addressbook.commands.EmailCommand;
 import seedu.addressbook.commands.ExitCommand;
+import seedu.addressbook.commands.ExplainCommand;
+import seedu.addressbook.commands.FilterCommand;
 import seedu.addressbook.commands.FindCommand;
 import seedu.addressbook.commands.HelpCommand;
 import seedu.addressbook.commands.IncorrectCommand;
 import seedu.addressbook.commands.ListCommand;
+import seedu.addressbook.commands.LookupCommand;
+import seedu.addressbook.commands.QueryCommand;
 import seedu.addressbook.commands.ViewAllCommand;
 import seedu.addressbook.commands.ViewCommand;
+import seedu.addressbook.data.AddressBook;
 import seedu.addressbook.data.exception.IllegalValueException;
 import seedu.addressbook.data.person.Address;
 import seedu.addressbook.data.person.Email;
@@ -31,6 +38,8 @@ import seedu.addressbook.data.person.Person;
 import seedu.addressbook.data.person.Phone;
 import seedu.addressbook.data.person.ReadOnlyPerson;
 import seedu.addressbook.data.tag.Tag;
+import seedu.addressbook.data.tag.TagDictionary;
+import seedu.addressbook.util.TypicalPersons;
 
 public class ParserTest {
 
@@ -167,7 +176,12 @@ public class ParserTest {
         // no keywords
         final String[] inputs = {
             "find",
-            "find "
+            "find ",
+            "find p/",
+            "find p/ ",
+            "find f/",
+            "find s/",
+            "find ph/"
         };
         final String resultMessage =
                 String.format(MESSAGE_INVALID_COMMAND_FORMAT, FindCommand.MESSAGE_USAGE);
@@ -197,6 +211,181 @@ public class ParserTest {
         assertEquals(keySet, result.getKeywords());
     }
 
+    @Test
+    public void parse_findCommandMatchModes_parsedCorrectly() {
+        final FindCommand result = parseAndAssertCommandType("find p/ ali Bo", FindCommand.class);
+        assertEquals(new HashSet<>(Arrays.asList("ali", "Bo")), result.getKeywords());
+        assertEquals(FindCommand.MatchMode.PREFIX, result.getMatchMode());
+
+        final FindCommand fuzzyResult = parseAndAssertCommandType("find f/ ali", FindCommand.class);
+        assertEquals(FindCommand.MatchMode.FUZZY, fuzzyResult.getMatchMode());
+
+        final FindCommand substringResult = parseAndAssertCommandType("find s/ li", FindCommand.class);
+        assertEquals(FindCommand.MatchMode.SUBSTRING, substringResult.getMatchMode());
+
+        final FindCommand phoneticResult = parseAndAssertCommandType("find ph/ smyth", FindCommand.class);
+        assertEquals(FindCommand.MatchMode.PHONETIC, phoneticResult.getMatchMode());
+
+        final FindCommand wordResult = parseAndAssertCommandType("find ali Bo", FindCommand.class);
+        assertEquals(FindCommand.MatchMode.WORD, wordResult.getMatchMode());
+    }
+
+    /*
+     * Tests for lookup persons by phone command ================================================================
+     */
+
+    @Test
+    public void parse_lookupCommandInvalidArgs_errorMessage() {
+        final String[] inputs = {
+            "lookup",
+            "lookup ",
+            "lookup *",
+            "lookup 12a4",
+            "lookup 12 34",
+            "lookup 12**"
+        };
+        final String resultMessage =
+                String.format(MESSAGE_INVALID_COMMAND_FORMAT, LookupCommand.MESSAGE_USAGE);
+        parseAndAssertIncorrectWithMessage(resultMessage, inputs);
+    }
+
+    @Test
+    public void parse_lookupCommandValidArgs_parsedCorrectly() {
+        final LookupCommand exact = parseAndAssertCommandType("lookup 98765432", LookupCommand.class);
+        assertEquals("98765432", exact.getDigits());
+        assertFalse(exact.isPrefix());
+
+        final LookupCommand prefix = parseAndAssertCommandType("lookup  9876* ", LookupCommand.class);
+        assertEquals("9876", prefix.getDigits());
+        assertTrue(prefix.isPrefix());
+    }
+
+    /*
+     * Tests for find persons by email command ==================================================================
+     */
+
+    @Test
+    public void parse_emailCommandInvalidArgs_errorMessage() {
+        final String[] inputs = {
+            "email",
+            "email ",
+            "email @",
+            "email nus.edu.sg",
+            "email a@b@c",
+            "email a @b"
+        };
+        final String resultMessage =
+                String.format(MESSAGE_INVALID_COMMAND_FORMAT, EmailCommand.MESSAGE_USAGE);
+        parseAndAssertIncorrectWithMessage(resultMessage, inputs);
+    }
+
+    @Test
+    public void parse_emailCommandValidArgs_parsedCorrectly() {
+        final EmailCommand domainOnly = parseAndAssertCommandType("email @nus.edu.sg", EmailCommand.class);
+        assertEquals("", domainOnly.getLocalPart());
+        assertEquals("nus.edu.sg", domainOnly.getDomain());
+
+        final EmailCommand localPartOnly = parseAndAssertCommandType("email alice.tan@", EmailCommand.class);
+        assertEquals("alice.tan", localPartOnly.getLocalPart());
+        assertEquals("", localPartOnly.getDomain());
+
+        final EmailCommand both = parseAndAssertCommandType("email alice@nus.edu.sg", EmailCommand.class);
+        assertEquals("alice", both.getLocalPart());
+        assertEquals("nus.edu.sg", both.getDomain());
+    }
+
+    /*
+     * Tests for query persons command ==========================================================================
+     */
+
+    @Test
+    public void parse_queryCommandInvalidArgs_errorMessage() {
+        final String[] inputs = {
+            "query",
+            "query ",
+            "query n/john AND",
+            "query john",
+            "query x/john",
+            "query a/",
+            "query n/john t/friends"
+        };
+        final String resultMessage =
+                String.format(MESSAGE_INVALID_COMMAND_FORMAT, QueryCommand.MESSAGE_USAGE);
+        parseAndAssertIncorrectWithMessage(resultMessage, inputs);
+    }
+
+    @Test
+    public void parse_queryCommandInvalidValues_errorMessage() {
+        parseAndAssertIncorrectWithMessage(Name.MESSAGE_NAME_CONSTRAINTS, "query n/j0hn");
+        parseAndAssertIncorrectWithMessage(Phone.MESSAGE_PHONE_CONSTRAINTS, "query p/9x");
+        parseAndAssertIncorrectWithMessage(PersonQueryParser.MESSAGE_EMAIL_DOMAIN_CONSTRAINTS, "query e/a-b");
+        parseAndAssertIncorrectWithMessage(Tag.MESSAGE_TAG_CONSTRAINTS, "query t/a_b");
+    }
+
+    @Test
+    public void parse_queryCommandValidArgs_compiledCorrectly() {
+        final QueryCommand result = parseAndAssertCommandType(
+                "query a/street AND n/john OR NOT e/nus.edu.sg AND p/9 AND t/friends", QueryCommand.class);
+        assertEquals("((t/friends AND p/9 AND NOT e/nus.edu.sg) OR (n/john AND a/street))",
+                result.getQuery().toString());
+    }
+
+    @Test
+    public void parse_explainCommand_parsedLikeQuery() {
+        final String resultMessage =
+                String.format(MESSAGE_INVALID_COMMAND_FORMAT, ExplainCommand.MESSAGE_USAGE);
+        parseAndAssertIncorrectWithMessage(resultMessage, "explain", "explain n/a OR");
+        parseAndAssertIncorrectWithMessage(Name.MESSAGE_NAME_CONSTRAINTS, "explain n/j0hn");
+
+        final ExplainCommand result = parseAndAssertCommandType("explain a/street AND t/friends", ExplainCommand.class);
+        assertEquals("(t/friends AND a/street)", result.getQuery().toString());
+    }
+
+    /*
+     * Tests for filter persons by tags command ==================================================================
+     */
+
+    @Test
+    public void parse_filterCommandInvalidArgs_errorMessage() {
+        final String[] inputs = {
+            "filter",
+            "filter ",
+            "filter friends AND",
+            "filter OR friends",
+            "filter friends NOT family",
+            "filter NOT"
+        };
+        final String resultMessage =
+                String.format(MESSAGE_INVALID_COMMAND_FORMAT, FilterCommand.MESSAGE_USAGE);
+        parseAndAssertIncorrectWithMessage(resultMessage, inputs);
+    }
+
+    @Test
+    public void parse_filterCommandInvalidTagName_errorMessage() {
+        parseAndAssertIncorrectWithMessage(Tag.MESSAGE_TAG_CONSTRAINTS, "filter friends AND family_members");
+    }
+
+    @Test
+    public void parse_filterCommandValidArgs_precedenceParsedCorrectly() {
+        final FilterCommand result =
+                parseAndAssertCommandType("filter a OR NOT b AND c OR NOT NOT d", FilterCommand.class);
+        assertEquals("((a OR (NOT b AND c)) OR NOT NOT d)", result.getExpression().toString());
+    }
+
+    @Test
+    public void parse_filterAndQueryUnknownTag_notInternedAndMatchesNobody() throws Exception {
+        final int tagCount = TagDictionary.size();
+        final FilterCommand filter = parseAndAssertCommandType("filter neverUsedFilterTag", FilterCommand.class);
+        final QueryCommand query = parseAndAssertCommandType("query t/neverUsedQueryTag", QueryCommand.class);
+
+        assertEquals(tagCount, TagDictionary.size());
+        assertFalse(Tag.find("neverUsedFilterTag").isPresent());
+        final AddressBook addressBook = new TypicalPersons().getTypicalAddressBook();
+        assertTrue(addressBook.findPersonsWithTags(filter.getExpression()).isEmpty());
+        assertTrue(addressBook.findPersons(query.getQuery()).isEmpty());
+        assertEquals("t/neverUsedQueryTag", query.getQuery().toString());
+    }
+
     /*
      * Tests for add person command ==============================================================================
      */
@@ -0,0 +1,116 @@
+package seedu.addressbook.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.addressbook.data.AddressBook;
+import seedu.addressbook.data.person.Address;
+import seedu.addressbook.data.person.Email;
+import seedu.addressbook.data.person.Name;
+import seedu.addressbook.data.person.Person;
+import seedu.addressbook.data.person.Phone;
+import seedu.addressbook.data.tag.Tag;
+import seedu.addressbook.storage.StorageFile.StorageOperationException;
+import seedu.addressbook.util.TypicalPersons;
+
+public class BinaryAddressBookCodecTest {
+
+    private final TypicalPersons td = new TypicalPersons();
+
+    @Test
+    public void decodeAddressBook_encodedAddressBook_samePersons() throws Exception {
+        AddressBook addressBook = td.getTypicalAddressBook();
+        addressBook.addPerson(new Person(new Name("Betsy Crowe"),
+                new Phone("1234567", true),
+                new Email("betsycrowe@gmail.com", false),
+                new Address("Newgate Prison, \u00E9tage 2", true),
+                new HashSet<>(Arrays.asList(new Tag("friend"), new Tag("criminal")))));
+
+        AddressBook decoded = decode(encode(addressBook));
+        assertEquals(addressBook.getAllPersons(), decoded.getAllPersons());
+        assertTrue(decoded.getAllPersons().immutableListView().get(4).getAddress().isPrivate());
+    }
+
+    @Test
+    public void decodeAddressBook_severalBlocks_samePersons() throws Exception {
+        AddressBook addressBook = new AddressBook();
+        for (int i = 0; i < BinaryAddressBookCodec.PERSONS_PER_BLOCK * 2 + 1; i++) {
+            addressBook.addPerson(new Person(new Name("Person " + toLetters(i)),
+                    new Phone(Integer.toString(10_000_000 + i), i % 2 == 0),
+                    new Email("person" + i + "@example.com", false),
+                    new Address("Street " + i, false),
+                    Collections.singleton(new Tag("tag" + i % 3))));
+        }
+
+        assertEquals(addressBook.getAllPersons(), decode(encode(addressBook)).getAllPersons());
+    }
+
+    @Test
+    public void decodeAddressBook_emptyAddressBook_emptyAddressBook() throws Exception {
+        assertEquals(new AddressBook(), decode(encode(new AddressBook())));
+    }
+
+    @Test
+    public void decodeAddressBook_corruptedByte_exceptionThrown() throws Exception {
+        byte[] encoded = encode(td.getTypicalAddressBook());
+        for (int i = BinaryAddressBookCodec.MAGIC.length; i < encoded.length; i++) {
+            byte[] corrupted = encoded.clone();
+            corrupted[i] ^= 0x10;
+            assertThrows(StorageOperationException.class, () -> decode(corrupted));
+        }
+    }
+
+    @Test
+    public void decodeAddressBook_truncated_exceptionThrown() throws Exception {
+        byte[] encoded = encode(td.getTypicalAddressBook());
+        for (int length = 0; length < encoded.length; length++) {
+            byte[] truncated = Arrays.copyOf(encoded, length);
+            assertThrows(StorageOperationException.class, () -> decode(truncated));
+        }
+    }
+
+    @Test
+    public void decodeAddressBook_laterVersion_exceptionThrown() throws Exception {
+        byte[] encoded = encode(td.getTypicalAddressBook());
+        encoded[BinaryAddressBookCodec.MAGIC.length + 1] = (byte) (BinaryAddressBookCodec.FORMAT_VERSION + 1);
+        StorageOperationException soe = assertThrows(StorageOperationException.class, () -> decode(encoded));
+        assertTrue(soe.getMessage().contains("newer"));
+    }
+
+    @Test
+    public void hasMagic() throws Exception {
+        assertTrue(BinaryAddressBookCodec.hasMagic(new ByteArrayInputStream(encode(new AddressBook()))));
+        assertFalse(BinaryAddressBookCodec.hasMagic(new ByteArrayInputStream(
+                "John Doe p/98765432".getBytes(StandardCharsets.UTF_8))));
+        assertFalse(BinaryAddressBookCodec.hasMagic(new ByteArrayInputStream(new byte[0])));
+    }
+
+    private static String toLetters(int number) {
+        StringBuilder letters = new StringBuilder();
+        for (int remaining = number; remaining > 0 || letters.length() == 0; remaining /= 26) {
+            letters.append((char) ('a' + remaining % 26));
+        }
+        return letters.toString();
+    }
+
+    private static byte[] encode(AddressBook addressBook) throws Exception {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        BinaryAddressBookCodec.encodeAddressBook(addressBook, out);
+        return out.toByteArray();
+    }
+
+    private static AddressBook decode(byte[] encoded) throws Exception {
+        return BinaryAddressBookCodec.decodeAddressBook(new ByteArrayInputStream(encoded));
+    }
+}
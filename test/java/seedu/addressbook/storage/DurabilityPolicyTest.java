@@ -0,0 +1,30 @@
+package seedu.addressbook.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.addressbook.data.exception.IllegalValueException;
+
+public class DurabilityPolicyTest {
+
+    @Test
+    public void parse_validNames_policiesReturned() throws Exception {
+        assertEquals(DurabilityPolicy.EVERY_OPERATION, DurabilityPolicy.parse("every-op"));
+        assertEquals(DurabilityPolicy.OS_MANAGED, DurabilityPolicy.parse("os"));
+
+        DurabilityPolicy periodic = DurabilityPolicy.parse("250");
+        assertTrue(periodic.isPeriodic());
+        assertEquals(250, periodic.getIntervalMillis());
+        assertEquals(DurabilityPolicy.periodic(250), periodic);
+    }
+
+    @Test
+    public void parse_invalidNames_exceptionThrown() {
+        for (String name : new String[] {"", "always", "0", "-5", "1s"}) {
+            assertThrows(IllegalValueException.class, () -> DurabilityPolicy.parse(name));
+        }
+    }
+}
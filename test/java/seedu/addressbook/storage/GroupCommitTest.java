@@ -0,0 +1,96 @@
+package seedu.addressbook.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+
+public class GroupCommitTest {
+
+    @Test
+    public void awaitForced_alreadyForced_noForce() throws Exception {
+        AtomicInteger forceCount = new AtomicInteger();
+        GroupCommit groupCommit = new GroupCommit(forceCount::incrementAndGet);
+        long first = groupCommit.written();
+        long second = groupCommit.written();
+
+        groupCommit.awaitForced(second);
+        groupCommit.awaitForced(first);
+        assertEquals(1, forceCount.get());
+
+        groupCommit.written();
+        groupCommit.forcedAll();
+        groupCommit.awaitForced(groupCommit.getWrittenCount());
+        assertEquals(1, forceCount.get());
+    }
+
+    @Test
+    public void awaitForced_writesDuringForce_sharedNextForce() throws Exception {
+        CountDownLatch firstForceStarted = new CountDownLatch(1);
+        CountDownLatch laterWritesDone = new CountDownLatch(1);
+        AtomicInteger forceCount = new AtomicInteger();
+        GroupCommit groupCommit = new GroupCommit(() -> {
+            if (forceCount.incrementAndGet() == 1) {
+                firstForceStarted.countDown();
+                awaitQuietly(laterWritesDone);
+            }
+        });
+        ExecutorService writers = Executors.newFixedThreadPool(5);
+        try {
+            List<Future<?>> results = new ArrayList<>();
+            long firstWrite = groupCommit.written();
+            results.add(writers.submit(() -> {
+                groupCommit.awaitForced(firstWrite);
+                return null;
+            }));
+            firstForceStarted.await();
+            // written while the first force runs, so all of them share the second force
+            for (int i = 0; i < 4; i++) {
+                long write = groupCommit.written();
+                results.add(writers.submit(() -> {
+                    groupCommit.awaitForced(write);
+                    return null;
+                }));
+            }
+            laterWritesDone.countDown();
+            for (Future<?> result : results) {
+                result.get();
+            }
+            assertEquals(2, forceCount.get());
+        } finally {
+            writers.shutdown();
+        }
+    }
+
+    @Test
+    public void awaitForced_forceFailed_exceptionThrownAndRetried() throws Exception {
+        AtomicInteger forceCount = new AtomicInteger();
+        GroupCommit groupCommit = new GroupCommit(() -> {
+            if (forceCount.incrementAndGet() == 1) {
+                throw new IOException("Failed to force");
+            }
+        });
+        long write = groupCommit.written();
+
+        assertThrows(IOException.class, () -> groupCommit.awaitForced(write));
+        groupCommit.awaitForced(write);
+        assertEquals(2, forceCount.get());
+    }
+
+    private static void awaitQuietly(CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException ie) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,155 @@
+package seedu.addressbook.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Collections;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.addressbook.data.AddressBook;
+import seedu.addressbook.data.person.Email;
+import seedu.addressbook.data.person.Person;
+import seedu.addressbook.data.person.ReadOnlyPerson;
+import seedu.addressbook.data.person.UniquePersonList;
+import seedu.addressbook.storage.StorageFile.StorageOperationException;
+import seedu.addressbook.util.TypicalPersons;
+
+public class JournaledStorageFileTest {
+    @TempDir
+    public Path testFolder;
+
+    private final TypicalPersons td = new TypicalPersons();
+
+    @Test
+    public void constructor_nonPositiveMinRecords_exceptionThrown() {
+        assertThrows(IllegalArgumentException.class, () -> new JournaledStorageFile(getTempFilePath(), 0));
+    }
+
+    @Test
+    public void save_changesAfterLoad_appendedToJournalOnly() throws Exception {
+        JournaledStorageFile storage = new JournaledStorageFile(getTempFilePath());
+        AddressBook addressBook = storage.load();
+        addressBook.addPerson(td.getAmy());
+        addressBook.addPerson(td.getBill());
+        storage.save(addressBook);
+        addressBook.removePerson(td.getAmy());
+        storage.save(addressBook);
+        // nothing changed
+        storage.save(addressBook);
+
+        assertFalse(Files.exists(storage.path));
+        assertEquals(3, Files.readAllLines(storage.journalPath).size());
+        assertPersons(new JournaledStorageFile(getTempFilePath()).load(), td.getBill());
+    }
+
+    @Test
+    public void save_journalReachesMinRecords_checkpointWritten() throws Exception {
+        JournaledStorageFile storage = new JournaledStorageFile(getTempFilePath(), 2);
+        AddressBook addressBook = storage.load();
+        addressBook.addPerson(td.getAmy());
+        storage.save(addressBook);
+        addressBook.addPerson(td.getBill());
+        storage.save(addressBook);
+
+        assertFalse(Files.exists(storage.journalPath));
+        assertPersons(new StorageFile(getTempFilePath()).load(), td.getAmy(), td.getBill());
+
+        addressBook.clear();
+        addressBook.addPerson(td.getCandy());
+        storage.save(addressBook);
+        assertPersons(new JournaledStorageFile(getTempFilePath()).load(), td.getCandy());
+    }
+
+    @Test
+    public void save_addressBookNotLoaded_checkpointWritten() throws Exception {
+        JournaledStorageFile storage = new JournaledStorageFile(getTempFilePath());
+        storage.save(td.getTypicalAddressBook());
+
+        assertFalse(Files.exists(storage.journalPath));
+        assertPersons(new StorageFile(getTempFilePath()).load(), td.getTypicalPersons());
+    }
+
+    @Test
+    public void save_relaxedDurability_changesReplayed() throws Exception {
+        for (DurabilityPolicy durability : new DurabilityPolicy[] {
+            DurabilityPolicy.periodic(10), DurabilityPolicy.OS_MANAGED}) {
+            JournaledStorageFile storage = new JournaledStorageFile(getTempFilePath(), durability, 1000);
+            AddressBook addressBook = storage.load();
+            addressBook.clear();
+            addressBook.addPerson(td.getDan());
+            storage.save(addressBook);
+
+            assertPersons(new JournaledStorageFile(getTempFilePath()).load(), td.getDan());
+        }
+    }
+
+    @Test
+    public void load_incompleteLastRecord_discarded() throws Exception {
+        JournaledStorageFile storage = new JournaledStorageFile(getTempFilePath());
+        String completeRecord = "+ " + AddressBookEncoder.encodePersonToString(td.getAmy()) + "\n";
+        String incompleteRecord = "+ " + AddressBookEncoder.encodePersonToString(td.getBill()).substring(0, 8);
+        Files.write(storage.journalPath, (completeRecord + incompleteRecord).getBytes(StandardCharsets.UTF_8));
+
+        AddressBook addressBook = storage.load();
+        assertPersons(addressBook, td.getAmy());
+
+        // the next record is not appended to the incomplete one
+        addressBook.addPerson(td.getCandy());
+        storage.save(addressBook);
+        assertPersons(new JournaledStorageFile(getTempFilePath()).load(), td.getAmy(), td.getCandy());
+    }
+
+    @Test
+    public void load_journalAlreadyInBaseFile_replayedWithoutError() throws Exception {
+        // as left by a crash after writing a checkpoint but before deleting the journal
+        new StorageFile(getTempFilePath()).save(td.getTypicalAddressBook());
+        JournaledStorageFile storage = new JournaledStorageFile(getTempFilePath());
+        Files.write(storage.journalPath, Arrays.asList(
+                "+ " + AddressBookEncoder.encodePersonToString(td.getAmy()),
+                "- " + AddressBookEncoder.encodePersonToString(td.getBill()),
+                "- " + AddressBookEncoder.encodePersonToString(td.getBill())));
+
+        assertPersons(storage.load(), td.getAmy(), td.getCandy(), td.getDan());
+    }
+
+    @Test
+    public void load_journalOfEditAlreadyInBaseFile_replayedWithoutError() throws Exception {
+        Person oldAmy = td.getAmy();
+        Person newAmy = new Person(oldAmy.getName(), oldAmy.getPhone(), new Email("amy@example.org", false),
+                oldAmy.getAddress(), oldAmy.getTags());
+        new StorageFile(getTempFilePath()).save(new AddressBook(new UniquePersonList(newAmy, td.getBill())));
+        JournaledStorageFile storage = new JournaledStorageFile(getTempFilePath());
+        Files.write(storage.journalPath, Arrays.asList(
+                "- " + AddressBookEncoder.encodePersonToString(oldAmy),
+                "+ " + AddressBookEncoder.encodePersonToString(newAmy)));
+
+        AddressBook addressBook = storage.load();
+        assertPersons(addressBook, newAmy, td.getBill());
+        assertEquals(newAmy.getEmail(), addressBook.getAllPersons().immutableListView().get(0).getEmail());
+    }
+
+    @Test
+    public void load_invalidRecord_exceptionThrown() throws Exception {
+        JournaledStorageFile storage = new JournaledStorageFile(getTempFilePath());
+        Files.write(storage.journalPath, Collections.singletonList("? not a record"));
+
+        assertThrows(StorageOperationException.class, () -> storage.load());
+        assertTrue(Files.exists(storage.journalPath));
+    }
+
+    private String getTempFilePath() {
+        return testFolder.resolve("journaled.txt").toString();
+    }
+
+    private static void assertPersons(AddressBook addressBook, Person... expected) {
+        assertEquals(Arrays.<ReadOnlyPerson>asList(expected), addressBook.getAllPersons().immutableListView());
+    }
+}
@@ -2,9 +2,12 @@ package seedu.addressbook.storage;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.addressbook.util.TestUtil.assertFileDoesNotExist;
 import static seedu.addressbook.util.TestUtil.assertTextFilesEqual;
 
+import java.io.InputStream;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.util.Arrays;
@@ -49,6 +52,13 @@ public class StorageFileTest {
         assertThrows(StorageOperationException.class, () -> storage.load());
     }
 
+    @Test
+    public void load_duplicatePersons_exceptionThrown() throws Exception {
+        // The file contains two entries for the same person
+        StorageFile storage = getStorage("DuplicateData.txt");
+        assertThrows(StorageOperationException.class, () -> storage.load());
+    }
+
     @Test
     public void load_validFormat() throws Exception {
         AddressBook actualAb = getStorage("ValidData.txt").load();
@@ -85,6 +95,50 @@ public class StorageFileTest {
         assertStorageFilesEqual(storage, getStorage("ValidData.txt"));
     }
 
+    @Test
+    public void save_existingFile_replacedWithoutTemporaryFile() throws Exception {
+        for (DurabilityPolicy durability : new DurabilityPolicy[] {
+            DurabilityPolicy.EVERY_OPERATION, DurabilityPolicy.periodic(1000), DurabilityPolicy.OS_MANAGED}) {
+            StorageFile storage = new StorageFile(testFolder.resolve("replaced.txt").toString(), durability);
+            storage.save(new AddressBook());
+            storage.save(getTestAddressBook());
+
+            assertStorageFilesEqual(storage, getStorage("ValidData.txt"));
+            assertFileDoesNotExist(storage.getPath() + StorageFile.TEMPORARY_FILE_EXTENSION);
+        }
+    }
+
+    @Test
+    public void save_binaryExtension_savedInBinaryFormat() throws Exception {
+        StorageFile storage = new StorageFile(testFolder.resolve("saved.bin").toString());
+        storage.save(getTestAddressBook());
+
+        try (InputStream in = Files.newInputStream(Paths.get(storage.getPath()))) {
+            assertTrue(BinaryAddressBookCodec.hasMagic(in));
+        }
+        assertEquals(getTestAddressBook().getAllPersons(), storage.load().getAllPersons());
+    }
+
+    @Test
+    public void load_binaryFileNotSavedYet_textFileLoaded() throws Exception {
+        Files.copy(Paths.get(TEST_DATA_FOLDER, "ValidData.txt"), testFolder.resolve("migrated.txt"));
+        StorageFile storage = new StorageFile(testFolder.resolve("migrated.bin").toString());
+
+        assertEquals(getTestAddressBook().getAllPersons(), storage.load().getAllPersons());
+        storage.save(storage.load());
+        Files.delete(testFolder.resolve("migrated.txt"));
+        assertEquals(getTestAddressBook().getAllPersons(), storage.load().getAllPersons());
+    }
+
+    @Test
+    public void load_binaryDataInTextFile_decodedByHeader() throws Exception {
+        new StorageFile(testFolder.resolve("binary.bin").toString()).save(getTestAddressBook());
+        Files.copy(testFolder.resolve("binary.bin"), testFolder.resolve("binary.txt"));
+
+        StorageFile storage = new StorageFile(testFolder.resolve("binary.txt").toString());
+        assertEquals(getTestAddressBook().getAllPersons(), storage.load().getAllPersons());
+    }
+
     // getPath() method in StorageFile class is trivial so it is not tested
 
     /**
@@ -0,0 +1,136 @@
+package seedu.addressbook.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.nio.file.Path;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.addressbook.data.AddressBook;
+import seedu.addressbook.data.ConcurrentAddressBook;
+import seedu.addressbook.storage.StorageFile.StorageOperationException;
+import seedu.addressbook.util.TypicalPersons;
+
+public class WriteBehindSaverTest {
+    @TempDir
+    public Path testFolder;
+
+    private static final long LONG_DELAY_MILLIS = 60_000;
+    private static final long TIMEOUT_MILLIS = 10_000;
+
+    private final TypicalPersons td = new TypicalPersons();
+    private final AddressBook addressBook = new ConcurrentAddressBook();
+
+    @Test
+    public void constructor_invalidLimits_exceptionThrown() throws Exception {
+        CountingStorageFile storage = new CountingStorageFile();
+        assertThrows(IllegalArgumentException.class, () -> new WriteBehindSaver(storage, addressBook, -1, 1));
+        assertThrows(IllegalArgumentException.class, () -> new WriteBehindSaver(storage, addressBook, 0, 0));
+    }
+
+    @Test
+    public void flush_burstOfChanges_savedOnce() throws Exception {
+        CountingStorageFile storage = new CountingStorageFile();
+        try (WriteBehindSaver saver = new WriteBehindSaver(storage, addressBook, LONG_DELAY_MILLIS, 1000)) {
+            for (int i = 0; i < 50; i++) {
+                saver.changed();
+            }
+            saver.flush();
+            assertEquals(1, storage.saveCount.get());
+
+            // nothing changed since
+            saver.flush();
+            assertEquals(1, storage.saveCount.get());
+        }
+    }
+
+    @Test
+    public void changed_maxPendingChangesReached_savedWithoutDelay() throws Exception {
+        CountingStorageFile storage = new CountingStorageFile();
+        try (WriteBehindSaver saver = new WriteBehindSaver(storage, addressBook, LONG_DELAY_MILLIS, 3)) {
+            addressBook.addPerson(td.getAmy());
+            saver.changed();
+            saver.changed();
+            saver.changed();
+            awaitSaveCount(storage, 1);
+            assertEquals(addressBook.getAllPersons(), new StorageFile(storage.getPath()).load().getAllPersons());
+        }
+    }
+
+    @Test
+    public void changed_maxDelayElapsed_saved() throws Exception {
+        CountingStorageFile storage = new CountingStorageFile();
+        try (WriteBehindSaver saver = new WriteBehindSaver(storage, addressBook, 10, 1000)) {
+            saver.changed();
+            awaitSaveCount(storage, 1);
+        }
+    }
+
+    @Test
+    public void close_pendingChanges_savedAndSaverClosed() throws Exception {
+        CountingStorageFile storage = new CountingStorageFile();
+        WriteBehindSaver saver = new WriteBehindSaver(storage, addressBook, LONG_DELAY_MILLIS, 1000);
+        addressBook.addPerson(td.getBill());
+        saver.changed();
+        saver.close();
+
+        assertEquals(1, storage.saveCount.get());
+        assertEquals(addressBook.getAllPersons(), new StorageFile(storage.getPath()).load().getAllPersons());
+        assertThrows(IllegalStateException.class, () -> saver.changed());
+        // later calls have no effect
+        saver.close();
+    }
+
+    @Test
+    public void flush_saveFailed_failureReportedOnce() throws Exception {
+        CountingStorageFile storage = new CountingStorageFile();
+        storage.isFailing = true;
+        try (WriteBehindSaver saver = new WriteBehindSaver(storage, addressBook, LONG_DELAY_MILLIS, 1000)) {
+            saver.changed();
+            assertThrows(StorageOperationException.class, () -> saver.flush());
+            saver.flush();
+
+            storage.isFailing = false;
+            saver.changed();
+            saver.flush();
+            assertEquals(2, storage.saveCount.get());
+        }
+    }
+
+    private static void awaitSaveCount(CountingStorageFile storage, int expected) throws InterruptedException {
+        final long deadline = System.currentTimeMillis() + TIMEOUT_MILLIS;
+        while (storage.saveCount.get() < expected && System.currentTimeMillis() < deadline) {
+            Thread.sleep(5);
+        }
+        assertTrue(storage.saveCount.get() >= expected);
+    }
+
+    /**
+     * A storage file that counts its saves, and can be made to fail them.
+     */
+    private class CountingStorageFile extends StorageFile {
+        private final AtomicInteger saveCount = new AtomicInteger();
+        private volatile boolean isFailing;
+
+        CountingStorageFile() throws Exception {
+            super(testFolder.resolve("writeBehind.txt").toString());
+        }
+
+        @Override
+        public void save(AddressBook addressBook) throws StorageOperationException {
+            try {
+                if (isFailing) {
+                    throw new StorageOperationException("Failed to save");
+                }
+                super.save(addressBook);
+            } finally {
+                // counted once the save is over, so that the file is complete when a test sees the count
+                saveCount.incrementAndGet();
+            }
+        }
+    }
+}